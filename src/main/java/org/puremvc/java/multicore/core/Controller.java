@@ -7,16 +7,32 @@
 
 package org.puremvc.java.multicore.core;
 
+import org.puremvc.java.multicore.interfaces.IAsyncCommand;
 import org.puremvc.java.multicore.interfaces.ICommand;
 import org.puremvc.java.multicore.interfaces.IController;
 import org.puremvc.java.multicore.interfaces.INotification;
 import org.puremvc.java.multicore.interfaces.IView;
 import org.puremvc.java.multicore.patterns.observer.Observer;
 
+import java.util.ArrayDeque;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -61,14 +77,228 @@ public class Controller implements IController {
     // Mapping of Notification names to Command Supplier references
     protected ConcurrentMap<String, Supplier<ICommand>> commandMap;
 
+    // Mapping of Notification names to the Command Supplier references added after the first, in order
+    protected Map<String, Supplier<ICommand>[]> addedCommandMap;
+
+    // The Notification names whose Commands fan out on the command executor
+    protected Set<String> parallelSet = ConcurrentHashMap.newKeySet();
+
+    // The thread a confined Controller belongs to, null if not confined
+    protected Thread owner;
+
+    // The executor running IAsyncCommands, null to run them on the notifying thread
+    protected volatile Executor commandExecutor;
+
+    // Mapping of Notification names to the lanes of their IAsyncCommands
+    protected Map<String, Lane> laneMap = new ConcurrentHashMap<>();
+
+    // The number of IAsyncCommands started and not yet completed
+    protected final AtomicInteger inFlight = new AtomicInteger();
+
+    // The handler of the failures of IAsyncCommands, null to only count them
+    protected volatile BiConsumer<INotification, Throwable> commandErrorHandler;
+
+    // Mapping of Notification names to the deduplication of their commands
+    protected Map<String, Deduplication> deduplicationMap = new ConcurrentHashMap<>();
+
     // The Multiton Key for this Core
     protected String multitonKey;
 
     // The Multiton Controller instanceMap.
     protected static Map<String, IController> instanceMap = new HashMap<>();
 
+    // The most command keys remembered per Notification name for deduplication
+    protected static final int DEDUPLICATION_CAPACITY = 4096;
+
     // Message Constants
     protected final String MULTITON_MSG = "Controller instance for this Multiton key already constructed!";
+    protected final String OWNER_MSG = "Controller instance for this Multiton key is confined to another thread!";
+
+    /**
+     * <P>The asynchronous commands of one <code>INotification</code> name.</P>
+     *
+     * <P>Runs at most <code>limit</code> commands at a time, the others
+     * waiting in order, and measures their completion latency, from
+     * notification to completion of their stage.</P>
+     */
+    protected static class Lane {
+
+        // the most commands running at a time
+        protected int limit = Integer.MAX_VALUE;
+
+        // the commands running, and those waiting for one to complete
+        protected int running;
+        protected final ArrayDeque<AsyncRun> waiting = new ArrayDeque<>();
+
+        // the commands completed, failed, and their latencies in nanoseconds
+        protected final LongAdder completed = new LongAdder();
+        protected final LongAdder failed = new LongAdder();
+        protected final LongAdder latency = new LongAdder();
+        protected final LongAccumulator maxLatency = new LongAccumulator(Math::max, 0);
+
+        // run the command now if under the limit, or when a running one completes
+        protected synchronized boolean acquire(AsyncRun command) {
+            if(running < limit) {
+                running++;
+                return true;
+            }
+            waiting.add(command);
+            return false;
+        }
+
+        // the next waiting command to run, if any, in place of a completed one
+        protected synchronized AsyncRun release() {
+            if(running <= limit && !waiting.isEmpty()) return waiting.poll();
+            running--;
+            return null;
+        }
+
+        // the number of commands running or waiting
+        protected synchronized int size() {
+            return running + waiting.size();
+        }
+
+    }
+
+    /**
+     * <P>The run of an <code>IAsyncCommand</code> in its lane.</P>
+     *
+     * <P>Tracks the stage of the command, starting the next waiting command
+     * of the lane when it completes. A run the command executor rejects
+     * completes as failed, without running the command.</P>
+     */
+    protected class AsyncRun implements Runnable {
+
+        protected final Lane lane;
+        protected final IAsyncCommand command;
+        protected final INotification notification;
+
+        // the time of the notification, in nanoseconds, and the action on completion, if any
+        protected final long start;
+        protected final BiConsumer<Object, Throwable> completion;
+
+        protected AsyncRun(Lane lane, IAsyncCommand command, INotification notification, long start, BiConsumer<Object, Throwable> completion) {
+            this.lane = lane;
+            this.command = command;
+            this.notification = notification;
+            this.start = start;
+            this.completion = completion;
+        }
+
+        // run the command and track its stage
+        public void run() {
+            CompletionStage<?> stage;
+            try {
+                stage = command.executeAsync(notification);
+            } catch (Throwable throwable) {
+                CompletableFuture<Object> failed = new CompletableFuture<>();
+                failed.completeExceptionally(throwable);
+                stage = failed;
+            }
+            if(stage == null) stage = CompletableFuture.completedFuture(null);
+            stage.whenComplete(this::complete);
+        }
+
+        // complete the command, starting the next waiting one
+        protected void complete(Object result, Throwable error) {
+            try {
+                long latency = System.nanoTime() - start;
+                lane.latency.add(latency);
+                lane.maxLatency.accumulate(latency);
+                lane.completed.increment();
+                inFlight.decrementAndGet();
+                if(error != null) lane.failed.increment();
+                if(completion != null) completion.accept(result, error);
+            } finally {
+                // the lane moves on whatever happens to the completed command
+                AsyncRun next = lane.release();
+                if(next != null) submit(next);
+            }
+            BiConsumer<INotification, Throwable> handler = commandErrorHandler;
+            if(error != null && handler != null) {
+                handler.accept(notification, error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            }
+        }
+
+    }
+
+    /**
+     * <P>The deduplication of the commands of one <code>INotification</code> name.</P>
+     *
+     * <P>Remembers the keys of the commands executing, and of those completed
+     * within the window, oldest first. A command whose key is remembered is a
+     * duplicate. Expired keys are evicted from the oldest as keys are entered,
+     * and the oldest keys beyond the capacity are evicted whatever their age,
+     * so a retry storm over many keys never grows the map past its capacity.
+     * A failed command forgets its key, so it may be retried. A command only
+     * exits the entry it entered, so once its key is evicted and entered
+     * again, its completion leaves the newer entry alone.</P>
+     */
+    protected static class Deduplication {
+
+        // the key of the command of a notification, null to never deduplicate it
+        protected final Function<INotification, ?> keyExtractor;
+
+        // the time a completed key is remembered, in nanoseconds, and the most keys remembered
+        protected final long window;
+        protected final int capacity;
+
+        // the keys remembered, oldest first, with their entries
+        protected final LinkedHashMap<Object, Entry> keys = new LinkedHashMap<>();
+
+        // the duplicate commands dropped
+        protected final LongAdder duplicates = new LongAdder();
+
+        protected static final long EXECUTING = Long.MIN_VALUE;
+
+        // the entry of a key, with its completion time, or EXECUTING
+        protected static class Entry {
+            protected long completed = EXECUTING;
+        }
+
+        protected Deduplication(Function<INotification, ?> keyExtractor, long window, int capacity) {
+            this.keyExtractor = keyExtractor;
+            this.window = window;
+            this.capacity = capacity;
+        }
+
+        // enter a key, null if it is a duplicate
+        protected synchronized Entry enter(Object key) {
+            long now = System.nanoTime();
+            Iterator<Entry> oldest = keys.values().iterator();
+            while(oldest.hasNext()) {
+                long completed = oldest.next().completed;
+                if(completed == EXECUTING || now - completed < window) break;
+                oldest.remove();
+            }
+
+            Entry entry = keys.get(key);
+            if(entry != null && (entry.completed == EXECUTING || now - entry.completed < window)) {
+                duplicates.increment();
+                return null;
+            }
+            keys.remove(key);
+            entry = new Entry();
+            keys.put(key, entry);
+            oldest = keys.values().iterator();
+            while(keys.size() > capacity) {
+                oldest.next();
+                oldest.remove();
+            }
+            return entry;
+        }
+
+        // exit the entry of a key, remembering it as the newest if its command succeeded
+        protected synchronized void exit(Object key, Entry entry, boolean succeeded) {
+            if(keys.get(key) != entry) return;
+            keys.remove(key);
+            if(succeeded) {
+                entry.completed = System.nanoTime();
+                keys.put(key, entry);
+            }
+        }
+
+    }
 
     /**
      * <P>Constructor.</P>
@@ -84,10 +314,30 @@ public class Controller implements IController {
      *
      */
     public Controller(String key) {
+        this(key, false);
+    }
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * <P>A confined <code>Controller</code> belongs to the thread that constructs
+     * it and keeps the commands added after the first in a plain, unsynchronized
+     * map, for cores that are only ever used from one thread, such as an event
+     * loop. Its <code>commandMap</code> stays a <code>ConcurrentMap</code>. When assertions are
+     * enabled, an access from another thread fails fast with an
+     * <code>AssertionError</code>.</P>
+     *
+     * @param key multitonKey
+     * @param confined whether to confine the <code>Controller</code> to the constructing thread
+     * @throws Error Error if instance for this Multiton key has already been constructed
+     */
+    public Controller(String key, boolean confined) {
         if(instanceMap.get(key) != null) throw new Error(MULTITON_MSG);
         multitonKey = key;
         instanceMap.put(key, this);
+        owner = confined ? Thread.currentThread() : null;
         commandMap = new ConcurrentHashMap<>();
+        addedCommandMap = confined ? new HashMap<>() : new ConcurrentHashMap<>();
         initializeController();
     }
 
@@ -111,7 +361,7 @@ public class Controller implements IController {
      * </pre>
      */
     public void initializeController() {
-        view = View.getInstance(multitonKey, key -> new View(key));
+        view = View.getInstance(multitonKey, key -> new View(key, owner != null));
     }
 
     /**
@@ -132,22 +382,263 @@ public class Controller implements IController {
      * <P>If an <code>ICommand</code> has previously been registered
      * to handle a the given <code>INotification</code>, then it is executed.</P>
      *
+     * <P>The <code>ICommand</code>s added for the notification are executed
+     * in order, or fanned out on the command executor for a parallel
+     * notification name.</P>
+     *
      * @param notification an <code>INotification</code>
      */
     public void executeCommand(INotification notification) {
-        Supplier<ICommand> commandSupplier = commandMap.get(notification.getName());
+        assert isOwner() : OWNER_MSG;
+        String notificationName = notification.getName();
+        Supplier<ICommand> commandSupplier = commandMap.get(notificationName);
         if(commandSupplier == null) return;
-        ICommand commandInstance = commandSupplier.get();
-        commandInstance.initializeNotifier(multitonKey);
-        commandInstance.execute(notification);
+        Supplier<ICommand>[] added = addedCommandMap.get(notificationName);
+        int count = added != null ? added.length + 1 : 1;
+
+        Deduplication deduplication = deduplicationMap.get(notificationName);
+        Object key = deduplication != null ? deduplication.keyExtractor.apply(notification) : null;
+        Deduplication.Entry entry = key != null ? deduplication.enter(key) : null;
+        if(key != null && entry == null) return;
+        BiConsumer<Object, Throwable> completion = key == null ? null : countdown(count, (result, error) -> deduplication.exit(key, entry, error == null));
+
+        Executor executor = count > 1 && parallelSet.contains(notificationName) ? commandExecutor : null;
+        INotification note = executor != null ? notification.retain() : notification;
+        Throwable failure = null;
+        for(int i = 0; i < count; i++) {
+            try {
+                execute(notificationName, i == 0 ? commandSupplier : added[i - 1], note, completion, executor);
+            } catch (RuntimeException | Error error) {
+                // the commands fanned out are independent, the first failure is thrown once all are started
+                if(executor != null) {
+                    if(failure == null) failure = error; else failure.addSuppressed(error);
+                    continue;
+                }
+                // the commands skipped complete as failed
+                if(completion != null) for(int j = i + 1; j < count; j++) completion.accept(null, error);
+                throw error;
+            }
+        }
+        if(failure instanceof Error) throw (Error) failure;
+        if(failure != null) throw (RuntimeException) failure;
+    }
+
+    // execute a command of a notification, on the executor if it fans out
+    private void execute(String notificationName, Supplier<ICommand> commandSupplier, INotification notification, BiConsumer<Object, Throwable> completion, Executor executor) {
+        ICommand commandInstance;
+        try {
+            commandInstance = commandSupplier.get();
+            commandInstance.initializeNotifier(multitonKey);
+        } catch (RuntimeException | Error error) {
+            if(completion != null) completion.accept(null, error);
+            throw error;
+        }
+        if(commandInstance instanceof IAsyncCommand) {
+            if(completion == null) {
+                executeAsync(notificationName, (IAsyncCommand) commandInstance, notification.retain());
+            } else {
+                executeAsync(notificationName, (IAsyncCommand) commandInstance, notification.retain(), completion);
+            }
+        } else if(executor != null) {
+            try {
+                executor.execute(() -> execute(commandInstance, notification, completion));
+            } catch (RejectedExecutionException exception) {
+                // a rejected command completes as failed
+                if(completion != null) completion.accept(null, exception);
+                throw exception;
+            }
+        } else {
+            execute(commandInstance, notification, completion);
+        }
+    }
+
+    // execute a synchronous command, reporting its completion, if any
+    private void execute(ICommand commandInstance, INotification notification, BiConsumer<Object, Throwable> completion) {
+        if(completion == null) {
+            commandInstance.execute(notification);
+            return;
+        }
+        try {
+            commandInstance.execute(notification);
+        } catch (RuntimeException | Error error) {
+            completion.accept(null, error);
+            throw error;
+        }
+        completion.accept(null, null);
+    }
+
+    // a completion reported once count completions are, failed if any of them failed
+    private static BiConsumer<Object, Throwable> countdown(int count, BiConsumer<Object, Throwable> completion) {
+        if(count == 1) return completion;
+        AtomicInteger remaining = new AtomicInteger(count);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        return (result, error) -> {
+            if(error != null) failure.compareAndSet(null, error);
+            if(remaining.decrementAndGet() == 0) completion.accept(null, failure.get());
+        };
+    }
+
+    /**
+     * <P>Run an <code>IAsyncCommand</code> on the command executor, within the concurrency limit of its notification name.</P>
+     *
+     * @param notificationName the name of the notification
+     * @param command the command
+     * @param notification the notification, retained
+     */
+    protected void executeAsync(String notificationName, IAsyncCommand command, INotification notification) {
+        executeAsync(notificationName, command, notification, null);
+    }
+
+    // run an asynchronous command, with an action on its completion, if any
+    private void executeAsync(String notificationName, IAsyncCommand command, INotification notification, BiConsumer<Object, Throwable> completion) {
+        Lane lane = laneMap.computeIfAbsent(notificationName, name -> new Lane());
+        AsyncRun run = new AsyncRun(lane, command, notification, System.nanoTime(), completion);
+        inFlight.incrementAndGet();
+        if(lane.acquire(run)) submit(run);
+    }
+
+    // run a command on the command executor, or on the current thread, failing it if rejected
+    private void submit(AsyncRun run) {
+        Executor executor = commandExecutor;
+        if(executor == null) {
+            run.run();
+            return;
+        }
+        try {
+            executor.execute(run);
+        } catch (RejectedExecutionException exception) {
+            run.complete(null, exception);
+        }
+    }
+
+    /**
+     * <P>Set the executor running the <code>IAsyncCommand</code>s.</P>
+     *
+     * <P>Without an executor, an asynchronous command starts on the
+     * notifying thread, and only the stage it returns runs asynchronously.
+     * The commands of a confined <code>Controller</code> should run on its
+     * thread, or only use the facade through an actor.</P>
+     *
+     * @param executor the executor, or <code>null</code> to start the commands on the notifying thread
+     */
+    public void setCommandExecutor(Executor executor) {
+        commandExecutor = executor;
+    }
+
+    /**
+     * <P>Set the handler of the failures of the <code>IAsyncCommand</code>s.</P>
+     *
+     * <P>The handler is passed the notification and the error of a command
+     * whose stage failed, once the next waiting command of its notification
+     * name is started. Without a handler, failed commands are only counted.</P>
+     *
+     * @param handler the handler, or <code>null</code> to only count the failures
+     * @see #getCompletedCommands(String, boolean) getCompletedCommands
+     */
+    public void setCommandErrorHandler(BiConsumer<INotification, Throwable> handler) {
+        commandErrorHandler = handler;
+    }
+
+    /**
+     * <P>Limit the number of <code>IAsyncCommand</code>s of a notification name running at a time.</P>
+     *
+     * <P>The commands over the limit wait, in order, for a running one to complete.</P>
+     *
+     * @param notificationName the name of the notification
+     * @param limit the most commands running at a time, at least 1
+     */
+    public void setConcurrencyLimit(String notificationName, int limit) {
+        if(limit < 1) throw new IllegalArgumentException("Invalid concurrency limit: " + limit);
+        Lane lane = laneMap.computeIfAbsent(notificationName, name -> new Lane());
+        ArrayDeque<AsyncRun> started = new ArrayDeque<>();
+        synchronized (lane) {
+            lane.limit = limit;
+            // a raised limit starts the waiting commands it admits
+            while(lane.running < limit && !lane.waiting.isEmpty()) {
+                lane.running++;
+                started.add(lane.waiting.poll());
+            }
+        }
+        started.forEach(this::submit);
+    }
+
+    /**
+     * <P>Get the number of <code>IAsyncCommand</code>s of this core running or waiting.</P>
+     *
+     * @return the number of commands in flight
+     */
+    public int getInFlightCommands() {
+        return inFlight.get();
+    }
+
+    /**
+     * <P>Get the number of <code>IAsyncCommand</code>s of a notification name running or waiting.</P>
+     *
+     * @param notificationName the name of the notification
+     * @return the number of commands in flight
+     */
+    public int getInFlightCommands(String notificationName) {
+        Lane lane = laneMap.get(notificationName);
+        return lane != null ? lane.size() : 0;
+    }
+
+    /**
+     * <P>Get the number of completed <code>IAsyncCommand</code>s of a notification name.</P>
+     *
+     * @param notificationName the name of the notification
+     * @param failed whether to count the failed commands only
+     * @return the number of commands completed, or failed
+     */
+    public long getCompletedCommands(String notificationName, boolean failed) {
+        Lane lane = laneMap.get(notificationName);
+        return lane == null ? 0 : failed ? lane.failed.sum() : lane.completed.sum();
+    }
+
+    /**
+     * <P>Get the mean completion latency of the <code>IAsyncCommand</code>s of a notification name.</P>
+     *
+     * <P>The latency runs from the notification to the completion of the
+     * stage of the command, including the time it waited to run.</P>
+     *
+     * @param notificationName the name of the notification
+     * @param unit the time unit of the latency
+     * @return the mean latency, 0 if no command has completed
+     */
+    public long getCommandLatency(String notificationName, TimeUnit unit) {
+        Lane lane = laneMap.get(notificationName);
+        long completed = lane != null ? lane.completed.sum() : 0;
+        return completed == 0 ? 0 : unit.convert(lane.latency.sum() / completed, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * <P>Get the longest completion latency of the <code>IAsyncCommand</code>s of a notification name.</P>
+     *
+     * @param notificationName the name of the notification
+     * @param unit the time unit of the latency
+     * @return the longest latency, 0 if no command has completed
+     */
+    public long getMaxCommandLatency(String notificationName, TimeUnit unit) {
+        Lane lane = laneMap.get(notificationName);
+        return lane == null ? 0 : unit.convert(lane.maxLatency.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * <P>Get the number of duplicate commands of a notification name dropped.</P>
+     *
+     * @param notificationName the name of the notification
+     * @return the number of duplicate commands
+     */
+    public long getDuplicateCommands(String notificationName) {
+        Deduplication deduplication = deduplicationMap.get(notificationName);
+        return deduplication != null ? deduplication.duplicates.sum() : 0;
     }
 
     /**
      * <P>Register a particular <code>ICommand</code> class as the handler
      * for a particular <code>INotification</code>.</P>
      *
-     * <P>If an <code>ICommand</code> has already been registered to
-     * handle <code>INotification</code>s with this name, it is no longer
+     * <P>If <code>ICommand</code>s have already been registered to
+     * handle <code>INotification</code>s with this name, they are no longer
      * used, the new <code>ICommand</code> is used instead.</P>
      *
      * <P>The Observer for the new ICommand is only created if this the
@@ -157,10 +648,94 @@ public class Controller implements IController {
      * @param commandSupplier a reference to <code>ICommand</code> supplier
      */
     public void registerCommand(String notificationName, Supplier<ICommand> commandSupplier) {
-        if(commandMap.get(notificationName) == null) {
+        assert isOwner() : OWNER_MSG;
+        if(commandMap.put(notificationName, commandSupplier) == null) {
+            view.registerObserver(notificationName, new Observer(this::executeCommand, this));
+        }
+        addedCommandMap.remove(notificationName);
+        deduplicationMap.remove(notificationName);
+    }
+
+    /**
+     * <P>Add an <code>ICommand</code> to the handlers of an <code>INotification</code>.</P>
+     *
+     * <P>The <code>ICommand</code>s of a notification are executed in the
+     * order they were added, each passed the notification, without a
+     * wrapping <code>MacroCommand</code>. They share the single observer
+     * the <code>Controller</code> registers with the <code>View</code>
+     * for the notification name. An <code>ICommand</code> that throws
+     * skips the following ones.</P>
+     *
+     * @param notificationName the name of the <code>INotification</code>
+     * @param commandSupplier a reference to <code>ICommand</code> supplier
+     * @see #setParallelCommands(String, boolean) setParallelCommands
+     */
+    public void addCommand(String notificationName, Supplier<ICommand> commandSupplier) {
+        assert isOwner() : OWNER_MSG;
+        // the first command of the name registers the observer
+        if(commandMap.putIfAbsent(notificationName, commandSupplier) == null) {
             view.registerObserver(notificationName, new Observer(this::executeCommand, this));
+            deduplicationMap.remove(notificationName);
+            return;
         }
-        commandMap.put(notificationName, commandSupplier);
+        // copy on write, so a notification executing the commands is not disturbed
+        addedCommandMap.compute(notificationName, (name, existing) -> {
+            @SuppressWarnings("unchecked")
+            Supplier<ICommand>[] added = (Supplier<ICommand>[]) new Supplier<?>[existing != null ? existing.length + 1 : 1];
+            if(existing != null) System.arraycopy(existing, 0, added, 0, existing.length);
+            added[added.length - 1] = commandSupplier;
+            return added;
+        });
+    }
+
+    /**
+     * <P>Fan out the <code>ICommand</code>s of a notification name on the command executor.</P>
+     *
+     * <P>The <code>ICommand</code>s of a parallel notification name are
+     * independent: each is submitted to the command executor, in order,
+     * so they may run at the same time, and one that throws, or whose
+     * supplier throws, does not skip the others. The first failure on the
+     * notifying thread is thrown once every command is started. Without a command executor, or with a single command,
+     * they are executed in order on the notifying thread.</P>
+     *
+     * @param notificationName the name of the notification
+     * @param parallel whether the commands of the notification fan out
+     * @see #setCommandExecutor(Executor) setCommandExecutor
+     */
+    public void setParallelCommands(String notificationName, boolean parallel) {
+        if(parallel) parallelSet.add(notificationName); else parallelSet.remove(notificationName);
+    }
+
+    /**
+     * <P>Register an <code>ICommand</code> as the handler of an
+     * <code>INotification</code>, dropping the duplicate commands.</P>
+     *
+     * <P>The key extractor gives the idempotency key of the command of a
+     * notification, such as the id of a request. A notification whose key
+     * is that of a command still executing, or of one completed within the
+     * window, executes no command. A command that fails does not count, so
+     * its notification may be retried. A <code>null</code> key is never a
+     * duplicate:</P>
+     *
+     * <pre>
+     * {@code controller.registerCommand("PlaceOrder", () -> new PlaceOrderCommand(),
+     *     notification -> ((Order) notification.getBody()).getId(), 1, TimeUnit.MINUTES);
+     * }
+     * </pre>
+     *
+     * <P>The keys of at most <code>DEDUPLICATION_CAPACITY</code> commands
+     * are remembered per notification name, the oldest being forgotten first.</P>
+     *
+     * @param notificationName the name of the <code>INotification</code>
+     * @param commandSupplier a reference to <code>ICommand</code> supplier
+     * @param keyExtractor the idempotency key of the command of a notification
+     * @param window the time a completed command is remembered
+     * @param unit the time unit of the window
+     */
+    public void registerCommand(String notificationName, Supplier<ICommand> commandSupplier, Function<INotification, ?> keyExtractor, long window, TimeUnit unit) {
+        if(window < 0) throw new IllegalArgumentException("Invalid deduplication window: " + window + " " + unit);
+        registerCommand(notificationName, commandSupplier);
+        deduplicationMap.put(notificationName, new Deduplication(keyExtractor, unit.toNanos(window), DEDUPLICATION_CAPACITY));
     }
 
     /**
@@ -169,13 +744,16 @@ public class Controller implements IController {
      * @param notificationName the name of the <code>INotification</code> to remove the <code>ICommand</code> mapping for
      */
     public void removeCommand(String notificationName) {
+        assert isOwner() : OWNER_MSG;
         // if the Command is registered...
         if(hasCommand(notificationName)) {
             // remove the observer
             view.removeObserver(notificationName, this);
 
-            // remove the command
+            // remove the commands
             commandMap.remove(notificationName);
+            addedCommandMap.remove(notificationName);
+            deduplicationMap.remove(notificationName);
         }
     }
 
@@ -186,9 +764,22 @@ public class Controller implements IController {
      * @return whether a Command is currently registered for the given <code>notificationName</code>.
      */
     public boolean hasCommand(String notificationName) {
+        assert isOwner() : OWNER_MSG;
         return commandMap.get(notificationName) != null;
     }
 
+    /**
+     * <P>Check if the calling thread may access this <code>Controller</code>.</P>
+     *
+     * <P>Called in <code>assert</code> statements, so the check
+     * costs nothing unless assertions are enabled.</P>
+     *
+     * @return false if the <code>Controller</code> is confined to another thread
+     */
+    protected boolean isOwner() {
+        return owner == null || owner == Thread.currentThread();
+    }
+
     /**
      * <P>Remove an IController instance</P>
      *
@@ -10,7 +10,9 @@ package org.puremvc.java.multicore.core;
 import org.puremvc.java.multicore.interfaces.IModel;
 import org.puremvc.java.multicore.interfaces.IProxy;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -48,11 +50,15 @@ public class Model implements IModel {
     // Mapping of proxyNames to IProxy instances
     protected ConcurrentMap<String, IProxy> proxyMap;
 
+    // The thread a confined Model belongs to, null if not confined
+    protected Thread owner;
+
     // The Multiton Model instanceMap.
     protected static Map<String, IModel> instanceMap = new HashMap<>();
 
     // Message Constants
     protected final String MULTITON_MSG = "Model instance for this Multiton key already constructed!";
+    protected final String OWNER_MSG = "Model instance for this Multiton key is confined to another thread!";
 
     /**
      * <P>Constructor.</P>
@@ -67,9 +73,27 @@ public class Model implements IModel {
      * @throws Error Error if instance for this Multiton key instance has already been constructed
      */
     public Model(String key) {
+        this(key, false);
+    }
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * <P>A confined <code>Model</code> belongs to the thread that constructs
+     * it, for cores that are only ever used from one thread, such as an event
+     * loop. Its <code>proxyMap</code> stays a <code>ConcurrentMap</code>, whose
+     * lookups take no lock. When assertions are enabled, an access from
+     * another thread fails fast with an <code>AssertionError</code>.</P>
+     *
+     * @param key multitonKey
+     * @param confined whether to confine the <code>Model</code> to the constructing thread
+     * @throws Error Error if instance for this Multiton key has already been constructed
+     */
+    public Model(String key, boolean confined) {
         if(instanceMap.get(key) != null) throw new Error(MULTITON_MSG);
         multitonKey = key;
         instanceMap.put(key, this);
+        owner = confined ? Thread.currentThread() : null;
         proxyMap = new ConcurrentHashMap<>();
         initializeModel();
     }
@@ -105,6 +129,7 @@ public class Model implements IModel {
      * @param proxy an <code>IProxy</code> to be held by the <code>Model</code>.
      */
     public void registerProxy(IProxy proxy) {
+        assert isOwner() : OWNER_MSG;
         proxy.initializeNotifier(multitonKey);
         proxyMap.put(proxy.getProxyName(), proxy);
         proxy.onRegister();
@@ -117,6 +142,7 @@ public class Model implements IModel {
      * @return the <code>IProxy</code> instance previously registered with the given <code>proxyName</code>.
      */
     public IProxy retrieveProxy(String proxyName) {
+        assert isOwner() : OWNER_MSG;
         return proxyMap.get(proxyName);
     }
 
@@ -127,6 +153,7 @@ public class Model implements IModel {
      * @return whether a Proxy is currently registered with the given <code>proxyName</code>.
      */
     public boolean hasProxy(String proxyName) {
+        assert isOwner() : OWNER_MSG;
         return proxyMap.containsKey(proxyName);
     }
 
@@ -137,6 +164,7 @@ public class Model implements IModel {
      * @return the <code>IProxy</code> that was removed from the <code>Model</code>
      */
     public IProxy removeProxy(String proxyName) {
+        assert isOwner() : OWNER_MSG;
         IProxy proxy = proxyMap.get(proxyName);
         if(proxy != null) {
             proxyMap.remove(proxyName);
@@ -145,6 +173,28 @@ public class Model implements IModel {
         return proxy;
     }
 
+    /**
+     * <P>List the <code>IProxy</code> instances registered with the Model.</P>
+     *
+     * @return a copy of the registered <code>IProxy</code> instances
+     */
+    public List<IProxy> listProxies() {
+        assert isOwner() : OWNER_MSG;
+        return new ArrayList<>(proxyMap.values());
+    }
+
+    /**
+     * <P>Check if the calling thread may access this <code>Model</code>.</P>
+     *
+     * <P>Called in <code>assert</code> statements, so the check
+     * costs nothing unless assertions are enabled.</P>
+     *
+     * @return false if the <code>Model</code> is confined to another thread
+     */
+    protected boolean isOwner() {
+        return owner == null || owner == Thread.currentThread();
+    }
+
     /**
      * <P>Remove an IModel instance</P>
      *
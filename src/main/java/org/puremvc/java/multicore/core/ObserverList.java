@@ -0,0 +1,291 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.core;
+
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.interfaces.IObserver;
+import org.puremvc.java.multicore.patterns.observer.DeliveryPolicy;
+import org.puremvc.java.multicore.patterns.observer.WeakObserver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * <P>The list of the <code>IObserver</code>s of one <code>INotification</code> name.</P>
+ *
+ * <P>A doubly linked list sorted by decreasing priority, and by order of
+ * registration for equal priorities. Adding an observer returns its
+ * <code>Node</code>, which the <code>View</code> indexes by notify context,
+ * so an observer is removed in constant time, without a scan.</P>
+ *
+ * <P>Notifying the observers walks the list in place, without copying it.
+ * A removed node keeps its link to the next one, so removing observers,
+ * including the one being notified, never disturbs a walk in progress:
+ * removed observers are skipped, and observers added during the walk
+ * are not notified until the next notification.</P>
+ *
+ * <P>The nodes of <code>WeakObserver</code>s whose context has been
+ * collected are removed as the walk meets them, or by <code>purge</code>,
+ * and counted.</P>
+ *
+ * @see View View
+ */
+public class ObserverList {
+
+    /**
+     * <P>A node of an <code>ObserverList</code>.</P>
+     */
+    public static class Node {
+
+        // the observer and the priority it was registered with
+        protected final IObserver observer;
+        protected final int priority;
+
+        // the order of registration of the node in its list
+        protected final long serial;
+
+        protected volatile Node next;
+        protected Node previous;
+
+        protected volatile boolean removed;
+
+        // an older node of the same notify context in the same list, if any
+        protected Node older;
+
+        // the observer as a WeakObserver, or null
+        protected final WeakObserver<?> weak;
+
+        /**
+         * <P>Constructor.</P>
+         *
+         * @param observer the observer
+         * @param serial the order of registration of the node
+         */
+        protected Node(IObserver observer, long serial) {
+            this.observer = observer;
+            this.priority = observer.getPriority();
+            this.serial = serial;
+            this.weak = observer instanceof WeakObserver ? (WeakObserver<?>) observer : null;
+        }
+
+        /**
+         * <P>Get the observer of this node.</P>
+         *
+         * @return the observer
+         */
+        public IObserver getObserver() {
+            return observer;
+        }
+
+    }
+
+    protected volatile Node head;
+
+    protected Node tail;
+
+    protected int size;
+
+    // the serial of the next node added
+    protected volatile long serial;
+
+    // the count of collected observers removed
+    protected final LongAdder collected;
+
+    // whether the list is only changed by one thread, so takes no lock
+    protected final boolean confined;
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * <P>A confined list is only changed by the thread of its confined
+     * <code>View</code>, so adding and removing observers takes no lock.</P>
+     *
+     * @param collected the counter of the collected observers removed from the list
+     * @param confined whether the list is only changed by one thread
+     */
+    public ObserverList(LongAdder collected, boolean confined) {
+        this.collected = collected;
+        this.confined = confined;
+    }
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param collected the counter of the collected observers removed from the list
+     */
+    public ObserverList(LongAdder collected) {
+        this(collected, false);
+    }
+
+    /**
+     * <P>Constructor.</P>
+     */
+    public ObserverList() {
+        this(new LongAdder());
+    }
+
+    /**
+     * <P>Add an observer at its priority.</P>
+     *
+     * @param observer the observer to add
+     * @return the node of the observer
+     */
+    public Node add(IObserver observer) {
+        if(confined) return insert(observer);
+        synchronized (this) {
+            return insert(observer);
+        }
+    }
+
+    // insert a node of an observer at its priority
+    private Node insert(IObserver observer) {
+        Node node = new Node(observer, serial++);
+
+        // insert after the observers of the same or a higher priority,
+        // so equal priorities are notified in order of registration
+        Node before = tail;
+        while(before != null && before.priority < node.priority) before = before.previous;
+
+        Node after = before == null ? head : before.next;
+        node.previous = before;
+        node.next = after;
+        if(after == null) tail = node; else after.previous = node;
+        if(before == null) head = node; else before.next = node;
+        size++;
+        return node;
+    }
+
+    /**
+     * <P>Remove the node of an observer.</P>
+     *
+     * <P>The delivery policy the observer is wrapped by, if any, is
+     * cancelled, so it delivers no pending notification afterwards.</P>
+     *
+     * @param node the node to remove
+     * @return false if the node was already removed
+     */
+    public boolean remove(Node node) {
+        boolean unlinked;
+        if(confined) {
+            unlinked = unlink(node);
+        } else synchronized (this) {
+            unlinked = unlink(node);
+        }
+        if(!unlinked) return false;
+        DeliveryPolicy.cancel(node.observer);
+        return true;
+    }
+
+    /**
+     * <P>Cancel the delivery policies of the observers, when the list is discarded.</P>
+     */
+    public void cancel() {
+        for(Node node = head; node != null; node = node.next) {
+            DeliveryPolicy.cancel(node.observer);
+        }
+    }
+
+    // unlink a node from the list, false if it was already removed
+    private boolean unlink(Node node) {
+        if(node.removed) return false;
+        node.removed = true;
+        Node before = node.previous;
+        Node after = node.next;
+        if(before == null) head = after; else before.next = after;
+        if(after == null) tail = before; else after.previous = before;
+        size--;
+        return true;
+    }
+
+    /**
+     * <P>Remove the observers whose context has been collected.</P>
+     *
+     * @return the number of observers removed
+     */
+    public int purge() {
+        int count = 0;
+        for(Node node = head; node != null; node = node.next) {
+            if(node.weak != null && node.weak.isCollected() && remove(node)) count++;
+        }
+        collected.add(count);
+        return count;
+    }
+
+    /**
+     * <P>Find the first node of an observer with a given notify context, by scanning the list.</P>
+     *
+     * @param notifyContext the notify context
+     * @return the node, or <code>null</code> if there is none
+     */
+    public Node find(Object notifyContext) {
+        for(Node node = head; node != null; node = node.next) {
+            if(!node.removed && node.observer.compareNotifyContext(notifyContext)) return node;
+        }
+        return null;
+    }
+
+    /**
+     * <P>Get the number of observers.</P>
+     *
+     * @return the number of observers
+     */
+    public int size() {
+        if(confined) return size;
+        synchronized (this) {
+            return size;
+        }
+    }
+
+    /**
+     * <P>Check if the list has no observers.</P>
+     *
+     * @return whether the list is empty
+     */
+    public boolean isEmpty() {
+        return head == null;
+    }
+
+    /**
+     * <P>Notify the observers of a notification, in order.</P>
+     *
+     * @param notification the notification
+     * @param filter the predicate an observer must satisfy to be notified, or <code>null</code>
+     * @param executor the executor notifying the observers below <code>threshold</code>, or <code>null</code>
+     * @param threshold the lowest priority notified synchronously
+     */
+    public void notifyObservers(INotification notification, Predicate<IObserver> filter, Executor executor, int threshold) {
+        long limit = serial;
+        for(Node node = head; node != null; node = node.next) {
+            if(node.removed || node.serial >= limit) continue;
+            if(node.weak != null && node.weak.isCollected()) {
+                if(remove(node)) collected.increment();
+                continue;
+            }
+            if(executor != null && node.priority < threshold) {
+                notifyAsync(node, limit, notification, filter, executor);
+                return;
+            }
+            if(filter == null || filter.test(node.observer)) node.observer.notifyObserver(notification);
+        }
+    }
+
+    // hand the observers from node on to the executor as one task
+    private void notifyAsync(Node node, long limit, INotification notification, Predicate<IObserver> filter, Executor executor) {
+        List<IObserver> observers = new ArrayList<>();
+        for(; node != null; node = node.next) {
+            if(!node.removed && node.serial < limit && (filter == null || filter.test(node.observer))) observers.add(node.observer);
+        }
+        if(observers.isEmpty()) return;
+        INotification retained = notification.retain();
+        executor.execute(() -> observers.forEach(observer -> observer.notifyObserver(retained)));
+    }
+
+}
@@ -11,12 +11,21 @@ import org.puremvc.java.multicore.interfaces.IMediator;
 import org.puremvc.java.multicore.interfaces.INotification;
 import org.puremvc.java.multicore.interfaces.IObserver;
 import org.puremvc.java.multicore.interfaces.IView;
+import org.puremvc.java.multicore.patterns.observer.DeliveryPolicy;
 import org.puremvc.java.multicore.patterns.observer.Observer;
+import org.puremvc.java.multicore.patterns.observer.WeakObserver;
 
+import java.lang.ref.WeakReference;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * <P>A Multiton <code>IView</code> implementation.</P>
@@ -46,13 +55,119 @@ public class View implements IView {
     protected ConcurrentMap<String, IMediator> mediatorMap;
 
     // Mapping of Notification names to Observer lists
-    protected ConcurrentMap<String, List<IObserver>> observerMap;
+    protected Map<String, ObserverList> observerMap;
+
+    // Mapping of notify contexts, by identity, to their Observer nodes by Notification name
+    protected Map<Object, Map<String, ObserverList.Node>> contextMap = new IdentityHashMap<>();
+
+    // Mapping of weakly held notify contexts, by identity, to their Observer nodes by Notification name
+    protected Map<WeakContext, Map<String, ObserverList.Node>> weakContextMap = new HashMap<>();
+
+    // The Observer nodes without a notify context, in order, with their Notification names
+    protected Map<ObserverList.Node, String> uncontextedMap = new LinkedHashMap<>();
+
+    // Whether a WeakObserver has been registered
+    protected volatile boolean weakObservers;
+
+    // The count of WeakObservers purged after their context was collected
+    protected final LongAdder collected = new LongAdder();
+
+    // The thread a confined View belongs to, null if not confined
+    protected Thread owner;
+
+    // The executor notifying the observers below asyncThreshold, null to notify all synchronously
+    protected volatile Executor asyncExecutor;
+    protected volatile int asyncThreshold;
+
+    // Whether notifications sent while dispatching are deferred until the dispatch returns
+    protected volatile boolean deferredDispatch;
+
+    // The deepest nesting of notifications dispatched, or deferred generation
+    protected volatile int dispatchDepthLimit = Integer.MAX_VALUE;
+
+    // The counts of notifications sent while dispatching, and of those rejected at the depth limit
+    protected final LongAdder nestedNotifications = new LongAdder();
+    protected final LongAdder rejectedNotifications = new LongAdder();
+
+    // Mapping of Notification names to the gates of their delivery policies
+    protected Map<String, DeliveryPolicy.Gate> policyMap = new ConcurrentHashMap<>();
+
+    // The dispatch in progress on each thread
+    protected final ThreadLocal<Dispatch> dispatches = ThreadLocal.withInitial(Dispatch::new);
 
     // The Multiton View instanceMap.
     protected static Map<String, IView> instanceMap = new HashMap<>();
 
     // Message Constants
     protected final String MULTITON_MSG = "View instance for this Multiton key already constructed!";
+    protected final String OWNER_MSG = "View instance for this Multiton key is confined to another thread!";
+    protected final String DEPTH_MSG = "Notification dispatch depth limit exceeded: ";
+
+    /**
+     * <P>The dispatch in progress on a thread.</P>
+     */
+    protected static class Dispatch {
+
+        // the depth of the notification being dispatched, 0 when idle
+        protected int depth;
+
+        // whether the notifications sent while dispatching are deferred
+        protected boolean deferred;
+
+        // the deferred notifications, breadth-first
+        protected final ArrayDeque<Deferred> queue = new ArrayDeque<>();
+
+    }
+
+    /**
+     * <P>A notification deferred until the dispatch in progress returns.</P>
+     */
+    protected static class Deferred {
+
+        protected final INotification notification;
+        protected final Predicate<IObserver> filter;
+        protected final Executor executor;
+        protected final int threshold;
+        protected final int depth;
+
+        protected Deferred(INotification notification, Predicate<IObserver> filter, Executor executor, int threshold, int depth) {
+            this.notification = notification;
+            this.filter = filter;
+            this.executor = executor;
+            this.threshold = threshold;
+            this.depth = depth;
+        }
+
+    }
+
+    /**
+     * <P>A weakly held notify context, equal to the keys of the same context.</P>
+     *
+     * <P>Keys the index of the <code>WeakObserver</code>s, so it does not
+     * retain their contexts. The keys of collected contexts are dropped by
+     * <code>purgeCollectedObservers</code>.</P>
+     */
+    protected static class WeakContext extends WeakReference<Object> {
+
+        // the identity hash code of the context
+        protected final int hash;
+
+        protected WeakContext(Object notifyContext) {
+            super(notifyContext);
+            hash = System.identityHashCode(notifyContext);
+        }
+
+        public int hashCode() {
+            return hash;
+        }
+
+        public boolean equals(Object object) {
+            if(object == this) return true;
+            Object notifyContext = get();
+            return object instanceof WeakContext && notifyContext != null && notifyContext == ((WeakContext) object).get();
+        }
+
+    }
 
     /**
      * <P>Constructor.</P>
@@ -67,11 +182,30 @@ public class View implements IView {
      *
      */
     public View(String key) {
+        this(key, false);
+    }
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * <P>A confined <code>View</code> belongs to the thread that constructs
+     * it and keeps its observers in plain, unsynchronized collections, for
+     * cores that are only ever used from one thread, such as an event loop.
+     * Its <code>mediatorMap</code> stays a <code>ConcurrentMap</code>. When assertions are
+     * enabled, an access from another thread fails fast with an
+     * <code>AssertionError</code>.</P>
+     *
+     * @param key multitonKey
+     * @param confined whether to confine the <code>View</code> to the constructing thread
+     * @throws Error Error if instance for this Multiton key has already been constructed
+     */
+    public View(String key, boolean confined) {
         if(instanceMap.get(key) != null) new Error(MULTITON_MSG);
         multitonKey = key;
         instanceMap.put(key, this);
+        owner = confined ? Thread.currentThread() : null;
         mediatorMap = new ConcurrentHashMap<>();
-        observerMap = new ConcurrentHashMap<>();
+        observerMap = confined ? new HashMap<>() : new ConcurrentHashMap<>();
         initializeView();
     }
 
@@ -104,41 +238,293 @@ public class View implements IView {
      * <P>Register an <code>IObserver</code> to be notified
      * of <code>INotifications</code> with a given name.</P>
      *
+     * <P>The observer list is kept sorted by decreasing priority,
+     * so notifying the observers involves no sorting, and the
+     * observer is indexed by its notify context for removal. The
+     * context of a <code>WeakObserver</code> is indexed weakly, and an
+     * observer without a notify context is kept aside, compared to the
+     * contexts removed.</P>
+     *
      * @param notificationName the name of the <code>INotifications</code> to notify this <code>IObserver</code> of
      * @param observer the <code>IObserver</code> to register
      */
     public void registerObserver(String notificationName, IObserver observer) {
-        if(observerMap.get(notificationName) != null) {
-            observerMap.get(notificationName).add(observer);
-        } else {
-            observerMap.put(notificationName, new ArrayList<IObserver>(Arrays.asList(observer)));
+        assert isOwner() : OWNER_MSG;
+        ObserverList observers = observerMap.computeIfAbsent(notificationName, name -> new ObserverList(collected, owner != null));
+        ObserverList.Node node = observers.add(observer);
+        boolean weak = DeliveryPolicy.unwrap(observer) instanceof WeakObserver;
+        if(weak) weakObservers = true;
+
+        // a confined View takes no lock on its indexes
+        if(owner != null) {
+            index(notificationName, node, weak);
+        } else synchronized (contextMap) {
+            index(notificationName, node, weak);
         }
     }
 
+    // index the node of an observer by notify context, keeping an older one of the same context
+    private void index(String notificationName, ObserverList.Node node, boolean weak) {
+        Object notifyContext = node.observer.getNotifyContext();
+        if(notifyContext == null) {
+            uncontextedMap.put(node, notificationName);
+            return;
+        }
+        // a weak context must not be retained by the index
+        Map<String, ObserverList.Node> nodes = weak ?
+            weakContextMap.computeIfAbsent(new WeakContext(notifyContext), context -> new HashMap<>()) :
+            contextMap.computeIfAbsent(notifyContext, context -> new HashMap<>());
+        node.older = nodes.put(notificationName, node);
+    }
+
+    // unindex the node of a notify context for a notification name, null if there is none
+    private ObserverList.Node unindex(String notificationName, Object notifyContext) {
+        ObserverList.Node node = null;
+        if(notifyContext != null) node = unindex(contextMap, notifyContext, notificationName);
+        if(node == null && notifyContext != null && !weakContextMap.isEmpty()) node = unindex(weakContextMap, new WeakContext(notifyContext), notificationName);
+        Iterator<Map.Entry<ObserverList.Node, String>> entries = uncontextedMap.entrySet().iterator();
+        while(node == null && entries.hasNext()) {
+            Map.Entry<ObserverList.Node, String> entry = entries.next();
+            if(!entry.getValue().equals(notificationName) || !entry.getKey().observer.compareNotifyContext(notifyContext)) continue;
+            node = entry.getKey();
+            entries.remove();
+        }
+        return node;
+    }
+
+    private <K> ObserverList.Node unindex(Map<K, Map<String, ObserverList.Node>> index, K key, String notificationName) {
+        Map<String, ObserverList.Node> nodes = index.get(key);
+        ObserverList.Node node = nodes != null ? nodes.remove(notificationName) : null;
+        if(node != null && node.older != null) nodes.put(notificationName, node.older);
+        if(nodes != null && nodes.isEmpty()) index.remove(key);
+        return node;
+    }
+
+    // unindex the nodes of a notify context, with their notification names
+    private Map<ObserverList.Node, String> unindex(Object notifyContext) {
+        Map<ObserverList.Node, String> removed = new LinkedHashMap<>();
+        List<Map<String, ObserverList.Node>> indexed = new ArrayList<>(2);
+        if(notifyContext != null) indexed.add(contextMap.remove(notifyContext));
+        if(notifyContext != null && !weakContextMap.isEmpty()) indexed.add(weakContextMap.remove(new WeakContext(notifyContext)));
+        for(Map<String, ObserverList.Node> nodes : indexed) {
+            if(nodes == null) continue;
+            nodes.forEach((notificationName, node) -> {
+                for(; node != null; node = node.older) removed.put(node, notificationName);
+            });
+        }
+        Iterator<Map.Entry<ObserverList.Node, String>> entries = uncontextedMap.entrySet().iterator();
+        while(entries.hasNext()) {
+            Map.Entry<ObserverList.Node, String> entry = entries.next();
+            if(!entry.getKey().observer.compareNotifyContext(notifyContext)) continue;
+            removed.put(entry.getKey(), entry.getValue());
+            entries.remove();
+        }
+        return removed;
+    }
+
+    // drop the index entries of the collected contexts and removed nodes
+    private void unindexCollected() {
+        weakContextMap.keySet().removeIf(context -> context.get() == null);
+        uncontextedMap.keySet().removeIf(node -> node.removed);
+    }
+
     /**
      * <P>Notify the <code>IObservers</code> for a particular <code>INotification</code>.</P>
      *
      * <P>All previously attached <code>IObservers</code> for this <code>INotification</code>'s
      * list are notified and are passed a reference to the <code>INotification</code> in
-     * the order in which they were registered.</P>
+     * order of decreasing priority, and in the order in which they were registered
+     * for equal priorities.</P>
+     *
+     * <P>With asynchronous delivery set, the observers below the threshold
+     * priority are notified by the executor after the others.</P>
+     *
+     * <P>With a delivery policy set for the notification name, the
+     * notification is offered to the policy, which notifies the observers
+     * when it lets the notification through.</P>
      *
      * @param notification the <code>INotification</code> to notify <code>IObservers</code> of.
      */
     public void notifyObservers(INotification notification) {
-        if(observerMap.get(notification.getName()) != null) {
+        assert isOwner() : OWNER_MSG;
+        DeliveryPolicy.Gate gate = policyMap.isEmpty() ? null : policyMap.get(notification.getName());
+        if(gate != null) {
+            gate.accept(notification);
+            return;
+        }
+        dispatch(notification, null, asyncExecutor, asyncThreshold);
+    }
 
-            // Get a reference to the observers list for this notification name
-            List<IObserver> observers_ref = observerMap.get(notification.getName());
+    /**
+     * <P>Notify the <code>IObservers</code> for a particular <code>INotification</code>
+     * that are accepted by a filter.</P>
+     *
+     * <P>Observers rejected by the filter are skipped, which allows
+     * side-effecting observers to be suppressed, such as when
+     * replaying a journal. All observers are notified synchronously.</P>
+     *
+     * @param notification the <code>INotification</code> to notify <code>IObservers</code> of.
+     * @param filter the predicate an <code>IObserver</code> must satisfy to be notified
+     */
+    public void notifyObservers(INotification notification, Predicate<IObserver> filter) {
+        assert isOwner() : OWNER_MSG;
+        dispatch(notification, filter, null, 0);
+    }
+
+    /**
+     * <P>Dispatch a notification, immediately or deferred, within the depth limit.</P>
+     *
+     * @param notification the notification
+     * @param filter the predicate an observer must satisfy to be notified, or <code>null</code>
+     * @param executor the executor notifying the observers below <code>threshold</code>, or <code>null</code>
+     * @param threshold the lowest priority notified synchronously
+     * @throws IllegalStateException if the notification is nested deeper than the depth limit
+     */
+    protected void dispatch(INotification notification, Predicate<IObserver> filter, Executor executor, int threshold) {
+        Dispatch dispatch = dispatches.get();
+        int depth = dispatch.depth + 1;
+        if(dispatch.depth > 0) {
+            nestedNotifications.increment();
+            if(depth > dispatchDepthLimit) {
+                rejectedNotifications.increment();
+                throw new IllegalStateException(DEPTH_MSG + notification.getName());
+            }
+            if(dispatch.deferred) {
+                dispatch.queue.add(new Deferred(notification.retain(), filter, executor, threshold, depth));
+                return;
+            }
+        } else {
+            dispatch.deferred = deferredDispatch;
+        }
 
-            // Copy observers from reference array to working array,
-            // since the reference array may change during the notification loop
-            List<IObserver> observers = new ArrayList<>(observers_ref);
+        int outer = dispatch.depth;
+        try {
+            dispatch.depth = depth;
+            notifyList(notification, filter, executor, threshold);
+            if(outer == 0 && dispatch.deferred) {
+                Deferred deferred;
+                while((deferred = dispatch.queue.poll()) != null) {
+                    dispatch.depth = deferred.depth;
+                    notifyList(deferred.notification, deferred.filter, deferred.executor, deferred.threshold);
+                }
+            }
+        } finally {
+            dispatch.depth = outer;
+            if(outer == 0) dispatch.queue.clear();
+        }
+    }
 
-            // Notify Observers from the working array
-            observers.forEach(observer -> observer.notifyObserver(notification));
+    // notify the observer list of a notification
+    private void notifyList(INotification notification, Predicate<IObserver> filter, Executor executor, int threshold) {
+        ObserverList observers = observerMap.get(notification.getName());
+        if(observers != null) {
+            observers.notifyObservers(notification, filter, executor, threshold);
         }
     }
 
+    /**
+     * <P>Set the dispatch policy of notifications sent while dispatching.</P>
+     *
+     * <P>By default, a notification sent by an observer, such as a
+     * <code>Mediator</code> sending from <code>handleNotification</code>,
+     * is dispatched immediately, recursively, before the observers after
+     * it are notified. When deferred, it is queued and dispatched once the
+     * outermost dispatch on the thread returns, breadth-first, so the stack
+     * stays bounded however long the cascade. A deferred notification is
+     * retained, and the deferred notifications still queued when an
+     * observer throws are dropped.</P>
+     *
+     * <P>In both modes, a notification nested deeper than the depth limit,
+     * counting a deferred notification one deeper than the notification
+     * whose observer sent it, throws an <code>IllegalStateException</code>.</P>
+     *
+     * @param deferred whether to defer the notifications sent while dispatching
+     * @param depthLimit the deepest nesting of notifications dispatched, at least 1
+     */
+    public void setDispatchPolicy(boolean deferred, int depthLimit) {
+        if(depthLimit < 1) throw new IllegalArgumentException(DEPTH_MSG + depthLimit);
+        dispatchDepthLimit = depthLimit;
+        deferredDispatch = deferred;
+    }
+
+    /**
+     * <P>Set the delivery policy of a notification name.</P>
+     *
+     * <P>The notifications of the name are offered to the policy, such as
+     * <code>DeliveryPolicy.debounce</code>, which notifies all the observers
+     * of the name when it lets a notification through, on its scheduler
+     * thread for debounced and sampled notifications. Notifications replayed
+     * with a filter bypass the policy. A confined <code>View</code> should
+     * wrap its observers with <code>DeliveryPolicy.wrap</code> instead.</P>
+     *
+     * @param notificationName the name of the notifications
+     * @param policy the delivery policy, or <code>null</code> to deliver every notification again
+     */
+    public void setDeliveryPolicy(String notificationName, DeliveryPolicy policy) {
+        DeliveryPolicy.Gate gate = policy == null ? null : policy.gate(notification -> dispatch(notification, null, asyncExecutor, asyncThreshold));
+        DeliveryPolicy.Gate previous = gate == null ? policyMap.remove(notificationName) : policyMap.put(notificationName, gate);
+        if(previous != null) previous.close();
+    }
+
+    /**
+     * <P>Set the delivery policy of the observer of a notification name with a given notify context.</P>
+     *
+     * <P>The observer is registered again, wrapped by the policy, or
+     * unwrapped when the policy is <code>null</code>, so it is notified
+     * after the other observers of its priority.</P>
+     *
+     * @param notificationName the name of the notifications
+     * @param notifyContext the notify context of the observer
+     * @param policy the delivery policy, or <code>null</code> to deliver every notification again
+     */
+    public void setDeliveryPolicy(String notificationName, Object notifyContext, DeliveryPolicy policy) {
+        assert isOwner() : OWNER_MSG;
+        ObserverList observers = observerMap.get(notificationName);
+        ObserverList.Node node = observers != null ? observers.find(notifyContext) : null;
+        if(node == null) return;
+        IObserver observer = DeliveryPolicy.unwrap(node.getObserver());
+        removeObserver(notificationName, notifyContext);
+        registerObserver(notificationName, policy == null ? observer : policy.wrap(observer));
+    }
+
+    /**
+     * <P>Get the number of notifications sent while dispatching, immediately or deferred.</P>
+     *
+     * @return the number of nested notifications
+     */
+    public long getNestedNotifications() {
+        return nestedNotifications.sum();
+    }
+
+    /**
+     * <P>Get the number of notifications rejected at the dispatch depth limit.</P>
+     *
+     * @return the number of rejected notifications
+     */
+    public long getRejectedNotifications() {
+        return rejectedNotifications.sum();
+    }
+
+    /**
+     * <P>Notify the low priority <code>IObservers</code> asynchronously.</P>
+     *
+     * <P>When notifying the observers of a notification, those with a priority
+     * of at least <code>threshold</code>, such as risk checks, are notified
+     * synchronously, and the remaining ones, such as mediators updating a
+     * user interface, are handed to the executor as a single task, once the
+     * others are done. A single-threaded executor keeps the low priority
+     * observers notified in order across notifications.</P>
+     *
+     * <P>Pass a <code>null</code> executor to notify all observers synchronously again.</P>
+     *
+     * @param executor the executor notifying the low priority observers, or <code>null</code>
+     * @param threshold the lowest priority notified synchronously
+     */
+    public void setAsyncDelivery(Executor executor, int threshold) {
+        asyncThreshold = threshold;
+        asyncExecutor = executor;
+    }
+
     /**
      * <P>Remove the observer for a given notifyContext from an observer list for a given Notification name.</P>
      *
@@ -146,26 +532,99 @@ public class View implements IView {
      * @param notifyContext remove the observer with this object as its notifyContext
      */
     public void removeObserver(String notificationName, Object notifyContext) {
+        assert isOwner() : OWNER_MSG;
         // the observer list for the notification under inspection
-        List<IObserver> observers = observerMap.get(notificationName);
-
-        // find the observer for the notifyContext
-        for(int i=0; i<observers.size(); i++) {
-            if(observers.get(i).compareNotifyContext(notifyContext) == true) {
-                // there can only be one Observer for a given notifyContext
-                // in any given Observer list, so remove it and break
-                observers.remove(i);
-                break;
-            }
+        ObserverList observers = observerMap.get(notificationName);
+        if(observers == null) return;
+
+        // look up the node of the notifyContext in the indexes
+        ObserverList.Node node;
+        if(owner != null) {
+            node = unindex(notificationName, notifyContext);
+        } else synchronized (contextMap) {
+            node = unindex(notificationName, notifyContext);
         }
+        if(node != null) observers.remove(node);
 
         // Also, when a Notification's Observer list length falls to
         // zero, delete the notification key from the observer map
-        if(observers.size() == 0) {
+        if(observers.isEmpty()) {
             observerMap.remove(notificationName);
         }
     }
 
+    /**
+     * <P>Remove all the observers with a given notifyContext.</P>
+     *
+     * <P>Costs one step per notification the context observes,
+     * regardless of the number of observers of each notification,
+     * and one per observer registered without a notify context.</P>
+     *
+     * @param notifyContext remove the observers with this object as their notifyContext
+     */
+    public void removeObservers(Object notifyContext) {
+        assert isOwner() : OWNER_MSG;
+        Map<ObserverList.Node, String> nodes;
+        if(owner != null) {
+            nodes = unindex(notifyContext);
+        } else synchronized (contextMap) {
+            nodes = unindex(notifyContext);
+        }
+        nodes.forEach((node, notificationName) -> {
+            ObserverList observers = observerMap.get(notificationName);
+            if(observers == null) return;
+            observers.remove(node);
+            if(observers.isEmpty()) observerMap.remove(notificationName);
+        });
+    }
+
+    /**
+     * <P>Remove the <code>WeakObserver</code>s whose context has been garbage collected.</P>
+     *
+     * <P>Collected observers are also removed lazily, when notifying their
+     * observer list. This sweeps the lists that are rarely notified.</P>
+     *
+     * @return the number of observers removed
+     */
+    public int purgeCollectedObservers() {
+        assert isOwner() : OWNER_MSG;
+        if(!weakObservers) return 0;
+        int count = 0;
+        for(ObserverList observers : observerMap.values()) {
+            count += observers.purge();
+        }
+        observerMap.values().removeIf(ObserverList::isEmpty);
+        if(owner != null) {
+            unindexCollected();
+        } else synchronized (contextMap) {
+            unindexCollected();
+        }
+        return count;
+    }
+
+    /**
+     * <P>Purge the collected <code>WeakObserver</code>s periodically.</P>
+     *
+     * <P>A confined <code>View</code> must be purged from its own thread instead.</P>
+     *
+     * @param scheduler the scheduler running the sweeps
+     * @param period the period between sweeps
+     * @param unit the time unit of the period
+     * @return the future of the sweeps, to cancel them
+     */
+    public ScheduledFuture<?> startSweeper(ScheduledExecutorService scheduler, long period, TimeUnit unit) {
+        return scheduler.scheduleWithFixedDelay(this::purgeCollectedObservers, period, period, unit);
+    }
+
+    /**
+     * <P>Get the number of <code>WeakObserver</code>s removed after their context was collected.</P>
+     *
+     * @return the number of collected observers
+     */
+    public long getCollectedObservers() {
+        return collected.sum();
+    }
+
     /**
      * <P>Register an <code>IMediator</code> instance with the <code>View</code>.</P>
      *
@@ -182,6 +641,7 @@ public class View implements IView {
      * @param mediator a reference to the <code>IMediator</code> instance
      */
     public void registerMediator(IMediator mediator) {
+        assert isOwner() : OWNER_MSG;
         // do not allow re-registration (you must to removeMediator fist)
         if(mediatorMap.get(mediator.getMediatorName()) != null) return;
 
@@ -196,7 +656,7 @@ public class View implements IView {
         // Register Mediator as an observer for each notification of interests
         if(interests.length > 0) {
             // Create Observer referencing this mediator's handlNotification method
-            IObserver observer = new Observer(mediator::handleNotification, mediator);
+            IObserver observer = new Observer(mediator::handleNotification, mediator, mediator.getPriority());
 
             // Register Mediator as Observer for its list of Notification interests
             for(int i=0; i<interests.length; i++) {
@@ -215,6 +675,7 @@ public class View implements IView {
      * @return the <code>IMediator</code> instance previously registered with the given <code>mediatorName</code>.
      */
     public IMediator retrieveMediator(String mediatorName) {
+        assert isOwner() : OWNER_MSG;
         return mediatorMap.get(mediatorName);
     }
 
@@ -225,17 +686,14 @@ public class View implements IView {
      * @return the <code>IMediator</code> that was removed from the <code>View</code>
      */
     public IMediator removeMediator(String mediatorName) {
+        assert isOwner() : OWNER_MSG;
         // Retrieve the named mediator
         IMediator mediator = mediatorMap.get(mediatorName);
 
         if(mediator != null) {
-            // for every notification this mediator is interested in...
-            String[] interests = mediator.listNotificationInterests();
-            for(int i=0; i<interests.length; i++) {
-                // remove the observer linking the mediator
-                // to the notification interest
-                removeObserver(interests[i], mediator);
-            }
+            // remove the observers linking the mediator
+            // to its notification interests
+            removeObservers(mediator);
 
             // remove the mediator from the map
             mediatorMap.remove(mediatorName);
@@ -254,15 +712,35 @@ public class View implements IView {
      * @return whether a Mediator is registered with the given <code>mediatorName</code>.
      */
     public boolean hasMediator(String mediatorName) {
+        assert isOwner() : OWNER_MSG;
         return  mediatorMap.containsKey(mediatorName);
     }
 
+    /**
+     * <P>Check if the calling thread may access this <code>View</code>.</P>
+     *
+     * <P>Called in <code>assert</code> statements, so the check
+     * costs nothing unless assertions are enabled.</P>
+     *
+     * @return false if the <code>View</code> is confined to another thread
+     */
+    protected boolean isOwner() {
+        return owner == null || owner == Thread.currentThread();
+    }
+
     /**
      * <P>Remove an IView instance</P>
      *
+     * <P>The pending timers of its delivery policies are cancelled,
+     * those of the notification names and of the wrapped observers.</P>
+     *
      * @param key of IView instance to remove
      */
     public synchronized static void removeView(String key) {
-        instanceMap.remove(key);
+        IView view = instanceMap.remove(key);
+        if(view instanceof View) {
+            ((View) view).policyMap.values().forEach(DeliveryPolicy.Gate::close);
+            ((View) view).observerMap.values().forEach(ObserverList::cancel);
+        }
     }
 }
@@ -0,0 +1,41 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.interfaces;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * <P>The interface definition for a PureMVC asynchronous Command.</P>
+ *
+ * <P>The <code>Controller</code> runs an asynchronous command on its
+ * command executor, and tracks it until the stage it returns completes,
+ * so a command performing I/O does not block the notifying thread.</P>
+ *
+ * @see org.puremvc.java.multicore.core.Controller Controller
+ * @see org.puremvc.java.multicore.patterns.command.AsyncCommand AsyncCommand
+ */
+public interface IAsyncCommand extends ICommand {
+
+    /**
+     * <P>Execute the <code>IAsyncCommand</code>'s logic to handle a given <code>INotification</code>.</P>
+     *
+     * @param notification an <code>INotification</code> to handle.
+     * @return the stage completing when the command is done
+     */
+    CompletionStage<?> executeAsync(INotification notification);
+
+    /**
+     * <P>Execute the command without waiting for it to complete.</P>
+     *
+     * @param notification an <code>INotification</code> to handle.
+     */
+    default void execute(INotification notification) {
+        executeAsync(notification);
+    }
+
+}
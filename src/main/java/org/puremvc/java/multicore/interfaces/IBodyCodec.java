@@ -0,0 +1,44 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.interfaces;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <P>The interface definition for a PureMVC codec of one type of Notification body.</P>
+ *
+ * <P><code>IBodyCodec</code>s are registered with a <code>NotificationCodec</code>
+ * for the body types an application sends most, so they are written in a
+ * compact binary form instead of through the general <code>IBodySerializer</code>.
+ * An encoded body must be self-delimiting: <code>decode</code> reads exactly
+ * the bytes <code>encode</code> wrote.</P>
+ *
+ * @param <T> the type of the body
+ *
+ * @see org.puremvc.java.multicore.patterns.observer.NotificationCodec NotificationCodec
+ */
+public interface IBodyCodec<T> {
+
+    /**
+     * <P>Encode a body at the position of a buffer.</P>
+     *
+     * @param body the body, never <code>null</code>
+     * @param buffer the buffer to write to
+     * @throws java.nio.BufferOverflowException if the buffer is too small, the caller retries with a larger one
+     */
+    void encode(T body, ByteBuffer buffer);
+
+    /**
+     * <P>Decode a body at the position of a buffer.</P>
+     *
+     * @param buffer the buffer to read from
+     * @return the body
+     */
+    T decode(ByteBuffer buffer);
+
+}
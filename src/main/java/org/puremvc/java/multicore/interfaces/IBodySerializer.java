@@ -0,0 +1,40 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.interfaces;
+
+/**
+ * <P>The interface definition for a PureMVC Notification body serializer.</P>
+ *
+ * <P>Anything that persists or transports <code>INotification</code>s
+ * outside of the core, such as a <code>Journal</code>, leaves the
+ * encoding of the untyped body to an <code>IBodySerializer</code>
+ * supplied by the application. The name and type are encoded by the
+ * framework itself, and a <code>null</code> body is never passed to
+ * the serializer.</P>
+ *
+ * @see org.puremvc.java.multicore.patterns.journal.Journal Journal
+ */
+public interface IBodySerializer {
+
+    /**
+     * <P>Encode a notification body.</P>
+     *
+     * @param body the body of the notification, never <code>null</code>
+     * @return the encoded body
+     */
+    byte[] serialize(Object body);
+
+    /**
+     * <P>Decode a notification body.</P>
+     *
+     * @param bytes the encoded body
+     * @return the body of the notification
+     */
+    Object deserialize(byte[] bytes);
+
+}
@@ -146,4 +146,17 @@ public interface IMediator extends INotifier {
      * <P>Called by the View when the Mediator is removed</P>
      */
     void onRemove();
+
+    /**
+     * <P>Get the priority of the <code>IObserver</code> of this <code>IMediator</code>.</P>
+     *
+     * <P>Override to have a latency-critical mediator notified ahead
+     * of the other observers of its notification interests.</P>
+     *
+     * @return the priority, 0 by default
+     * @see IObserver#getPriority()
+     */
+    default int getPriority() {
+        return 0;
+    }
 }
@@ -76,6 +76,43 @@ public interface INotification {
      */
     String getType();
 
+    /**
+     * <P>Get an <code>INotification</code> that may be kept after it is dispatched.</P>
+     *
+     * <P>A reusable notification is recycled once its dispatch completes,
+     * so an observer keeping a notification, for later or for another
+     * thread, keeps the notification returned by this method.</P>
+     *
+     * @return this notification, or a copy of a reusable one
+     */
+    default INotification retain() {
+        return this;
+    }
+
+    /**
+     * <P>Reply to a request.</P>
+     *
+     * <P>The response completes the future returned by
+     * <code>IRequestingNotifier.request</code>, if this notification is a request
+     * and no reply completed it first.</P>
+     *
+     * @param response the response
+     * @return false if this notification is not a request or was already replied to
+     */
+    default boolean reply(Object response) {
+        return false;
+    }
+
+    /**
+     * <P>Reply to a request with a failure.</P>
+     *
+     * @param error the failure completing the future of the request exceptionally
+     * @return false if this notification is not a request or was already replied to
+     */
+    default boolean replyExceptionally(Throwable error) {
+        return false;
+    }
+
     /**
      * <P>Get the string representation of the <code>INotification</code> instance</P>
      */
@@ -62,6 +62,20 @@ public interface IObserver {
      */
     void setNotifyContext(Object notifyContext);
 
+    /**
+     * <P>Get the notification context.</P>
+     *
+     * <P>The <code>View</code> indexes observers by their notification
+     * context. The default implementation returns <code>null</code>, and
+     * an observer without a context is found by <code>compareNotifyContext</code>
+     * instead.</P>
+     *
+     * @return the notification context (this) of the interested object, or <code>null</code> if unknown
+     */
+    default Object getNotifyContext() {
+        return null;
+    }
+
     /**
      * <P>Notify the interested object.</P>
      *
@@ -77,5 +91,18 @@ public interface IObserver {
      */
     boolean compareNotifyContext(Object object);
 
+    /**
+     * <P>Get the priority of this observer.</P>
+     *
+     * <P>Observers of a notification are notified in order of decreasing
+     * priority, and in order of registration for equal priorities. The
+     * priority is read once, when the observer is registered.</P>
+     *
+     * @return the priority, 0 by default
+     */
+    default int getPriority() {
+        return 0;
+    }
+
 }
 
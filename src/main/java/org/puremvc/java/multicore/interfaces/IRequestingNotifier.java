@@ -0,0 +1,57 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <P>The interface definition for a PureMVC Notifier sending requests.</P>
+ *
+ * <P>An observer of a request replies with <code>INotification.reply</code>,
+ * completing the future returned to the sender.</P>
+ *
+ * @see INotifier INotifier
+ * @see INotification INotification
+ */
+public interface IRequestingNotifier extends INotifier {
+
+    /**
+     * <P>The timeout of requests sent without one, in milliseconds.</P>
+     */
+    long REQUEST_TIMEOUT = 30_000;
+
+    /**
+     * <P>Send a request and get the future of its reply.</P>
+     *
+     * <P>The future completes exceptionally with a <code>TimeoutException</code>
+     * if no observer replies in time.</P>
+     *
+     * @param notificationName the name of the request to send
+     * @param body the body of the request
+     * @param type the type of the request
+     * @param timeout the time to wait for the reply
+     * @param unit the time unit of the timeout
+     * @param <T> the type of the response
+     * @return the future of the response
+     */
+    <T> CompletableFuture<T> request(String notificationName, Object body, String type, long timeout, TimeUnit unit);
+
+    /**
+     * <P>Send a request and get the future of its reply, within the default timeout.</P>
+     *
+     * @param notificationName the name of the request to send
+     * @param body the body of the request
+     * @param <T> the type of the response
+     * @return the future of the response
+     */
+    default <T> CompletableFuture<T> request(String notificationName, Object body) {
+        return request(notificationName, body, null, REQUEST_TIMEOUT, TimeUnit.MILLISECONDS);
+    }
+
+}
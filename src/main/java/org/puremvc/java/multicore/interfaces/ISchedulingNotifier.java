@@ -0,0 +1,50 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.interfaces;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <P>The interface definition for a PureMVC Notifier sending scheduled notifications.</P>
+ *
+ * <P>The <code>Facade</code> schedules notifications on its timing wheel,
+ * and the <code>Notifier</code> forwards them to the <code>Facade</code>
+ * of its core.</P>
+ *
+ * @see INotifier INotifier
+ * @see ITimeout ITimeout
+ * @see org.puremvc.java.multicore.patterns.timer.TimingWheel TimingWheel
+ */
+public interface ISchedulingNotifier extends INotifier {
+
+    /**
+     * <P>Send a <code>INotification</code> after a delay.</P>
+     *
+     * @param notificationName the name of the notification to send
+     * @param body the body of the notification
+     * @param type the type of the notification
+     * @param delay the delay
+     * @param unit the time unit of the delay
+     * @return the timeout, to cancel the notification
+     */
+    ITimeout scheduleNotification(String notificationName, Object body, String type, long delay, TimeUnit unit);
+
+    /**
+     * <P>Send a <code>INotification</code> periodically, after an initial delay.</P>
+     *
+     * @param notificationName the name of the notification to send
+     * @param body the body of the notification
+     * @param type the type of the notification
+     * @param initialDelay the delay of the first notification
+     * @param period the period between notifications
+     * @param unit the time unit of the delay and period
+     * @return the timeout, to cancel the notifications
+     */
+    ITimeout scheduleNotificationAtFixedRate(String notificationName, Object body, String type, long initialDelay, long period, TimeUnit unit);
+
+}
@@ -0,0 +1,43 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.interfaces;
+
+/**
+ * <P>The interface definition for a PureMVC Proxy whose data is included in snapshots.</P>
+ *
+ * <P>A <code>SnapshotStore</code> checkpoints the data of every registered
+ * <code>ISnapshotProxy</code>, and writes a proxy again only when its
+ * version has changed since it was last written. Implementors increment
+ * the version whenever their data changes.</P>
+ *
+ * @see org.puremvc.java.multicore.patterns.journal.SnapshotStore SnapshotStore
+ */
+public interface ISnapshotProxy extends IProxy {
+
+    /**
+     * <P>Get the version of the data.</P>
+     *
+     * @return a number that changes whenever the data changes
+     */
+    long getVersion();
+
+    /**
+     * <P>Encode the data.</P>
+     *
+     * @return the encoded data
+     */
+    byte[] snapshot();
+
+    /**
+     * <P>Replace the data with previously encoded data.</P>
+     *
+     * @param bytes the data encoded by <code>snapshot</code>
+     */
+    void restore(byte[] bytes);
+
+}
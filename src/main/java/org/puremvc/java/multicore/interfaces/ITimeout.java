@@ -0,0 +1,45 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.interfaces;
+
+/**
+ * <P>The interface definition for the handle of a PureMVC scheduled notification.</P>
+ *
+ * <P>Returned by <code>ISchedulingNotifier.scheduleNotification</code> and
+ * <code>scheduleNotificationAtFixedRate</code>, to cancel the
+ * notification before it is sent.</P>
+ *
+ * @see ISchedulingNotifier ISchedulingNotifier
+ * @see org.puremvc.java.multicore.patterns.timer.TimingWheel TimingWheel
+ */
+public interface ITimeout {
+
+    /**
+     * <P>Cancel the timeout, unless it has already expired.</P>
+     *
+     * <P>A periodic timeout never expires, so cancelling it stops it.</P>
+     *
+     * @return false if the timeout had already expired or been cancelled
+     */
+    boolean cancel();
+
+    /**
+     * <P>Check if the timeout was cancelled.</P>
+     *
+     * @return whether the timeout was cancelled
+     */
+    boolean isCancelled();
+
+    /**
+     * <P>Check if the timeout has expired or been cancelled.</P>
+     *
+     * @return whether the timeout is done
+     */
+    boolean isDone();
+
+}
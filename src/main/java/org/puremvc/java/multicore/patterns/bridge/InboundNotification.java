@@ -0,0 +1,49 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.bridge;
+
+import org.puremvc.java.multicore.interfaces.IMediator;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.observer.Notification;
+
+/**
+ * <P>A notification delivered to the local core by a bridge.</P>
+ *
+ * <P>A bridge does not send back out the notifications it delivered
+ * itself, which it recognizes by their type rather than by the thread
+ * they reach it on, so it holds in actor mode and through a
+ * <code>DeliveryPolicy</code> too.</P>
+ */
+class InboundNotification extends Notification {
+
+    // the bridge that delivered the notification
+    protected final IMediator bridge;
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param notification the decoded notification
+     * @param bridge the bridge delivering the notification
+     */
+    InboundNotification(INotification notification, IMediator bridge) {
+        super(notification.getName(), notification.getBody(), notification.getType());
+        this.bridge = bridge;
+    }
+
+    /**
+     * <P>Check if a notification was delivered by a given bridge.</P>
+     *
+     * @param notification the notification
+     * @param bridge the bridge
+     * @return whether the bridge delivered the notification
+     */
+    static boolean isFrom(INotification notification, IMediator bridge) {
+        return notification instanceof InboundNotification && ((InboundNotification) notification).bridge == bridge;
+    }
+
+}
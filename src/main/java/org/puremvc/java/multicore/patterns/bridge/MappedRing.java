@@ -0,0 +1,190 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.bridge;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <P>A single-producer/single-consumer ring buffer of messages in a memory-mapped file.</P>
+ *
+ * <P>Two processes mapping the same file exchange variable-length messages
+ * through it without locks or system calls: exactly one thread, in any
+ * process, may <code>offer</code> and exactly one may <code>poll</code>.
+ * The producer publishes a message by advancing the write position after
+ * writing it, and the consumer releases its space by advancing the read
+ * position after reading it. Each position lives on its own cache line.</P>
+ *
+ * <P>File layout: a header of <code>magic, capacity</code>, the write position
+ * at byte 64, the read position at byte 128 and the data from byte 192. A
+ * message is an <code>int</code> length followed by the payload, aligned to
+ * 8 bytes. A message never wraps around the end of the data: a length of -1
+ * tells the consumer to continue at the start instead.</P>
+ *
+ * <P>The positions are read with acquire and written with release semantics
+ * by <code>Positions</code>, which uses the <code>Unsafe</code> fences, looked
+ * up reflectively, on Java 8 and <code>VarHandle</code>s on Java 21.</P>
+ *
+ * @see SharedMemoryBridge SharedMemoryBridge
+ */
+public class MappedRing {
+
+    protected static final int MAGIC = 0x504D5652;
+
+    protected static final int WRITE_POSITION = 64;
+
+    protected static final int READ_POSITION = 128;
+
+    protected static final int DATA = 192;
+
+    protected static final int PADDING = -1;
+
+    protected FileChannel channel;
+
+    protected MappedByteBuffer buffer;
+
+    // the size of the data area, a power of two
+    protected int capacity;
+
+    protected int mask;
+
+    // the read position to release on the next poll, or -1
+    protected long pending = -1;
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * <P>Maps the ring in <code>path</code>, initializing the file if it is new.
+     * Both processes must use the same capacity.</P>
+     *
+     * @param path the file holding the ring
+     * @param capacity the size of the data area in bytes, a power of two
+     * @throws IllegalArgumentException if capacity is not a power of two
+     * @throws UncheckedIOException if the file cannot be mapped
+     */
+    public MappedRing(Path path, int capacity) {
+        if(capacity <= 0 || Integer.bitCount(capacity) != 1) throw new IllegalArgumentException("MappedRing capacity must be a power of two");
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, DATA + capacity);
+            buffer.order(ByteOrder.nativeOrder());
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        if(buffer.getInt(0) != MAGIC) {
+            buffer.putInt(4, capacity);
+            buffer.putInt(0, MAGIC);
+        } else if(buffer.getInt(4) != capacity) {
+            throw new IllegalArgumentException("MappedRing capacity does not match the existing file");
+        }
+    }
+
+    /**
+     * <P>Offer a message, producer side.</P>
+     *
+     * @param message the message, from its position to its limit, which is left unchanged
+     * @return false if the ring has no room for the message
+     * @throws IllegalArgumentException if the message can never fit
+     */
+    public boolean offer(ByteBuffer message) {
+        int length = message.remaining();
+        int size = align(4 + length);
+        if(size > capacity) throw new IllegalArgumentException("Message too large for MappedRing");
+
+        long write = buffer.getLong(WRITE_POSITION);
+        long read = Positions.getAcquire(buffer, READ_POSITION);
+
+        int index = (int) (write & mask);
+        int toEnd = capacity - index;
+        int needed = size > toEnd ? toEnd + size : size;
+        if(write + needed - read > capacity) return false;
+
+        if(size > toEnd) {
+            buffer.putInt(DATA + index, PADDING);
+            write += toEnd;
+            index = 0;
+        }
+
+        buffer.putInt(DATA + index, length);
+        ByteBuffer target = buffer.duplicate();
+        target.position(DATA + index + 4);
+        target.put(message.duplicate());
+
+        Positions.setRelease(buffer, WRITE_POSITION, write + size);
+        return true;
+    }
+
+    /**
+     * <P>Poll a message, consumer side.</P>
+     *
+     * <P>The returned buffer is a big-endian view of the mapped region that
+     * stays valid only until the next call to <code>poll</code>, since the
+     * producer may then overwrite it.</P>
+     *
+     * @return the payload of the next message, or <code>null</code> if the ring is empty
+     */
+    public ByteBuffer poll() {
+        long read = pending;
+        if(read != -1) release(read);
+
+        read = buffer.getLong(READ_POSITION);
+        long write = Positions.getAcquire(buffer, WRITE_POSITION);
+        if(read == write) return null;
+
+        int index = (int) (read & mask);
+        int length = buffer.getInt(DATA + index);
+        if(length == PADDING) {
+            read += capacity - index;
+            index = 0;
+            length = buffer.getInt(DATA);
+        }
+
+        ByteBuffer payload = buffer.duplicate();
+        payload.position(DATA + index + 4).limit(DATA + index + 4 + length);
+        pending = read + align(4 + length);
+        return payload.slice();
+    }
+
+    /**
+     * <P>Get the number of bytes of the data area in use.</P>
+     *
+     * @return the number of bytes between the read and the write positions
+     */
+    public long size() {
+        return Positions.getAcquire(buffer, WRITE_POSITION) - Positions.getAcquire(buffer, READ_POSITION);
+    }
+
+    /**
+     * <P>Close the channel the ring was mapped from.</P>
+     */
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void release(long read) {
+        Positions.setRelease(buffer, READ_POSITION, read);
+        pending = -1;
+    }
+
+    private static int align(int size) {
+        return (size + 7) & ~7;
+    }
+
+}
@@ -0,0 +1,88 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.bridge;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+/**
+ * <P>Ordered accesses to the positions of a <code>MappedRing</code>.</P>
+ *
+ * <P>Java 8 has no <code>VarHandle</code>, and the positions live in memory
+ * shared with another process, out of reach of the atomic classes. So a
+ * position is read or written plainly, next to the fence of
+ * <code>sun.misc.Unsafe</code> giving it acquire or release semantics: a load
+ * fence after the read, a store fence before the write.</P>
+ *
+ * <P><code>Unsafe</code> is looked up by name and its fences are bound as
+ * <code>MethodHandle</code>s, so no proprietary API is compiled against. The
+ * lookup is reflective: the native-image configuration of the JAR registers
+ * it. The multi-release JAR replaces this class on Java 21 with one using
+ * <code>VarHandle</code> acquire and release modes, without reflection.</P>
+ *
+ * @see MappedRing MappedRing
+ */
+final class Positions {
+
+    private static final MethodHandle LOAD_FENCE;
+    private static final MethodHandle STORE_FENCE;
+
+    static {
+        try {
+            Class<?> type = Class.forName("sun.misc.Unsafe");
+            Field field = type.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            Object unsafe = field.get(null);
+            MethodType fence = MethodType.methodType(void.class);
+            LOAD_FENCE = MethodHandles.lookup().findVirtual(type, "loadFence", fence).bindTo(unsafe);
+            STORE_FENCE = MethodHandles.lookup().findVirtual(type, "storeFence", fence).bindTo(unsafe);
+        } catch (ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    private Positions() {
+    }
+
+    /**
+     * <P>Read a position, keeping the accesses after it from being reordered before it.</P>
+     *
+     * @param buffer the mapped ring
+     * @param index the byte index of the position, 8-byte aligned
+     * @return the position
+     */
+    static long getAcquire(ByteBuffer buffer, int index) {
+        long value = buffer.getLong(index);
+        try {
+            LOAD_FENCE.invokeExact();
+        } catch (Throwable throwable) {
+            throw new AssertionError(throwable);
+        }
+        return value;
+    }
+
+    /**
+     * <P>Write a position, keeping the accesses before it from being reordered after it.</P>
+     *
+     * @param buffer the mapped ring
+     * @param index the byte index of the position, 8-byte aligned
+     * @param value the position
+     */
+    static void setRelease(ByteBuffer buffer, int index, long value) {
+        try {
+            STORE_FENCE.invokeExact();
+        } catch (Throwable throwable) {
+            throw new AssertionError(throwable);
+        }
+        buffer.putLong(index, value);
+    }
+
+}
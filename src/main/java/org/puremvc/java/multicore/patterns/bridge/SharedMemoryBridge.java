@@ -0,0 +1,182 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.bridge;
+
+import org.puremvc.java.multicore.interfaces.IBodySerializer;
+import org.puremvc.java.multicore.interfaces.IFacade;
+import org.puremvc.java.multicore.interfaces.IMediator;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.mediator.Mediator;
+import org.puremvc.java.multicore.patterns.observer.NotificationCodec;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <P>A <code>Mediator</code> bridging notifications between processes on the same host.</P>
+ *
+ * <P>Two <code>SharedMemoryBridge</code>s, one in each process, share a pair
+ * of <code>MappedRing</code> files crosswise: the outbound ring of one is the
+ * inbound ring of the other. Every local notification with one of the given
+ * names is encoded and offered to the outbound ring, and a poller thread
+ * decodes the messages of the inbound ring and delivers them to the local
+ * core with <code>notifyObservers</code>, without a system call on either side.</P>
+ *
+ * <pre>
+ * {@code // process A
+ * facade.registerMediator(new SharedMemoryBridge("Bridge", aToB, bToA, 1 << 20, serializer, "Quote"));
+ * // process B
+ * facade.registerMediator(new SharedMemoryBridge("Bridge", bToA, aToB, 1 << 20, serializer, "Quote"));
+ * }
+ * </pre>
+ *
+ * <P>Notifications delivered from the inbound ring are not sent back out,
+ * in actor mode too. A <code>ByteBuffer</code> body is copied out of the
+ * ring, whose slot is reused after the message is delivered. A message
+ * that fails to decode or to be delivered is reported to the uncaught
+ * exception handler of the poller thread, which moves on to the next one.
+ * A message is a notification encoded by the <code>NotificationCodec</code>,
+ * both processes must configure their codecs alike. Senders wait while the
+ * outbound ring is full.</P>
+ *
+ * @see MappedRing MappedRing
+ * @see NotificationCodec NotificationCodec
+ */
+public class SharedMemoryBridge extends Mediator implements IMediator {
+
+    // the number of empty polls before the poller parks
+    protected static final int SPINS = 1000;
+
+    // how long the idle poller parks
+    protected static final long PARK_NANOS = 50_000;
+
+    protected MappedRing outbound;
+
+    protected MappedRing inbound;
+
+    protected NotificationCodec codec;
+
+    // the names of the bridged notifications
+    protected String[] interests;
+
+    // the facade inbound notifications are delivered to
+    protected IFacade facade;
+
+    // the thread polling the inbound ring
+    protected Thread poller;
+
+    protected volatile boolean running;
+
+    // the reusable encoding buffer of the outbound ring
+    protected ByteBuffer encoded = ByteBuffer.allocate(1024);
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param mediatorName mediator name
+     * @param outbound the ring file this process writes to
+     * @param inbound the ring file this process reads from
+     * @param capacity the size of the data area of each ring, a power of two
+     * @param codec the codec of the notifications
+     * @param interests the names of the notifications to bridge
+     */
+    public SharedMemoryBridge(String mediatorName, Path outbound, Path inbound, int capacity, NotificationCodec codec, String... interests) {
+        super(mediatorName);
+        this.outbound = new MappedRing(outbound, capacity);
+        this.inbound = new MappedRing(inbound, capacity);
+        this.codec = codec;
+        this.interests = interests;
+    }
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param mediatorName mediator name
+     * @param outbound the ring file this process writes to
+     * @param inbound the ring file this process reads from
+     * @param capacity the size of the data area of each ring, a power of two
+     * @param serializer the serializer of the notification bodies
+     * @param interests the names of the notifications to bridge
+     */
+    public SharedMemoryBridge(String mediatorName, Path outbound, Path inbound, int capacity, IBodySerializer serializer, String... interests) {
+        this(mediatorName, outbound, inbound, capacity, new NotificationCodec(serializer), interests);
+    }
+
+    /**
+     * <P>List the names of the bridged notifications.</P>
+     *
+     * @return the names of the bridged notifications
+     */
+    public String[] listNotificationInterests() {
+        return interests;
+    }
+
+    /**
+     * <P>Encode the notification and offer it to the outbound ring.</P>
+     *
+     * @param notification the notification to bridge
+     */
+    public void handleNotification(INotification notification) {
+        // do not echo inbound notifications
+        if(InboundNotification.isFrom(notification, this)) return;
+
+        synchronized (outbound) {
+            encoded = codec.encodeGrowing(notification, encoded);
+            while(!outbound.offer(encoded) && running) {
+                Thread.yield();
+            }
+        }
+    }
+
+    /**
+     * <P>Start polling the inbound ring.</P>
+     */
+    public void onRegister() {
+        facade = getFacade();
+        running = true;
+        poller = new Thread(this::poll, "PureMVC-SharedMemoryBridge-" + mediatorName);
+        poller.setDaemon(true);
+        poller.start();
+    }
+
+    /**
+     * <P>Stop polling and close the rings.</P>
+     */
+    public void onRemove() {
+        running = false;
+        try {
+            poller.join();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (outbound) {
+            outbound.close();
+        }
+        inbound.close();
+    }
+
+    private void poll() {
+        int idle = 0;
+        while(running) {
+            ByteBuffer message = inbound.poll();
+            if(message == null) {
+                if(++idle > SPINS) LockSupport.parkNanos(PARK_NANOS);
+                continue;
+            }
+            idle = 0;
+            try {
+                facade.notifyObservers(new InboundNotification(codec.decode(message, true), this));
+            } catch (Throwable throwable) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+            }
+        }
+    }
+
+}
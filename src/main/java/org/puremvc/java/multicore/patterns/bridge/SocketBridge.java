@@ -0,0 +1,437 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.bridge;
+
+import org.puremvc.java.multicore.interfaces.IBodySerializer;
+import org.puremvc.java.multicore.interfaces.IFacade;
+import org.puremvc.java.multicore.interfaces.IMediator;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.mediator.Mediator;
+import org.puremvc.java.multicore.patterns.observer.NotificationCodec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <P>A <code>Mediator</code> bridging notifications between nodes over TCP.</P>
+ *
+ * <P>A <code>SocketBridge</code> listens for and/or connects to the bridges of
+ * remote cores, all served by one non-blocking selector thread. Every local
+ * notification with one of the given names is encoded into a length-prefixed
+ * frame and queued for each connection, and the selector thread writes the
+ * queued frames of a connection in batches, many frames per write. Frames
+ * read from a connection are decoded and delivered to the local core with
+ * <code>notifyObservers</code> on the selector thread, and are not sent back out,
+ * in actor mode too.</P>
+ *
+ * <pre>
+ * {@code SocketBridge bridge = new SocketBridge("Bridge", serializer, "Quote");
+ * bridge.listen(new InetSocketAddress(9000));
+ * bridge.connect(new InetSocketAddress("node2", 9000));
+ * facade.registerMediator(bridge);
+ * }
+ * </pre>
+ *
+ * <P>Connections opened with <code>connect</code> are reestablished after
+ * <code>reconnectDelay</code> milliseconds when they fail or close, frames
+ * queued meanwhile are kept, up to <code>MAX_QUEUED</code> per connection.
+ * A frame is an <code>int</code> length followed by the notification
+ * encoded by the <code>NotificationCodec</code>. A <code>ByteBuffer</code>
+ * body is copied out of the read buffer, which is reused for the next
+ * frames. A frame that fails to decode or to be delivered is reported to
+ * the uncaught exception handler of the selector thread, which moves on
+ * to the next one.</P>
+ *
+ * @see SharedMemoryBridge SharedMemoryBridge
+ * @see NotificationCodec NotificationCodec
+ */
+public class SocketBridge extends Mediator implements IMediator {
+
+    /**
+     * <P>The maximum number of frames queued for a connection.</P>
+     */
+    public static final int MAX_QUEUED = 65536;
+
+    /**
+     * <P>The maximum size of a frame in bytes.</P>
+     */
+    public static final int MAX_FRAME = 16 * 1024 * 1024;
+
+    protected NotificationCodec codec;
+
+    // the names of the bridged notifications
+    protected String[] interests;
+
+    // how long to wait before reconnecting, in milliseconds
+    protected long reconnectDelay;
+
+    protected Selector selector;
+
+    protected ServerSocketChannel server;
+
+    protected List<SocketPeer> peers = new CopyOnWriteArrayList<>();
+
+    // the facade inbound notifications are delivered to
+    protected IFacade facade;
+
+    // the selector thread
+    protected Thread thread;
+
+    protected volatile boolean running;
+
+    // whether the selector has already been woken up for new frames
+    protected final AtomicBoolean wakeupPending = new AtomicBoolean();
+
+    // the reusable encoding buffer
+    protected ByteBuffer encoded = ByteBuffer.allocate(1024);
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param mediatorName mediator name
+     * @param codec the codec of the notifications
+     * @param reconnectDelay how long to wait before reconnecting, in milliseconds
+     * @param interests the names of the notifications to bridge
+     * @throws UncheckedIOException if the selector cannot be opened
+     */
+    public SocketBridge(String mediatorName, NotificationCodec codec, long reconnectDelay, String... interests) {
+        super(mediatorName);
+        this.codec = codec;
+        this.reconnectDelay = reconnectDelay;
+        this.interests = interests;
+        try {
+            selector = Selector.open();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param mediatorName mediator name
+     * @param serializer the serializer of the notification bodies
+     * @param interests the names of the notifications to bridge
+     */
+    public SocketBridge(String mediatorName, IBodySerializer serializer, String... interests) {
+        this(mediatorName, new NotificationCodec(serializer), 1000, interests);
+    }
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param mediatorName mediator name
+     * @param serializer the serializer of the notification bodies
+     * @param reconnectDelay how long to wait before reconnecting, in milliseconds
+     * @param interests the names of the notifications to bridge
+     */
+    public SocketBridge(String mediatorName, IBodySerializer serializer, long reconnectDelay, String... interests) {
+        this(mediatorName, new NotificationCodec(serializer), reconnectDelay, interests);
+    }
+
+    /**
+     * <P>Accept connections from remote bridges.</P>
+     *
+     * <P>Call before registering the bridge.</P>
+     *
+     * @param address the local address to listen on, port 0 for any free port
+     * @throws UncheckedIOException if the address cannot be bound
+     */
+    public void listen(InetSocketAddress address) {
+        try {
+            server = ServerSocketChannel.open();
+            server.bind(address);
+            server.configureBlocking(false);
+            server.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * <P>Get the address the bridge listens on.</P>
+     *
+     * @return the bound address, or <code>null</code> if not listening
+     */
+    public InetSocketAddress getLocalAddress() {
+        try {
+            return server == null ? null : (InetSocketAddress) server.getLocalAddress();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * <P>Connect to a remote bridge, reconnecting whenever the connection is lost.</P>
+     *
+     * @param address the address of the remote bridge
+     */
+    public void connect(InetSocketAddress address) {
+        peers.add(new SocketPeer(address));
+        selector.wakeup();
+    }
+
+    /**
+     * <P>Get the number of established connections.</P>
+     *
+     * @return the number of established connections
+     */
+    public int getConnectionCount() {
+        int count = 0;
+        for(SocketPeer peer : peers) {
+            if(peer.connected) count++;
+        }
+        return count;
+    }
+
+    /**
+     * <P>List the names of the bridged notifications.</P>
+     *
+     * @return the names of the bridged notifications
+     */
+    public String[] listNotificationInterests() {
+        return interests;
+    }
+
+    /**
+     * <P>Encode the notification into a frame and queue it for every connection.</P>
+     *
+     * @param notification the notification to bridge
+     */
+    public void handleNotification(INotification notification) {
+        // do not echo inbound notifications
+        if(InboundNotification.isFrom(notification, this)) return;
+
+        ByteBuffer frame;
+        synchronized (this) {
+            encoded = codec.encodeGrowing(notification, encoded);
+            frame = ByteBuffer.allocate(4 + encoded.remaining());
+            frame.putInt(encoded.remaining()).put(encoded).flip();
+        }
+
+        for(SocketPeer peer : peers) {
+            if(peer.frameCount.get() >= MAX_QUEUED) continue;
+            peer.frames.add(frame.duplicate());
+            peer.frameCount.incrementAndGet();
+        }
+        if(wakeupPending.compareAndSet(false, true)) selector.wakeup();
+    }
+
+    /**
+     * <P>Start the selector thread.</P>
+     */
+    public void onRegister() {
+        facade = getFacade();
+        running = true;
+        thread = new Thread(this::run, "PureMVC-SocketBridge-" + mediatorName);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * <P>Stop the selector thread and close every connection.</P>
+     */
+    public void onRemove() {
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        try {
+            while(running) {
+                wakeupPending.set(false);
+                long now = System.nanoTime();
+                for(SocketPeer peer : peers) {
+                    if(peer.channel == null && peer.remote != null && now - peer.reconnectAt >= 0) open(peer);
+                    try {
+                        if(peer.connected && peer.frameCount.get() > 0) flush(peer);
+                    } catch (IOException exception) {
+                        close(peer);
+                    }
+                }
+
+                selector.select(Math.max(1, reconnectDelay / 2));
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while(keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if(!key.isValid()) continue;
+                    if(key.isAcceptable()) {
+                        try {
+                            accept();
+                        } catch (IOException exception) {
+                            report(exception);
+                        }
+                        continue;
+                    }
+                    SocketPeer peer = (SocketPeer) key.attachment();
+                    try {
+                        if(key.isConnectable()) finishConnect(peer);
+                        if(key.isValid() && key.isReadable()) read(peer);
+                        if(key.isValid() && key.isWritable()) flush(peer);
+                    } catch (IOException exception) {
+                        close(peer);
+                    } catch (RuntimeException exception) {
+                        report(exception);
+                        close(peer);
+                    }
+                }
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } finally {
+            for(SocketPeer peer : peers) {
+                close(peer);
+            }
+            try {
+                if(server != null) server.close();
+                selector.close();
+            } catch (IOException exception) {
+                // closing anyway
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = server.accept();
+        if(channel == null) return;
+        SocketPeer peer = new SocketPeer(null);
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        peer.channel = channel;
+        peer.key = channel.register(selector, SelectionKey.OP_READ, peer);
+        peer.connected = true;
+        peers.add(peer);
+    }
+
+    private void open(SocketPeer peer) {
+        try {
+            SocketChannel channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            peer.channel = channel;
+            if(channel.connect(peer.remote)) {
+                peer.key = channel.register(selector, SelectionKey.OP_READ, peer);
+                peer.connected = true;
+            } else {
+                peer.key = channel.register(selector, SelectionKey.OP_CONNECT, peer);
+            }
+        } catch (IOException exception) {
+            close(peer);
+        }
+    }
+
+    private void finishConnect(SocketPeer peer) throws IOException {
+        if(!peer.channel.finishConnect()) return;
+        peer.key.interestOps(SelectionKey.OP_READ);
+        peer.connected = true;
+    }
+
+    // write as many queued frames as fit in the batch buffer with each write
+    private void flush(SocketPeer peer) throws IOException {
+        while(true) {
+            ByteBuffer frame;
+            while((frame = peer.frames.peek()) != null) {
+                if(frame.remaining() > peer.writeBuffer.remaining()) {
+                    if(peer.writeBuffer.position() > 0) break;
+                    peer.writeBuffer = ByteBuffer.allocateDirect(frame.remaining());
+                }
+                peer.writeBuffer.put(frame);
+                peer.frames.poll();
+                peer.frameCount.decrementAndGet();
+            }
+
+            peer.writeBuffer.flip();
+            peer.channel.write(peer.writeBuffer);
+            boolean complete = !peer.writeBuffer.hasRemaining();
+            peer.writeBuffer.compact();
+
+            if(!complete) {
+                peer.key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                return;
+            }
+            if(peer.frames.isEmpty()) {
+                peer.key.interestOps(SelectionKey.OP_READ);
+                return;
+            }
+        }
+    }
+
+    // decode and deliver every complete frame read so far
+    private void read(SocketPeer peer) throws IOException {
+        if(peer.channel.read(peer.readBuffer) < 0) throw new IOException("Connection closed");
+
+        ByteBuffer buffer = peer.readBuffer;
+        buffer.flip();
+        while(buffer.remaining() >= 4) {
+            int length = buffer.getInt(buffer.position());
+            if(length < 0 || length > MAX_FRAME) throw new IOException("Invalid frame length " + length);
+            if(buffer.remaining() < 4 + length) break;
+
+            ByteBuffer frame = buffer.duplicate();
+            frame.position(buffer.position() + 4).limit(buffer.position() + 4 + length);
+            buffer.position(buffer.position() + 4 + length);
+            try {
+                facade.notifyObservers(new InboundNotification(codec.decode(frame.slice(), true), this));
+            } catch (Throwable throwable) {
+                report(throwable);
+            }
+        }
+        buffer.compact();
+
+        // grow the buffer for a frame that does not fit
+        if(buffer.position() >= 4 && buffer.getInt(0) + 4 > buffer.capacity()) {
+            ByteBuffer larger = ByteBuffer.allocate(buffer.getInt(0) + 4);
+            buffer.flip();
+            larger.put(buffer);
+            peer.readBuffer = larger;
+        }
+    }
+
+    // report a failure to the uncaught exception handler of the selector thread, which keeps running
+    private void report(Throwable throwable) {
+        Thread current = Thread.currentThread();
+        current.getUncaughtExceptionHandler().uncaughtException(current, throwable);
+    }
+
+    private void close(SocketPeer peer) {
+        peer.connected = false;
+        try {
+            if(peer.channel != null) peer.channel.close();
+        } catch (IOException exception) {
+            // closing anyway
+        }
+        peer.channel = null;
+        peer.key = null;
+        peer.readBuffer.clear();
+        peer.writeBuffer.clear();
+        if(peer.remote == null) {
+            peers.remove(peer);
+        } else {
+            peer.reconnectAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(reconnectDelay);
+        }
+    }
+
+}
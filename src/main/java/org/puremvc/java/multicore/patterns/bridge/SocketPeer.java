@@ -0,0 +1,52 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.bridge;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <P>A connection of a <code>SocketBridge</code> to a remote node.</P>
+ *
+ * <P>Only the frame queue is shared with sending threads,
+ * everything else belongs to the selector thread.</P>
+ *
+ * @see SocketBridge SocketBridge
+ */
+class SocketPeer {
+
+    // the address to reconnect to, or null for an accepted connection
+    final InetSocketAddress remote;
+
+    // the frames waiting to be written
+    final Queue<ByteBuffer> frames = new ConcurrentLinkedQueue<>();
+    final AtomicInteger frameCount = new AtomicInteger();
+
+    SocketChannel channel;
+    SelectionKey key;
+    volatile boolean connected;
+
+    // when to reconnect, in System.nanoTime
+    long reconnectAt;
+
+    // the batch being written, in fill mode
+    ByteBuffer writeBuffer = ByteBuffer.allocateDirect(64 * 1024);
+
+    // the bytes read and not yet decoded, in fill mode
+    ByteBuffer readBuffer = ByteBuffer.allocate(64 * 1024);
+
+    SocketPeer(InetSocketAddress remote) {
+        this.remote = remote;
+    }
+
+}
@@ -0,0 +1,47 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+import org.puremvc.java.multicore.interfaces.IAsyncCommand;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.observer.Notifier;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * <P>A base <code>IAsyncCommand</code> implementation.</P>
+ *
+ * <P>Your subclass should override the <code>executeAsync</code>
+ * method where your business logic will handle the <code>INotification</code>,
+ * returning the stage of its asynchronous work:</P>
+ *
+ * <pre>
+ * {@code public CompletionStage<?> executeAsync(INotification notification) {
+ *     return client.fetch((String) notification.getBody())
+ *         .thenAccept(quote -> sendNotification("QuoteFetched", quote));
+ * }
+ * }
+ * </pre>
+ *
+ * @see org.puremvc.java.multicore.core.Controller Controller
+ * @see SimpleCommand SimpleCommand
+ */
+public class AsyncCommand extends Notifier implements IAsyncCommand {
+
+    /**
+     * <P>Fulfill the use-case initiated by the given <code>INotification</code>, asynchronously.</P>
+     *
+     * @param notification the <code>INotification</code> to handle.
+     * @return the stage completing when the use-case is done
+     */
+    public CompletionStage<?> executeAsync(INotification notification) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+}
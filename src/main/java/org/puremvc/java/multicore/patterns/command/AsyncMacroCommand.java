@@ -0,0 +1,227 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+import org.puremvc.java.multicore.interfaces.IAsyncCommand;
+import org.puremvc.java.multicore.interfaces.ICommand;
+import org.puremvc.java.multicore.interfaces.IFacade;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.facade.Facade;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * <P>A base <code>IAsyncCommand</code> implementation that executes other <code>ICommand</code>s as a pipeline.</P>
+ *
+ * <P>Like a <code>MacroCommand</code>, an <code>AsyncMacroCommand</code>
+ * executes its <i>SubCommands</i> in First In/First Out (FIFO) order, each
+ * passed the original <code>INotification</code>, but each step starts
+ * when the stage of the previous one completes, on the executor of the
+ * step. A CPU-bound step may run on a compute pool, a step waiting on I/O
+ * on a virtual thread pool, and a step updating the core on the thread of
+ * the core, with <code>CORE</code>. No thread is blocked waiting between
+ * steps:</P>
+ *
+ * <pre>
+ * {@code protected void initializeMacroCommand() {
+ *     addSubCommand(() -> new FetchOrderCommand(), io);
+ *     addSubCommand(() -> new PriceOrderCommand(), compute, () -> new ReleaseOrderCommand());
+ *     addSubCommand(() -> new StoreOrderCommand(), CORE);
+ * }
+ * }
+ * </pre>
+ *
+ * <P>An <code>IAsyncCommand</code> step completes with its stage, any
+ * other <code>ICommand</code> step when its <code>execute</code> returns.
+ * When a step fails, the remaining steps are skipped and
+ * <code>compensate</code> is called, which by default executes the
+ * compensations of the completed steps in reverse order. The stage of
+ * the pipeline then fails with the error of the step.</P>
+ *
+ * @see MacroCommand MacroCommand
+ * @see org.puremvc.java.multicore.core.Controller Controller
+ */
+public class AsyncMacroCommand extends AsyncCommand {
+
+    /**
+     * <P>The executor of the steps running on the thread of the core, its
+     * actor in actor mode, or the thread completing the previous step otherwise.</P>
+     */
+    protected static final Executor CORE = Runnable::run;
+
+    /**
+     * <P>A step of the pipeline.</P>
+     */
+    protected static class Step {
+
+        protected final Supplier<ICommand> factory;
+        protected final Executor executor;
+        protected final Supplier<ICommand> compensation;
+
+        protected Step(Supplier<ICommand> factory, Executor executor, Supplier<ICommand> compensation) {
+            this.factory = factory;
+            this.executor = executor;
+            this.compensation = compensation;
+        }
+
+    }
+
+    private final List<Step> subCommands = new ArrayList<>();
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * <P>You should not need to define a constructor,
+     * instead, override the <code>initializeMacroCommand</code>
+     * method.</P>
+     */
+    public AsyncMacroCommand() {
+        initializeMacroCommand();
+    }
+
+    /**
+     * <P>Initialize the <code>AsyncMacroCommand</code>.</P>
+     *
+     * <P>In your subclass, override this method to add the steps
+     * of the pipeline with <code>addSubCommand</code>.</P>
+     */
+    protected void initializeMacroCommand() {
+    }
+
+    /**
+     * <P>Add a <i>SubCommand</i> running on an executor, with a compensation.</P>
+     *
+     * @param factory a reference to the factory of the <code>ICommand</code>
+     * @param executor the executor of the step, <code>CORE</code>, or <code>null</code> to run on the thread completing the previous step
+     * @param compensation the factory of the <code>ICommand</code> undoing the step, or <code>null</code>
+     */
+    protected void addSubCommand(Supplier<ICommand> factory, Executor executor, Supplier<ICommand> compensation) {
+        subCommands.add(new Step(factory, executor, compensation));
+    }
+
+    /**
+     * <P>Add a <i>SubCommand</i> running on an executor.</P>
+     *
+     * @param factory a reference to the factory of the <code>ICommand</code>
+     * @param executor the executor of the step, <code>CORE</code>, or <code>null</code> to run on the thread completing the previous step
+     */
+    protected void addSubCommand(Supplier<ICommand> factory, Executor executor) {
+        addSubCommand(factory, executor, null);
+    }
+
+    /**
+     * <P>Add a <i>SubCommand</i> running on the thread completing the previous step.</P>
+     *
+     * @param factory a reference to the factory of the <code>ICommand</code>
+     */
+    protected void addSubCommand(Supplier<ICommand> factory) {
+        addSubCommand(factory, null, null);
+    }
+
+    /**
+     * <P>Execute the pipeline of <i>SubCommands</i>.</P>
+     *
+     * @param notification the <code>INotification</code> object to be passed to each <i>SubCommand</i>.
+     * @return the stage completing when the last step completes, or failing with the first failed step
+     */
+    public CompletionStage<?> executeAsync(INotification notification) {
+        INotification retained = notification.retain();
+        Executor core = getCoreExecutor();
+        int[] completed = new int[1];
+
+        CompletableFuture<Object> pipeline = CompletableFuture.completedFuture(null);
+        for(Step step : subCommands) {
+            Executor executor = step.executor == CORE ? core : step.executor;
+            pipeline = executor == null
+                    ? pipeline.thenCompose(ignored -> run(step, retained, completed))
+                    : pipeline.thenComposeAsync(ignored -> run(step, retained, completed), executor);
+        }
+
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        pipeline.whenComplete((value, error) -> {
+            if(error == null) {
+                result.complete(value);
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            compensate(retained, cause, completed[0]).whenComplete((ignored, compensationError) -> {
+                if(compensationError != null) cause.addSuppressed(compensationError);
+                result.completeExceptionally(cause);
+            });
+        });
+        return result;
+    }
+
+    // run a step, counting it once its stage completes
+    private CompletableFuture<Object> run(Step step, INotification notification, int[] completed) {
+        ICommand command = step.factory.get();
+        command.initializeNotifier(multitonKey);
+        CompletableFuture<Object> stage = stage(command, notification);
+        return stage.thenApply(value -> {
+            completed[0]++;
+            return value;
+        });
+    }
+
+    /**
+     * <P>Undo the completed steps of a failed pipeline.</P>
+     *
+     * <P>Override to handle the failure otherwise. By default, the
+     * compensations of the completed steps are executed in reverse
+     * order, on the thread of the failure, each after the previous
+     * one completes.</P>
+     *
+     * @param notification the <code>INotification</code> of the pipeline, passed to each compensation
+     * @param error the error of the failed step
+     * @param completedSteps the number of steps completed before the failure
+     * @return the stage completing when the compensations are done
+     */
+    protected CompletionStage<?> compensate(INotification notification, Throwable error, int completedSteps) {
+        CompletableFuture<Object> compensations = CompletableFuture.completedFuture(null);
+        for(int i = completedSteps - 1; i >= 0; i--) {
+            Supplier<ICommand> compensation = subCommands.get(i).compensation;
+            if(compensation == null) continue;
+            compensations = compensations.thenCompose(ignored -> {
+                ICommand command = compensation.get();
+                command.initializeNotifier(multitonKey);
+                return stage(command, notification);
+            });
+        }
+        return compensations;
+    }
+
+    // execute a command, as the stage of its completion
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Object> stage(ICommand command, INotification notification) {
+        try {
+            if(command instanceof IAsyncCommand) {
+                CompletionStage<?> stage = ((IAsyncCommand) command).executeAsync(notification);
+                return stage != null ? (CompletableFuture<Object>) stage.toCompletableFuture() : CompletableFuture.completedFuture(null);
+            }
+            command.execute(notification);
+            return CompletableFuture.completedFuture(null);
+        } catch (Throwable throwable) {
+            CompletableFuture<Object> failed = new CompletableFuture<>();
+            failed.completeExceptionally(throwable);
+            return failed;
+        }
+    }
+
+    // the executor of the thread of the core, null to run on the thread completing the previous step
+    private Executor getCoreExecutor() {
+        IFacade facade = getFacade();
+        return facade instanceof Facade && ((Facade) facade).isActor() ? ((Facade) facade).getExecutor() : null;
+    }
+
+}
@@ -11,7 +11,8 @@ import org.puremvc.java.multicore.interfaces.ICommand;
 import org.puremvc.java.multicore.interfaces.INotification;
 import org.puremvc.java.multicore.patterns.observer.Notifier;
 
-import java.util.Vector;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.function.Supplier;
 
 /**
@@ -38,7 +39,7 @@ import java.util.function.Supplier;
  */
 public class MacroCommand extends Notifier implements ICommand {
 
-    private Vector<Supplier<ICommand>> subCommands;
+    private Deque<Supplier<ICommand>> subCommands;
 
     /**
      * <P>Constructor.</P>
@@ -51,7 +52,7 @@ public class MacroCommand extends Notifier implements ICommand {
      * sure to call <code>super()</code>.</P>
      */
     public MacroCommand() {
-        subCommands = new Vector<Supplier<ICommand>>();
+        subCommands = new ArrayDeque<>();
         initializeMacroCommand();
     }
 
@@ -102,7 +103,7 @@ public class MacroCommand extends Notifier implements ICommand {
      */
     public void execute(INotification notification) {
         while(!subCommands.isEmpty()) {
-            ICommand command = subCommands.remove(0).get();
+            ICommand command = subCommands.poll().get();
             command.initializeNotifier(multitonKey);
             command.execute(notification);
         }
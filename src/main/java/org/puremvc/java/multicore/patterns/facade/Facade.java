@@ -11,11 +11,28 @@ import org.puremvc.java.multicore.core.Controller;
 import org.puremvc.java.multicore.core.Model;
 import org.puremvc.java.multicore.core.View;
 import org.puremvc.java.multicore.interfaces.*;
+import org.puremvc.java.multicore.patterns.journal.Journal;
+import org.puremvc.java.multicore.patterns.journal.SnapshotStore;
 import org.puremvc.java.multicore.patterns.observer.Notification;
+import org.puremvc.java.multicore.patterns.observer.PooledNotification;
+import org.puremvc.java.multicore.patterns.observer.RequestNotification;
+import org.puremvc.java.multicore.patterns.pipes.Mailbox;
+import org.puremvc.java.multicore.patterns.timer.TimingWheel;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
@@ -25,7 +42,7 @@ import java.util.function.Supplier;
  * @see org.puremvc.java.multicore.core.View View
  * @see org.puremvc.java.multicore.core.Controller Controller
  */
-public class Facade implements IFacade {
+public class Facade implements IFacade, ISchedulingNotifier, IRequestingNotifier {
 
     // References to Model, View and Controller
     protected IController controller;
@@ -35,11 +52,39 @@ public class Facade implements IFacade {
     // The Multiton Key for this app
     protected String multitonKey;
 
+    // The optional Journal of this core
+    protected volatile Journal journal;
+
+    // The observer filter applied while replaying a Journal
+    protected volatile Predicate<IObserver> replayFilter;
+
+    // The Mailbox running this core in actor mode, null otherwise
+    protected volatile Mailbox actor;
+
+    // Whether the Model, View and Controller are confined to the constructing thread
+    protected boolean confined;
+
+    // Whether sendNotification dispatches reusable notifications
+    protected volatile boolean pooling;
+
+    // The scheduled notifications of this core, cancelled by removeCore
+    protected final Set<ITimeout> timeouts = ConcurrentHashMap.newKeySet();
+
+    // The number of scheduled notifications at which the done ones are purged
+    protected volatile int purgeThreshold = 64;
+
+    // The timeout of requests sent without one, in milliseconds
+    protected volatile long requestTimeout = REQUEST_TIMEOUT;
+
     // The Multiton Facade instanceMap.
     protected static Map<String, IFacade> instanceMap = new HashMap<>();
 
     // Message Constants
     protected final String MULTITON_MSG = "Facade instance for this Multiton key already constructed!";
+    protected final String ACTOR_MSG = "Mailbox of this core is full or closed!";
+    protected final String TIMEOUT_MSG = "No reply to request: ";
+    protected final String REPLAY_MSG = "Replaying with a filter needs the View of this core!";
+    protected final String CHECKPOINT_MSG = "Checkpoints need the Model of this core!";
 
     /**
      * <P>Constructor.</P>
@@ -55,7 +100,30 @@ public class Facade implements IFacade {
      *
      */
     public Facade(String key) {
+        this(key, false);
+    }
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * <P>The Model, View and Controller of a confined core belong to the
+     * thread that constructs the core, and keep their observers and added
+     * commands in plain, unsynchronized collections. When assertions are
+     * enabled, an access from another thread fails fast with an
+     * <code>AssertionError</code>.</P>
+     *
+     * <pre>
+     * {@code Facade.getInstance("EventLoopCore", key -> new Facade(key, true));
+     * }
+     * </pre>
+     *
+     * @param key multitonKey
+     * @param confined whether to confine the core to the constructing thread
+     * @throws Error Error if instance for this Multiton key has already been constructed
+     */
+    public Facade(String key, boolean confined) {
         if(instanceMap.get(key) != null) throw new Error(MULTITON_MSG);
+        this.confined = confined;
         initializeNotifier(key);
         instanceMap.put(key, this);
         initializeFacade();
@@ -106,7 +174,7 @@ public class Facade implements IFacade {
      */
     protected void initializeController() {
         if(controller != null) return;
-        controller = Controller.getInstance(multitonKey, key -> new Controller(key));
+        controller = Controller.getInstance(multitonKey, key -> new Controller(key, confined));
     }
 
     /**
@@ -134,7 +202,7 @@ public class Facade implements IFacade {
      */
     protected void initializeModel() {
         if(model != null) return;
-        model = Model.getInstance(multitonKey, key -> new Model(key));
+        model = Model.getInstance(multitonKey, key -> new Model(key, confined));
     }
 
     /**
@@ -161,7 +229,7 @@ public class Facade implements IFacade {
      */
     protected void initializeView() {
         if(view != null) return;
-        view = View.getInstance(multitonKey, key -> new View(key));
+        view = View.getInstance(multitonKey, key -> new View(key, confined));
     }
 
     /**
@@ -171,7 +239,7 @@ public class Facade implements IFacade {
      * @param controllerSupplier supplier that returns <code>IController</code>
      */
     public void registerCommand(String notificationName, Supplier<ICommand> controllerSupplier) {
-        controller.registerCommand(notificationName, controllerSupplier);
+        call(() -> { controller.registerCommand(notificationName, controllerSupplier); return null; });
     }
 
     /**
@@ -180,7 +248,7 @@ public class Facade implements IFacade {
      * @param notificationName the name of the <code>INotification</code> to remove the <code>ICommand</code> mapping for
      */
     public void removeCommand(String notificationName) {
-        controller.removeCommand(notificationName);
+        call(() -> { controller.removeCommand(notificationName); return null; });
     }
 
     /**
@@ -199,7 +267,7 @@ public class Facade implements IFacade {
      * @param proxy the <code>IProxy</code> instance to be registered with the <code>Model</code>.
      */
     public void registerProxy(IProxy proxy) {
-        model.registerProxy(proxy);
+        call(() -> { model.registerProxy(proxy); return null; });
     }
 
     /**
@@ -219,7 +287,7 @@ public class Facade implements IFacade {
      * @return the <code>IProxy</code> that was removed from the <code>Model</code>
      */
     public IProxy removeProxy(String proxyName) {
-        return model.removeProxy(proxyName);
+        return call(() -> model.removeProxy(proxyName));
     }
 
     /**
@@ -238,7 +306,7 @@ public class Facade implements IFacade {
      * @param mediator a reference to the <code>IMediator</code>
      */
     public void registerMediator(IMediator mediator) {
-        view.registerMediator(mediator);
+        call(() -> { view.registerMediator(mediator); return null; });
     }
 
     /**
@@ -258,7 +326,7 @@ public class Facade implements IFacade {
      * @return the <code>IMediator</code> that was removed from the <code>View</code>
      */
     public IMediator removeMediator(String mediatorName) {
-        return view.removeMediator(mediatorName);
+        return call(() -> view.removeMediator(mediatorName));
     }
 
     /**
@@ -282,7 +350,152 @@ public class Facade implements IFacade {
      * @param type the type of the notification
      */
     public void sendNotification(String notificationName, Object body, String type) {
-        notifyObservers(new Notification(notificationName, body, type));
+        if(!pooling) {
+            notifyObservers(new Notification(notificationName, body, type));
+            return;
+        }
+        PooledNotification notification = PooledNotification.acquire(notificationName, body, type);
+        try {
+            notifyObservers(notification);
+        } finally {
+            notification.release();
+        }
+    }
+
+    /**
+     * <P>Send an <code>INotification</code> after a delay.</P>
+     *
+     * <P>The notification is sent by the timing wheel thread, so a core
+     * sending scheduled notifications should run in actor mode, or have
+     * observers safe to notify from another thread. The notification is
+     * cancelled if the core is removed first.</P>
+     *
+     * @param notificationName the name of the notification to send
+     * @param body the body of the notification
+     * @param type the type of the notification
+     * @param delay the delay
+     * @param unit the time unit of the delay
+     * @return the timeout, to cancel the notification
+     */
+    public ITimeout scheduleNotification(String notificationName, Object body, String type, long delay, TimeUnit unit) {
+        return track(getTimingWheel().schedule(() -> sendNotification(notificationName, body, type), delay, unit));
+    }
+
+    /**
+     * <P>Send an <code>INotification</code> periodically, after an initial delay.</P>
+     *
+     * <P>The notifications are sent by the timing wheel thread, until
+     * the timeout is cancelled or the core is removed.</P>
+     *
+     * @param notificationName the name of the notification to send
+     * @param body the body of the notification
+     * @param type the type of the notification
+     * @param initialDelay the delay of the first notification
+     * @param period the period between notifications
+     * @param unit the time unit of the delay and period
+     * @return the timeout, to cancel the notifications
+     */
+    public ITimeout scheduleNotificationAtFixedRate(String notificationName, Object body, String type, long initialDelay, long period, TimeUnit unit) {
+        return track(getTimingWheel().scheduleAtFixedRate(() -> sendNotification(notificationName, body, type), initialDelay, period, unit));
+    }
+
+    /**
+     * <P>Send a request and get the future of its reply.</P>
+     *
+     * <P>A <code>RequestNotification</code> is sent, carrying the future
+     * completed by the first reply of an observer, so no reply notification
+     * or correlation identifier is needed, and the stages depending on the
+     * reply are composed without blocking:</P>
+     *
+     * <pre>
+     * {@code request("GetQuote", symbol).thenAccept(quote -> sendNotification("QuoteReady", quote));
+     * }
+     * </pre>
+     *
+     * <P>An observer throwing fails the future rather than the caller. The
+     * future fails with a <code>TimeoutException</code> if no observer
+     * replies in time. The dependent stages run on the replying thread,
+     * or on the timing wheel thread for a timeout.</P>
+     *
+     * @param notificationName the name of the request to send
+     * @param body the body of the request
+     * @param type the type of the request
+     * @param timeout the time to wait for the reply
+     * @param unit the time unit of the timeout
+     * @param <T> the type of the response
+     * @return the future of the response
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> request(String notificationName, Object body, String type, long timeout, TimeUnit unit) {
+        RequestNotification request = new RequestNotification(notificationName, body, type);
+        CompletableFuture<Object> future = request.getFuture();
+        ITimeout timer = getTimingWheel().schedule(() -> future.completeExceptionally(new TimeoutException(TIMEOUT_MSG + notificationName)), timeout, unit);
+        future.whenComplete((response, error) -> timer.cancel());
+        try {
+            notifyObservers(request);
+        } catch (RuntimeException exception) {
+            future.completeExceptionally(exception);
+        }
+        return (CompletableFuture<T>) (CompletableFuture<?>) future;
+    }
+
+    /**
+     * <P>Send a request and get the future of its reply, within the default timeout.</P>
+     *
+     * @param notificationName the name of the request to send
+     * @param body the body of the request
+     * @param <T> the type of the response
+     * @return the future of the response
+     */
+    public <T> CompletableFuture<T> request(String notificationName, Object body) {
+        return request(notificationName, body, null, requestTimeout, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * <P>Set the timeout of requests sent without one.</P>
+     *
+     * @param timeout the time to wait for a reply
+     * @param unit the time unit of the timeout
+     */
+    public void setRequestTimeout(long timeout, TimeUnit unit) {
+        requestTimeout = unit.toMillis(timeout);
+    }
+
+    /**
+     * <P>Get the <code>TimingWheel</code> of the scheduled notifications.</P>
+     *
+     * <P>Override in your subclass to use a wheel of another tick or
+     * executor than the one shared by the cores.</P>
+     *
+     * @return the timing wheel
+     */
+    protected TimingWheel getTimingWheel() {
+        return TimingWheel.getShared();
+    }
+
+    // keep a timeout to cancel it on removeCore, purging the done ones once their number doubles
+    private ITimeout track(ITimeout timeout) {
+        timeouts.add(timeout);
+        if(timeouts.size() >= purgeThreshold) {
+            timeouts.removeIf(ITimeout::isDone);
+            purgeThreshold = Math.max(64, timeouts.size() * 2);
+        }
+        return timeout;
+    }
+
+    /**
+     * <P>Send reusable notifications.</P>
+     *
+     * <P>When pooling, <code>sendNotification</code> allocates no
+     * notification: it dispatches a <code>PooledNotification</code> of the
+     * sending thread, recycled once the dispatch completes. Observers
+     * keeping a notification must keep its <code>retain()</code> copy,
+     * as the mailbox of an actor and asynchronous delivery do.</P>
+     *
+     * @param pooling whether to send reusable notifications
+     */
+    public void setNotificationPooling(boolean pooling) {
+        this.pooling = pooling;
     }
 
     /**
@@ -321,12 +534,224 @@ public class Facade implements IFacade {
      * and pass the parameters, never having to
      * construct the notification yourself.</P>
      *
+     * <P>In actor mode, a notification sent from another thread
+     * is enqueued and dispatched by the actor of this core.</P>
+     *
      * @param notification the <code>INotification</code> to have the <code>View</code> notify <code>Observers</code> of.
+     * @throws IllegalStateException in actor mode, if the mailbox is full or closed
      */
     public void notifyObservers(INotification notification) {
+        Mailbox mailbox = actor;
+        if(mailbox != null && !mailbox.isMailboxThread()) {
+            if(!mailbox.post(notification)) throw new IllegalStateException(ACTOR_MSG);
+            return;
+        }
+        Predicate<IObserver> filter = replayFilter;
+        if(filter != null) {
+            ((View) view).notifyObservers(notification, filter);
+            return;
+        }
+        Journal journal = this.journal;
+        if(journal != null) journal.append(notification);
         view.notifyObservers(notification);
     }
 
+    /**
+     * <P>Set the <code>Journal</code> of this core.</P>
+     *
+     * <P>Every notification passing through <code>notifyObservers</code>
+     * whose name is journaled is appended to the journal before it is
+     * dispatched. Pass <code>null</code> to stop journaling. The journal
+     * is committed and closed when the core is removed.</P>
+     *
+     * @param journal the journal, or <code>null</code>
+     */
+    public void setJournal(Journal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * <P>Get the <code>Journal</code> of this core.</P>
+     *
+     * @return the journal, or <code>null</code> if none is set
+     */
+    public Journal getJournal() {
+        return journal;
+    }
+
+    /**
+     * <P>Replay a <code>Journal</code> into this core.</P>
+     *
+     * <P>The journaled notifications from <code>fromSequence</code> on are
+     * dispatched in order, as are the notifications sent in response to them,
+     * but only to the observers accepted by <code>filter</code>. This is how
+     * side-effecting observers, such as a <code>Mediator</code> driving a view
+     * component or a <code>Proxy</code> calling a remote service, are suppressed:</P>
+     *
+     * <pre>
+     * {@code facade.replay(journal, 0, observer -> !observer.compareNotifyContext(serviceMediator));
+     * }
+     * </pre>
+     *
+     * <P>Nothing is appended to the journal of this core while replaying.
+     * Replay into a core before it starts handling live notifications.
+     * Filtering the observers is done by the <code>View</code> class.</P>
+     *
+     * @param journal the journal to replay
+     * @param fromSequence the sequence number of the first record to replay
+     * @param filter the predicate an <code>IObserver</code> must satisfy to be notified
+     * @return the number of records replayed
+     * @throws IllegalStateException if the view of this core is not a <code>View</code>
+     */
+    public long replay(Journal journal, long fromSequence, Predicate<IObserver> filter) {
+        if(!(view instanceof View)) throw new IllegalStateException(REPLAY_MSG);
+        return call(() -> {
+            replayFilter = filter;
+            try {
+                return journal.replay(fromSequence, this::notifyObservers);
+            } finally {
+                replayFilter = null;
+            }
+        });
+    }
+
+    /**
+     * <P>Write a checkpoint of the <code>ISnapshotProxy</code> data of this core.</P>
+     *
+     * <P>The checkpoint is taken at the current sequence number of
+     * the <code>Journal</code> of this core, if one is set.</P>
+     *
+     * @param store the snapshot store to write to
+     * @return the number of proxies written
+     * @throws IllegalStateException if the model of this core is not a <code>Model</code>, which lists its proxies
+     */
+    public int checkpoint(SnapshotStore store) {
+        if(!(model instanceof Model)) throw new IllegalStateException(CHECKPOINT_MSG);
+        return call(() -> {
+            if(journal != null) journal.commit();
+            return store.checkpoint((Model) model, journal != null ? journal.getSequence() : 0);
+        });
+    }
+
+    /**
+     * <P>Restore the state of this core from a <code>SnapshotStore</code> and the tail of its <code>Journal</code>.</P>
+     *
+     * <P>The <code>ISnapshotProxy</code> instances must be registered
+     * first. Their data is restored from the latest checkpoints, then the
+     * records journaled after the checkpoint are replayed, suppressing the
+     * observers rejected by <code>filter</code>.</P>
+     *
+     * @param store the snapshot store to restore from
+     * @param filter the predicate an <code>IObserver</code> must satisfy to be notified during the replay
+     * @return the number of journal records replayed
+     */
+    public long restore(SnapshotStore store, Predicate<IObserver> filter) {
+        return call(() -> {
+            long sequence = store.restore(model);
+            return journal != null ? replay(journal, sequence, filter) : 0L;
+        });
+    }
+
+    /**
+     * <P>Run this core as an actor on a dedicated thread.</P>
+     *
+     * @see #startActor(Executor)
+     */
+    public void startActor() {
+        actor = Mailbox.getInstance(multitonKey, key -> new Mailbox(key));
+    }
+
+    /**
+     * <P>Run this core as an actor on an <code>Executor</code>.</P>
+     *
+     * <P>In actor mode, every notification sent to this core from another
+     * thread, including from another core, is enqueued to the
+     * <code>Mailbox</code> of this core and dispatched serially by it, so the
+     * <code>ICommand</code>s, <code>IMediator</code>s and <code>IProxy</code>s
+     * of the core run one at a time, without locking. Registering and removing
+     * commands, proxies and mediators from another thread runs on the mailbox
+     * too, and waits for it. <code>sendNotification</code> returns as soon as
+     * the notification is enqueued.</P>
+     *
+     * <P>Many actor cores can share one executor, so idle cores cost no thread.
+     * An executor with a virtual thread per task suits this on Java 21:</P>
+     *
+     * <pre>
+     * {@code ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+     * ((Facade) Facade.getInstance("Core", key -> new Facade(key))).startActor(executor);
+     * }
+     * </pre>
+     *
+     * <P>A core must not wait on the registration methods of a core that in turn
+     * waits on it; cores should talk to each other through notifications.
+     * If the core already has a <code>Mailbox</code>, from a <code>Pipe</code>,
+     * it is reused as it is.</P>
+     *
+     * @param executor the executor running the core
+     */
+    public void startActor(Executor executor) {
+        actor = Mailbox.getInstance(multitonKey, key -> new Mailbox(key, Mailbox.DEFAULT_CAPACITY, executor));
+    }
+
+    /**
+     * <P>Check if this core runs as an actor.</P>
+     *
+     * @return whether this core runs as an actor
+     */
+    public boolean isActor() {
+        return actor != null;
+    }
+
+    /**
+     * <P>Get an <code>Executor</code> running tasks on the thread of this core.</P>
+     *
+     * <P>In actor mode, tasks are enqueued to the <code>Mailbox</code> of
+     * this core, so they run serially with its notifications. Otherwise
+     * they run directly on the calling thread.</P>
+     *
+     * @return the executor of this core
+     */
+    public Executor getExecutor() {
+        return task -> {
+            Mailbox mailbox = actor;
+            if(mailbox == null) task.run();
+            else if(!mailbox.execute(task)) throw new RejectedExecutionException(ACTOR_MSG);
+        };
+    }
+
+    /**
+     * <P>Run a function on the actor of this core and wait for its result.</P>
+     *
+     * <P>Runs the function directly when the core is not an actor,
+     * or when called from the actor itself.</P>
+     *
+     * @param function the function to run
+     * @param <T> the type of the result
+     * @return the result of the function
+     * @throws IllegalStateException if the mailbox is full or closed, or the caller is interrupted
+     */
+    protected <T> T call(Supplier<T> function) {
+        Mailbox mailbox = actor;
+        if(mailbox == null || mailbox.isMailboxThread()) return function.get();
+
+        FutureTask<T> task = new FutureTask<>(function::get);
+        if(!mailbox.execute(task)) throw new IllegalStateException(ACTOR_MSG);
+        try {
+            return task.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        } catch (CancellationException exception) {
+            // the mailbox was closed before running the function
+            throw new IllegalStateException(ACTOR_MSG, exception);
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if(cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if(cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
     /**
      * <P>Set the Multiton key for this facade instance.</P>
      *
@@ -349,19 +774,47 @@ public class Facade implements IFacade {
         return instanceMap.containsKey(key);
     }
 
+    /**
+     * <P>Get the Mailbox of a Core, creating it if needed.</P>
+     *
+     * <P>Checking for the core and creating its mailbox is atomic with
+     * <code>removeCore</code>, so the mailbox of a removed core is not
+     * created again.</P>
+     *
+     * @param key the multiton key for the Core in question
+     * @return the <code>Mailbox</code> of the Core, or <code>null</code> if there is no Core with the given <code>key</code>
+     */
+    public static synchronized Mailbox getMailbox(String key) {
+        if(!instanceMap.containsKey(key)) return null;
+        return Mailbox.getInstance(key, name -> new Mailbox(name));
+    }
+
     /**
      * <P>Remove a Core.</P>
      *
      * <P>Remove the Model, View, Controller and Facade
-     * instances for the given key.</P>
+     * instances for the given key, close its Mailbox and Journal, and
+     * cancel its scheduled notifications.</P>
      *
      * @param key of the Core to remove
      */
     public static synchronized void removeCore(String key) {
-        if(instanceMap.get(key) == null) return;
-        Model.removeModel(key);
-        View.removeView(key);
-        Controller.removeController(key);
-        instanceMap.remove(key);
+        IFacade facade = instanceMap.get(key);
+        if(facade == null) return;
+        try {
+            if(facade instanceof Facade) {
+                ((Facade) facade).timeouts.forEach(ITimeout::cancel);
+                ((Facade) facade).timeouts.clear();
+                // the last journaled notifications of the core are committed
+                Journal journal = ((Facade) facade).journal;
+                if(journal != null) journal.close();
+            }
+        } finally {
+            Model.removeModel(key);
+            View.removeView(key);
+            Controller.removeController(key);
+            Mailbox.removeMailbox(key);
+            instanceMap.remove(key);
+        }
     }
 }
@@ -0,0 +1,469 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.journal;
+
+import org.puremvc.java.multicore.interfaces.IBodySerializer;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.interfaces.ITimeout;
+import org.puremvc.java.multicore.patterns.observer.Notification;
+import org.puremvc.java.multicore.patterns.observer.NotificationCodec;
+import org.puremvc.java.multicore.patterns.timer.TimingWheel;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * <P>An append-only journal of <code>INotification</code>s.</P>
+ *
+ * <P>A <code>Journal</code> records the notifications with the names it was
+ * constructed with, so that the state of a core can be rebuilt by replaying
+ * them into a fresh core. It is attached to a core with
+ * <code>Facade.setJournal</code>, which appends every notification passing
+ * through <code>Facade.notifyObservers</code> before it is dispatched, and
+ * replayed with <code>Facade.replay</code>.</P>
+ *
+ * <P>Only notifications that originate outside of the core should be journaled,
+ * the notifications sent by <code>ICommand</code>s and <code>IMediator</code>s in
+ * response to them are sent again when they are replayed.</P>
+ *
+ * <P>The journal is stored in a directory as a sequence of segment files,
+ * each named after the sequence number of its first record. A new segment
+ * is started when the current one would grow past the segment size. Records
+ * are accumulated in memory and written with a single write and
+ * <code>force</code> per group, when the group grows past the batch size,
+ * when <code>commit</code> is called, or at the latest after the max delay
+ * since the first record of the group, so a quiet core does not leave its
+ * records unwritten. Each record carries a checksum,
+ * so a record torn by a crash ends the journal rather than corrupting it.</P>
+ *
+ * <P>Record layout: <code>length, crc, sequence, notification</code>, where
+ * the notification is encoded by the <code>NotificationCodec</code>.</P>
+ *
+ * @see org.puremvc.java.multicore.patterns.facade.Facade Facade
+ * @see NotificationCodec NotificationCodec
+ */
+public class Journal {
+
+    /**
+     * <P>The default size of a segment file in bytes.</P>
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * <P>The default size of a group of records in bytes.</P>
+     */
+    public static final int DEFAULT_BATCH_SIZE = 64 * 1024;
+
+    /**
+     * <P>The default longest time a record waits for its group to be committed, in milliseconds.</P>
+     */
+    public static final long DEFAULT_MAX_DELAY = 50;
+
+    protected static final String SUFFIX = ".journal";
+
+    // length and crc precede the checksummed part of a record
+    protected static final int HEADER_SIZE = 8;
+
+    protected Path directory;
+
+    protected NotificationCodec codec;
+
+    // the reusable encoding buffer
+    protected ByteBuffer encoded = ByteBuffer.allocate(1024);
+
+    // the names of the journaled notifications
+    protected Set<String> names;
+
+    protected int segmentSize;
+
+    protected int batchSize;
+
+    // the segment being appended to and its committed size
+    protected FileChannel channel;
+    protected long segmentBytes;
+
+    // the records not yet committed
+    protected ByteBuffer batch;
+
+    // the sequence number of the next record
+    protected long sequence;
+
+    protected final CRC32 crc = new CRC32();
+
+    // the longest time a record waits for its group to be committed, in nanoseconds, 0 for no bound
+    protected long maxDelay = TimeUnit.MILLISECONDS.toNanos(DEFAULT_MAX_DELAY);
+
+    // the pending commit of the current group, if any
+    protected ITimeout delayedCommit;
+
+    // the failure of a delayed commit, thrown by the next append
+    protected UncheckedIOException failure;
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * <P>Opens the journal in <code>directory</code>, creating it if needed.
+     * Appending resumes after the last intact record of an existing journal.</P>
+     *
+     * @param directory the directory holding the segment files
+     * @param codec the codec of the notifications
+     * @param segmentSize the size of a segment file in bytes
+     * @param batchSize the size of a group of records in bytes
+     * @param notificationNames the names of the notifications to journal
+     * @throws UncheckedIOException if the journal cannot be opened
+     */
+    public Journal(Path directory, NotificationCodec codec, int segmentSize, int batchSize, String... notificationNames) {
+        this.directory = directory;
+        this.codec = codec;
+        this.segmentSize = segmentSize;
+        this.batchSize = batchSize;
+        this.names = new HashSet<>(Arrays.asList(notificationNames));
+        this.batch = ByteBuffer.allocate(batchSize);
+        try {
+            Files.createDirectories(directory);
+            open();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param directory the directory holding the segment files
+     * @param serializer the serializer of the notification bodies
+     * @param notificationNames the names of the notifications to journal
+     * @throws UncheckedIOException if the journal cannot be opened
+     */
+    public Journal(Path directory, IBodySerializer serializer, String... notificationNames) {
+        this(directory, new NotificationCodec(serializer), DEFAULT_SEGMENT_SIZE, DEFAULT_BATCH_SIZE, notificationNames);
+    }
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param directory the directory holding the segment files
+     * @param serializer the serializer of the notification bodies
+     * @param segmentSize the size of a segment file in bytes
+     * @param batchSize the size of a group of records in bytes
+     * @param notificationNames the names of the notifications to journal
+     * @throws UncheckedIOException if the journal cannot be opened
+     */
+    public Journal(Path directory, IBodySerializer serializer, int segmentSize, int batchSize, String... notificationNames) {
+        this(directory, new NotificationCodec(serializer), segmentSize, batchSize, notificationNames);
+    }
+
+    /**
+     * <P>Check if notifications with a given name are journaled.</P>
+     *
+     * @param notificationName the name of the notification
+     * @return whether the notifications are journaled
+     */
+    public boolean isJournaled(String notificationName) {
+        return names.contains(notificationName);
+    }
+
+    /**
+     * <P>Get the sequence number the next record will be given.</P>
+     *
+     * <P>Replaying from this sequence number replays only
+     * the records appended after this call.</P>
+     *
+     * @return the next sequence number
+     */
+    public synchronized long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * <P>Append a notification, if its name is journaled.</P>
+     *
+     * <P>The record is durable once the group it belongs
+     * to has been committed.</P>
+     *
+     * @param notification the notification to append
+     * @return the sequence number of the record, or -1 if the notification is not journaled
+     * @throws UncheckedIOException if a group commit fails
+     */
+    public long append(INotification notification) {
+        if(!isJournaled(notification.getName())) return -1;
+
+        synchronized (this) {
+            if(failure != null) {
+                UncheckedIOException exception = failure;
+                failure = null;
+                throw exception;
+            }
+            encoded = codec.encodeGrowing(notification, encoded);
+            int length = 8 + encoded.remaining();
+            int size = HEADER_SIZE + length;
+            if(segmentBytes + batch.position() > 0 && segmentBytes + batch.position() + size > segmentSize) {
+                commit();
+                roll();
+            }
+            if(batch.remaining() < size) {
+                commit();
+                if(batch.capacity() < size) batch = ByteBuffer.allocate(size);
+            }
+
+            int start = batch.position();
+            batch.putInt(length);
+            batch.putInt(0);
+            batch.putLong(sequence);
+            batch.put(encoded);
+
+            crc.reset();
+            crc.update(batch.array(), start + HEADER_SIZE, length);
+            batch.putInt(start + 4, (int) crc.getValue());
+
+            if(batch.position() >= batchSize) {
+                commit();
+            } else if(delayedCommit == null && maxDelay > 0) {
+                // the timing wheel thread only hands the commit over, as it forces the segment to disk
+                delayedCommit = getTimingWheel().schedule(() -> ForkJoinPool.commonPool().execute(this::delayedCommit), maxDelay, TimeUnit.NANOSECONDS);
+            }
+            return sequence++;
+        }
+    }
+
+    /**
+     * <P>Write the pending group of records to the current segment and force it to disk.</P>
+     *
+     * @throws UncheckedIOException if the records cannot be written
+     */
+    public synchronized void commit() {
+        if(delayedCommit != null) {
+            delayedCommit.cancel();
+            delayedCommit = null;
+        }
+        if(batch.position() == 0) return;
+        try {
+            batch.flip();
+            while(batch.hasRemaining()) channel.write(batch);
+            channel.force(false);
+            segmentBytes = channel.size();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    // commit the group once its max delay has passed, keeping a failure for the next append
+    private synchronized void delayedCommit() {
+        try {
+            if(channel.isOpen()) commit();
+        } catch (UncheckedIOException exception) {
+            failure = exception;
+        }
+    }
+
+    /**
+     * <P>Set the longest time a record waits for its group to be committed.</P>
+     *
+     * <P>The delay bounds the records lost by a crash of a core that
+     * journals too few notifications to fill a group. A failed delayed
+     * commit is thrown by the next <code>append</code>.</P>
+     *
+     * @param delay the max delay, 0 to commit only full groups and on <code>commit</code>
+     * @param unit the time unit of the delay
+     */
+    public synchronized void setMaxDelay(long delay, TimeUnit unit) {
+        if(delay < 0) throw new IllegalArgumentException("Invalid max delay: " + delay + " " + unit);
+        maxDelay = unit.toNanos(delay);
+    }
+
+    /**
+     * <P>Get the timing wheel running the delayed commits.</P>
+     *
+     * <P>Override to use a timing wheel other than the shared one.</P>
+     *
+     * @return the timing wheel
+     */
+    protected TimingWheel getTimingWheel() {
+        return TimingWheel.getShared();
+    }
+
+    /**
+     * <P>Replay every record of the journal.</P>
+     *
+     * @param consumer the consumer each replayed notification is passed to, in order
+     * @return the number of records replayed
+     */
+    public long replay(Consumer<INotification> consumer) {
+        return replay(0, consumer);
+    }
+
+    /**
+     * <P>Replay the records of the journal from a given sequence number on.</P>
+     *
+     * <P>Pending records are committed first. Segments are mapped
+     * read-only and decoded straight from the mapping.</P>
+     *
+     * @param fromSequence the sequence number of the first record to replay
+     * @param consumer the consumer each replayed notification is passed to, in order
+     * @return the number of records replayed
+     * @throws UncheckedIOException if the journal cannot be read
+     */
+    public long replay(long fromSequence, Consumer<INotification> consumer) {
+        List<Path> segments;
+        synchronized (this) {
+            commit();
+            segments = segments();
+        }
+
+        long count = 0;
+        try {
+            for(int i=0; i<segments.size(); i++) {
+                // skip segments that end before the first record to replay
+                if(i + 1 < segments.size() && firstSequence(segments.get(i + 1)) <= fromSequence) continue;
+
+                ByteBuffer buffer = map(segments.get(i));
+                INotification notification;
+                while((notification = read(buffer, fromSequence)) != null) {
+                    if(notification != SKIPPED) {
+                        consumer.accept(notification);
+                        count++;
+                    }
+                }
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return count;
+    }
+
+    /**
+     * <P>Commit the pending records and close the current segment.</P>
+     *
+     * @throws UncheckedIOException if the records cannot be written
+     */
+    public synchronized void close() {
+        commit();
+        try {
+            channel.close();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    // a marker for records that precede the first record to replay
+    private static final INotification SKIPPED = new Notification(null);
+
+    // decode the record at the position of the buffer, or return null at the end of the journal
+    private INotification read(ByteBuffer buffer, long fromSequence) {
+        if(buffer.remaining() < HEADER_SIZE) return null;
+        int start = buffer.position();
+        int length = buffer.getInt(start);
+        if(length <= 0 || buffer.remaining() < HEADER_SIZE + length) return null;
+
+        CRC32 crc = new CRC32();
+        ByteBuffer payload = buffer.duplicate();
+        payload.position(start + HEADER_SIZE).limit(start + HEADER_SIZE + length);
+        crc.update(payload);
+        if((int) crc.getValue() != buffer.getInt(start + 4)) return null;
+
+        buffer.position(start + HEADER_SIZE);
+        long recordSequence = buffer.getLong();
+        if(recordSequence < fromSequence) {
+            buffer.position(start + HEADER_SIZE + length);
+            return SKIPPED;
+        }
+
+        payload.position(buffer.position());
+        buffer.position(start + HEADER_SIZE + length);
+        return codec.decode(payload);
+    }
+
+    // open the last segment for appending, truncating a torn tail
+    private void open() throws IOException {
+        List<Path> segments = segments();
+        if(segments.isEmpty()) {
+            sequence = 0;
+            channel = FileChannel.open(segmentPath(0), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            segmentBytes = 0;
+            return;
+        }
+
+        Path last = segments.get(segments.size() - 1);
+        ByteBuffer buffer = load(last);
+        sequence = firstSequence(last);
+        while(read(buffer, Long.MAX_VALUE) != null) sequence++;
+
+        channel = FileChannel.open(last, StandardOpenOption.WRITE);
+        channel.truncate(buffer.position());
+        channel.position(buffer.position());
+        segmentBytes = buffer.position();
+    }
+
+    // start a new segment with the next sequence number
+    private void roll() {
+        try {
+            channel.close();
+            channel = FileChannel.open(segmentPath(sequence), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            segmentBytes = 0;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    // map a segment read-only for replaying
+    private static ByteBuffer map(Path segment) throws IOException {
+        try(FileChannel input = FileChannel.open(segment, StandardOpenOption.READ)) {
+            return input.map(FileChannel.MapMode.READ_ONLY, 0, input.size());
+        }
+    }
+
+    // read a segment into the heap, so the file is not mapped while it is truncated
+    private static ByteBuffer load(Path segment) throws IOException {
+        try(FileChannel input = FileChannel.open(segment, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) input.size());
+            while(buffer.hasRemaining() && input.read(buffer) >= 0);
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+    private List<Path> segments() {
+        try(Stream<Path> files = Files.list(directory)) {
+            List<Path> segments = files
+                    .filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toCollection(ArrayList::new));
+            return segments;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private Path segmentPath(long firstSequence) {
+        return directory.resolve(String.format("%020d%s", firstSequence, SUFFIX));
+    }
+
+    private static long firstSequence(Path segment) {
+        String fileName = segment.getFileName().toString();
+        return Long.parseLong(fileName.substring(0, fileName.length() - SUFFIX.length()));
+    }
+
+}
@@ -0,0 +1,274 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.journal;
+
+import org.puremvc.java.multicore.core.Model;
+import org.puremvc.java.multicore.interfaces.IModel;
+import org.puremvc.java.multicore.interfaces.IProxy;
+import org.puremvc.java.multicore.interfaces.ISnapshotProxy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * <P>A store of checkpoints of the <code>ISnapshotProxy</code> data of a core.</P>
+ *
+ * <P>A checkpoint walks the proxies registered with a <code>Model</code>
+ * and writes the data of those implementing <code>ISnapshotProxy</code> to a
+ * compact binary file, along with the <code>Journal</code> sequence number it
+ * was taken at. The first checkpoint is full, the following ones are
+ * incremental and only contain the proxies whose version changed since they
+ * were last written, until <code>fullInterval</code> incremental checkpoints
+ * have been written and a full one is taken again. Older checkpoints are
+ * deleted once a full checkpoint supersedes them.</P>
+ *
+ * <P>Restoring applies the last full checkpoint and the incremental ones
+ * that follow it, and returns the sequence number to replay the journal tail
+ * from, so startup time depends on recent activity rather than total history.
+ * An incremental checkpoint that is missing or corrupt ends the chain: the
+ * journal is replayed from the last checkpoint before it, so the changes it
+ * held are replayed rather than lost.
+ * <code>Facade.checkpoint</code> and <code>Facade.restore</code> combine the
+ * store with the core's journal.</P>
+ *
+ * <P>Checkpoint layout: <code>magic, full, sequence, count, entries, crc</code>,
+ * each entry being <code>name, version, data</code>, where the name is UTF-8 with a
+ * <code>short</code> length and the data has an <code>int</code> length.</P>
+ *
+ * @see ISnapshotProxy ISnapshotProxy
+ * @see Journal Journal
+ */
+public class SnapshotStore {
+
+    /**
+     * <P>The default number of incremental checkpoints between full ones.</P>
+     */
+    public static final int DEFAULT_FULL_INTERVAL = 16;
+
+    protected static final String SUFFIX = ".snapshot";
+
+    protected static final int MAGIC = 0x504D5653;
+
+    protected Path directory;
+
+    protected int fullInterval;
+
+    // the version each proxy was last written or restored at
+    protected Map<String, Long> versions = new HashMap<>();
+
+    // the number of incremental checkpoints since the last full one,
+    // -1 until a full checkpoint has been written or restored
+    protected int incrementals = -1;
+
+    // the generation of the next checkpoint file
+    protected long generation;
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param directory the directory holding the checkpoint files
+     * @param fullInterval the number of incremental checkpoints between full ones
+     * @throws UncheckedIOException if the directory cannot be created
+     */
+    public SnapshotStore(Path directory, int fullInterval) {
+        this.directory = directory;
+        this.fullInterval = fullInterval;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        List<Path> checkpoints = checkpoints();
+        generation = checkpoints.isEmpty() ? 0 : generationOf(checkpoints.get(checkpoints.size() - 1)) + 1;
+    }
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param directory the directory holding the checkpoint files
+     */
+    public SnapshotStore(Path directory) {
+        this(directory, DEFAULT_FULL_INTERVAL);
+    }
+
+    /**
+     * <P>Write a checkpoint of the <code>ISnapshotProxy</code> data of a model.</P>
+     *
+     * <P>The file is written to a temporary file and moved in place,
+     * so a crash never leaves a partial checkpoint behind.</P>
+     *
+     * @param model the model to walk
+     * @param sequence the journal sequence number the data reflects
+     * @return the number of proxies written
+     * @throws UncheckedIOException if the checkpoint cannot be written
+     */
+    public synchronized int checkpoint(Model model, long sequence) {
+        boolean full = incrementals < 0 || incrementals >= fullInterval;
+
+        List<String> names = new ArrayList<>();
+        List<Long> entryVersions = new ArrayList<>();
+        List<byte[]> entries = new ArrayList<>();
+        int size = 4 + 1 + 8 + 4 + 4;
+        for(IProxy proxy : model.listProxies()) {
+            if(!(proxy instanceof ISnapshotProxy)) continue;
+            ISnapshotProxy snapshotProxy = (ISnapshotProxy) proxy;
+            long version = snapshotProxy.getVersion();
+            Long written = versions.get(proxy.getProxyName());
+            if(!full && written != null && written == version) continue;
+
+            byte[] data = snapshotProxy.snapshot();
+            names.add(proxy.getProxyName());
+            entryVersions.add(version);
+            entries.add(data);
+            size += 2 + proxy.getProxyName().getBytes(StandardCharsets.UTF_8).length + 8 + 4 + data.length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC);
+        buffer.put((byte) (full ? 1 : 0));
+        buffer.putLong(sequence);
+        buffer.putInt(entries.size());
+        for(int i=0; i<entries.size(); i++) {
+            byte[] name = names.get(i).getBytes(StandardCharsets.UTF_8);
+            buffer.putShort((short) name.length).put(name);
+            buffer.putLong(entryVersions.get(i));
+            buffer.putInt(entries.get(i).length).put(entries.get(i));
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+
+        Path path = directory.resolve(String.format("%020d%s", generation, SUFFIX));
+        Path temporary = directory.resolve(path.getFileName() + ".tmp");
+        try {
+            try(FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while(buffer.hasRemaining()) channel.write(buffer);
+                channel.force(true);
+            }
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+            if(full) {
+                for(Path checkpoint : checkpoints()) {
+                    if(generationOf(checkpoint) < generation) Files.delete(checkpoint);
+                }
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        generation++;
+        incrementals = full ? 0 : incrementals + 1;
+        for(int i=0; i<names.size(); i++) {
+            versions.put(names.get(i), entryVersions.get(i));
+        }
+        return entries.size();
+    }
+
+    /**
+     * <P>Restore the <code>ISnapshotProxy</code> data of a model from the latest checkpoints.</P>
+     *
+     * <P>Proxies must be registered before they are restored,
+     * entries of proxies that are not registered are skipped.
+     * The checkpoints after a missing or corrupt one are not applied.</P>
+     *
+     * @param model the model holding the proxies to restore
+     * @return the journal sequence number to replay from, or 0 if there is no checkpoint
+     * @throws UncheckedIOException if the checkpoints cannot be read
+     */
+    public synchronized long restore(IModel model) {
+        List<ByteBuffer> chain = new ArrayList<>();
+        List<Path> checkpoints = checkpoints();
+        boolean broken = false;
+
+        // start from the last intact full checkpoint, followed by its incrementals
+        // up to the first one missing or not intact, as those after it build on it
+        for(int full=checkpoints.size()-1; full>=0 && chain.isEmpty(); full--) {
+            ByteBuffer buffer = read(checkpoints.get(full));
+            if(buffer == null || buffer.get(4) != 1) continue;
+            chain.add(buffer);
+            for(int i=full+1; i<checkpoints.size(); i++) {
+                buffer = generationOf(checkpoints.get(i)) == generationOf(checkpoints.get(i - 1)) + 1 ? read(checkpoints.get(i)) : null;
+                if(buffer == null || buffer.get(4) == 1) {
+                    broken = true;
+                    break;
+                }
+                chain.add(buffer);
+            }
+        }
+        if(chain.isEmpty()) return 0;
+
+        long sequence = 0;
+        for(ByteBuffer buffer : chain) {
+            buffer.position(5);
+            sequence = buffer.getLong();
+            int count = buffer.getInt();
+            for(int i=0; i<count; i++) {
+                byte[] name = new byte[buffer.getShort()];
+                buffer.get(name);
+                buffer.getLong();
+                byte[] data = new byte[buffer.getInt()];
+                buffer.get(data);
+
+                IProxy proxy = model.retrieveProxy(new String(name, StandardCharsets.UTF_8));
+                if(proxy instanceof ISnapshotProxy) {
+                    ((ISnapshotProxy) proxy).restore(data);
+                    versions.put(proxy.getProxyName(), ((ISnapshotProxy) proxy).getVersion());
+                }
+            }
+        }
+        // the next checkpoint is full, so it does not build on a broken chain
+        incrementals = broken ? -1 : chain.size() - 1;
+        return sequence;
+    }
+
+    // read a checkpoint file, or return null if it is not intact
+    private static ByteBuffer read(Path path) {
+        try {
+            byte[] bytes = Files.readAllBytes(path);
+            if(bytes.length < 21) return null;
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            CRC32 crc = new CRC32();
+            crc.update(bytes, 0, bytes.length - 4);
+            if(buffer.getInt(0) != MAGIC || buffer.getInt(bytes.length - 4) != (int) crc.getValue()) return null;
+            return buffer;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private List<Path> checkpoints() {
+        try(Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toCollection(ArrayList::new));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static long generationOf(Path checkpoint) {
+        String fileName = checkpoint.getFileName().toString();
+        return Long.parseLong(fileName.substring(0, fileName.length() - SUFFIX.length()));
+    }
+
+}
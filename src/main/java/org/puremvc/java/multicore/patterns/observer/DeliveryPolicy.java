@@ -0,0 +1,329 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.interfaces.IObserver;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * <P>A time-based delivery policy for notifications.</P>
+ *
+ * <UL>
+ * <LI><code>debounce</code> delivers the latest notification once none has
+ * been offered for a quiet period.</LI>
+ * <LI><code>throttle</code> delivers at most a number of notifications per
+ * interval, as they are offered, and drops the others.</LI>
+ * <LI><code>sample</code> delivers the latest notification once per period,
+ * if one was offered during the period.</LI>
+ * </UL>
+ *
+ * <P>A policy is applied to every observer of a notification name with
+ * <code>View.setDeliveryPolicy</code>, or to a single observer by wrapping
+ * it. All the timers of a policy run on one shared scheduler, rather than
+ * a thread per observer, and debounced or sampled notifications are
+ * delivered on the scheduler thread:</P>
+ *
+ * <pre>
+ * {@code DeliveryPolicy policy = DeliveryPolicy.sample(scheduler, 100, TimeUnit.MILLISECONDS);
+ * view.registerObserver("Telemetry", policy.wrap(new Observer(this::update, this)));
+ * }
+ * </pre>
+ *
+ * <P>A policy holds no state of its own, so one policy may be applied to
+ * several names and observers; each gets its own <code>Gate</code>.
+ * Delivered notifications are retained.</P>
+ *
+ * @see org.puremvc.java.multicore.core.View#setDeliveryPolicy(String, DeliveryPolicy) View.setDeliveryPolicy
+ */
+public class DeliveryPolicy {
+
+    private static final int DEBOUNCE = 0;
+    private static final int THROTTLE = 1;
+    private static final int SAMPLE = 2;
+
+    private final int kind;
+    private final ScheduledExecutorService scheduler;
+    private final int permits;
+    private final long nanos;
+
+    private DeliveryPolicy(int kind, ScheduledExecutorService scheduler, int permits, long interval, TimeUnit unit) {
+        if(permits < 1 || interval <= 0) throw new IllegalArgumentException("Invalid delivery policy: " + permits + " per " + interval + " " + unit);
+        this.kind = kind;
+        this.scheduler = scheduler;
+        this.permits = permits;
+        this.nanos = unit.toNanos(interval);
+    }
+
+    /**
+     * <P>Deliver the latest notification once none has been offered for a quiet period.</P>
+     *
+     * @param scheduler the shared scheduler
+     * @param quiet the quiet period
+     * @param unit the time unit of the quiet period
+     * @return the policy
+     */
+    public static DeliveryPolicy debounce(ScheduledExecutorService scheduler, long quiet, TimeUnit unit) {
+        return new DeliveryPolicy(DEBOUNCE, scheduler, 1, quiet, unit);
+    }
+
+    /**
+     * <P>Deliver at most a number of notifications per interval, dropping the others.</P>
+     *
+     * <P>The notifications delivered are delivered immediately, on the offering thread.</P>
+     *
+     * @param scheduler the shared scheduler
+     * @param permits the number of notifications delivered per interval
+     * @param interval the interval
+     * @param unit the time unit of the interval
+     * @return the policy
+     */
+    public static DeliveryPolicy throttle(ScheduledExecutorService scheduler, int permits, long interval, TimeUnit unit) {
+        return new DeliveryPolicy(THROTTLE, scheduler, permits, interval, unit);
+    }
+
+    /**
+     * <P>Deliver the latest notification once per period, if one was offered during the period.</P>
+     *
+     * @param scheduler the shared scheduler
+     * @param period the period
+     * @param unit the time unit of the period
+     * @return the policy
+     */
+    public static DeliveryPolicy sample(ScheduledExecutorService scheduler, long period, TimeUnit unit) {
+        return new DeliveryPolicy(SAMPLE, scheduler, 1, period, unit);
+    }
+
+    /**
+     * <P>Create a gate delivering the notifications offered to it by this policy.</P>
+     *
+     * @param delivery the delivery of the notifications let through
+     * @return the gate
+     */
+    public Gate gate(Consumer<INotification> delivery) {
+        switch(kind) {
+            case DEBOUNCE: return new Debounce(delivery);
+            case THROTTLE: return new Throttle(delivery);
+            default: return new Sample(delivery);
+        }
+    }
+
+    /**
+     * <P>Wrap an observer, so it is notified by this policy.</P>
+     *
+     * <P>The wrapper keeps the notify context and priority of the observer,
+     * so it is removed like the observer. A wrapped <code>WeakObserver</code>
+     * is no longer purged when its context is collected.</P>
+     *
+     * @param observer the observer
+     * @return the observer notified by this policy
+     */
+    public IObserver wrap(IObserver observer) {
+        return new PolicyObserver(observer, gate(observer::notifyObserver));
+    }
+
+    /**
+     * <P>Close the gate of an observer wrapped by a policy.</P>
+     *
+     * <P>Called when the observer is removed, so a pending debounced or
+     * sampled notification is dropped rather than delivered to an
+     * observer that is gone, such as a removed mediator.</P>
+     *
+     * @param observer an observer, wrapped or not
+     */
+    public static void cancel(IObserver observer) {
+        if(observer instanceof PolicyObserver) ((PolicyObserver) observer).gate.close();
+    }
+
+    /**
+     * <P>Get the observer wrapped by a policy.</P>
+     *
+     * @param observer an observer, wrapped or not
+     * @return the wrapped observer, or the observer itself if it is not wrapped
+     */
+    public static IObserver unwrap(IObserver observer) {
+        return observer instanceof PolicyObserver ? ((PolicyObserver) observer).observer : observer;
+    }
+
+    /**
+     * <P>The state of a policy for one notification name or observer.</P>
+     */
+    public abstract class Gate implements Consumer<INotification> {
+
+        // the delivery of the notifications let through
+        protected final Consumer<INotification> delivery;
+
+        // the pending timer, if any
+        protected ScheduledFuture<?> timer;
+
+        // whether the gate is closed, dropping every notification
+        protected boolean closed;
+
+        /**
+         * <P>Constructor.</P>
+         *
+         * @param delivery the delivery of the notifications let through
+         */
+        protected Gate(Consumer<INotification> delivery) {
+            this.delivery = delivery;
+        }
+
+        /**
+         * <P>Offer a notification to the gate.</P>
+         *
+         * @param notification the notification
+         */
+        public abstract void accept(INotification notification);
+
+        /**
+         * <P>Cancel the pending timer, dropping the pending notification.</P>
+         */
+        public synchronized void cancel() {
+            if(timer != null) timer.cancel(false);
+            timer = null;
+        }
+
+        /**
+         * <P>Close the gate for good, dropping the pending and the later notifications.</P>
+         */
+        public synchronized void close() {
+            closed = true;
+            cancel();
+        }
+
+    }
+
+    private class Debounce extends Gate {
+
+        private INotification latest;
+        private long deadline;
+
+        private Debounce(Consumer<INotification> delivery) {
+            super(delivery);
+        }
+
+        public synchronized void accept(INotification notification) {
+            if(closed) return;
+            latest = notification.retain();
+            deadline = System.nanoTime() + nanos;
+            if(timer == null) timer = scheduler.schedule(this::fire, nanos, TimeUnit.NANOSECONDS);
+        }
+
+        // deliver the latest notification if the quiet period has passed, or wait for the rest of it
+        private void fire() {
+            INotification notification;
+            synchronized (this) {
+                if(closed) return;
+                long remaining = deadline - System.nanoTime();
+                if(remaining > 0) {
+                    timer = scheduler.schedule(this::fire, remaining, TimeUnit.NANOSECONDS);
+                    return;
+                }
+                notification = latest;
+                latest = null;
+                timer = null;
+            }
+            if(notification != null) delivery.accept(notification);
+        }
+
+    }
+
+    private class Throttle extends Gate {
+
+        private long window;
+        private int count;
+
+        private Throttle(Consumer<INotification> delivery) {
+            super(delivery);
+        }
+
+        public void accept(INotification notification) {
+            synchronized (this) {
+                if(closed) return;
+                long now = System.nanoTime();
+                if(count == 0 || now - window >= nanos) {
+                    window = now;
+                    count = 0;
+                }
+                if(count == permits) return;
+                count++;
+            }
+            delivery.accept(notification);
+        }
+
+    }
+
+    private class Sample extends Gate {
+
+        private INotification latest;
+
+        private Sample(Consumer<INotification> delivery) {
+            super(delivery);
+        }
+
+        public synchronized void accept(INotification notification) {
+            if(closed) return;
+            latest = notification.retain();
+            if(timer == null) timer = scheduler.scheduleAtFixedRate(this::tick, nanos, nanos, TimeUnit.NANOSECONDS);
+        }
+
+        // deliver the latest notification of the period, or stop sampling until the next one
+        private void tick() {
+            INotification notification;
+            synchronized (this) {
+                if(closed) return;
+                notification = latest;
+                latest = null;
+                if(notification == null) cancel();
+            }
+            if(notification != null) delivery.accept(notification);
+        }
+
+    }
+
+    private static class PolicyObserver implements IObserver {
+
+        private final IObserver observer;
+        private final Gate gate;
+
+        private PolicyObserver(IObserver observer, Gate gate) {
+            this.observer = observer;
+            this.gate = gate;
+        }
+
+        public void setNotifyMethod(Consumer<INotification> notifyMethod) {
+            observer.setNotifyMethod(notifyMethod);
+        }
+
+        public void setNotifyContext(Object notifyContext) {
+            observer.setNotifyContext(notifyContext);
+        }
+
+        public Object getNotifyContext() {
+            return observer.getNotifyContext();
+        }
+
+        public void notifyObserver(INotification notification) {
+            gate.accept(notification);
+        }
+
+        public boolean compareNotifyContext(Object object) {
+            return observer.compareNotifyContext(object);
+        }
+
+        public int getPriority() {
+            return observer.getPriority();
+        }
+
+    }
+
+}
@@ -0,0 +1,199 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+import org.puremvc.java.multicore.interfaces.INotification;
+
+import java.util.Objects;
+
+/**
+ * <P>An immutable <code>INotification</code> with a typed body.</P>
+ *
+ * <P>The name, body and type are final, so an immutable notification
+ * is safely shared across threads, by a <code>Mailbox</code>, a
+ * <code>Pipe</code> or asynchronous delivery, without copying, and
+ * <code>retain()</code> returns it as is. Setting its body or type
+ * throws; derive a new notification with <code>withBody</code> or
+ * <code>withType</code> instead.</P>
+ *
+ * <P>The body is typed, so a handler knowing the notification
+ * reads it without a cast:</P>
+ *
+ * <pre>
+ * {@code facade.notifyObservers(new ImmutableNotification<>(QUOTE, quote));
+ * ...
+ * Quote quote = ImmutableNotification.<Quote>of(notification).getBody();
+ * }
+ * </pre>
+ *
+ * <P>Like a record, two immutable notifications are equal when their
+ * names, bodies and types are.</P>
+ *
+ * @param <T> the type of the body
+ */
+public final class ImmutableNotification<T> implements INotification {
+
+    // Message Constants
+    private static final String IMMUTABLE_MSG = "ImmutableNotification cannot be modified!";
+
+    private final String name;
+    private final T body;
+    private final String type;
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param name name of the notification
+     * @param body the body of the notification
+     * @param type the type of the notification
+     */
+    public ImmutableNotification(String name, T body, String type) {
+        this.name = name;
+        this.body = body;
+        this.type = type;
+    }
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param name name of the notification
+     * @param body the body of the notification
+     */
+    public ImmutableNotification(String name, T body) {
+        this(name, body, null);
+    }
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param name name of the notification
+     */
+    public ImmutableNotification(String name) {
+        this(name, null, null);
+    }
+
+    /**
+     * <P>Get an immutable notification with the name, body and type of a notification.</P>
+     *
+     * <P>An immutable notification is returned as is, so a handler reads its
+     * typed body without a copy. The body of another notification is not
+     * checked against <code>T</code>, as with any unchecked cast.</P>
+     *
+     * @param notification the notification
+     * @param <T> the type of the body
+     * @return the immutable notification
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ImmutableNotification<T> of(INotification notification) {
+        if(notification instanceof ImmutableNotification) return (ImmutableNotification<T>) notification;
+        return new ImmutableNotification<>(notification.getName(), (T) notification.getBody(), notification.getType());
+    }
+
+    /**
+     * <P>Get a notification with the same name and type and another body.</P>
+     *
+     * @param body the body of the new notification
+     * @param <U> the type of the new body
+     * @return the new notification
+     */
+    public <U> ImmutableNotification<U> withBody(U body) {
+        return new ImmutableNotification<>(name, body, type);
+    }
+
+    /**
+     * <P>Get a notification with the same name and body and another type.</P>
+     *
+     * @param type the type of the new notification
+     * @return the new notification
+     */
+    public ImmutableNotification<T> withType(String type) {
+        return new ImmutableNotification<>(name, body, type);
+    }
+
+    /**
+     * <P>Get the name of the <code>Notification</code> instance.</P>
+     *
+     * @return the name of the <code>Notification</code> instance.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * <P>Not supported, the body is final.</P>
+     *
+     * @param body the body
+     * @throws UnsupportedOperationException always
+     */
+    public void setBody(Object body) {
+        throw new UnsupportedOperationException(IMMUTABLE_MSG);
+    }
+
+    /**
+     * <P>Get the body of the <code>Notification</code> instance.</P>
+     *
+     * @return the body object.
+     */
+    public T getBody() {
+        return body;
+    }
+
+    /**
+     * <P>Not supported, the type is final.</P>
+     *
+     * @param type the type
+     * @throws UnsupportedOperationException always
+     */
+    public void setType(String type) {
+        throw new UnsupportedOperationException(IMMUTABLE_MSG);
+    }
+
+    /**
+     * <P>Get the type of the <code>Notification</code> instance.</P>
+     *
+     * @return the type
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * <P>Compare the name, body and type of two immutable notifications.</P>
+     *
+     * @param object the object to compare
+     * @return whether the object is an equal immutable notification
+     */
+    public boolean equals(Object object) {
+        if(this == object) return true;
+        if(!(object instanceof ImmutableNotification)) return false;
+        ImmutableNotification<?> other = (ImmutableNotification<?>) object;
+        return Objects.equals(name, other.name) && Objects.equals(body, other.body) && Objects.equals(type, other.type);
+    }
+
+    /**
+     * <P>Get the hash code of the name, body and type.</P>
+     *
+     * @return the hash code
+     */
+    public int hashCode() {
+        return Objects.hash(name, body, type);
+    }
+
+    /**
+     * <P>Get the string representation of the <code>Notification</code> instance.</P>
+     *
+     * @return the string representation of the <code>Notification</code> instance.
+     */
+    public String toString() {
+        return new StringBuilder("Notification Name: " + getName())
+                .append("\nBody:" + ((body == null) ? "null" : body.toString()))
+                .append("\nType:" + ((type == null) ? "null" : type))
+                .toString();
+    }
+
+}
@@ -0,0 +1,400 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+import org.puremvc.java.multicore.interfaces.IBodyCodec;
+import org.puremvc.java.multicore.interfaces.IBodySerializer;
+import org.puremvc.java.multicore.interfaces.INotification;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * <P>A compact binary codec for <code>INotification</code>s.</P>
+ *
+ * <P>The <code>Journal</code>, the <code>SharedMemoryBridge</code> and the
+ * <code>SocketBridge</code> all encode notifications with a
+ * <code>NotificationCodec</code>. An encoded notification is its name,
+ * its type and its body, in that order:</P>
+ *
+ * <UL>
+ * <LI>Names and types are strings. A string registered with <code>registerName</code>
+ * is written as its varint id alone, any other string as a varint length and its
+ * UTF-8 bytes.</LI>
+ * <LI>The body is a varint codec id followed by the body as encoded by that codec.
+ * Bodies of the common types <code>String</code>, <code>Integer</code>, <code>Long</code>,
+ * <code>Double</code>, <code>Boolean</code>, <code>byte[]</code> and <code>ByteBuffer</code>
+ * have built in codecs, others can be registered with <code>registerBodyCodec</code>,
+ * and the remaining bodies go through the <code>IBodySerializer</code>, if any.</LI>
+ * </UL>
+ *
+ * <P>Varints are unsigned LEB128, and integers are zigzag encoded. Decoding reads
+ * straight from the given buffer, including a direct or memory-mapped one, and a
+ * <code>ByteBuffer</code> body is decoded as a slice of it, without copying. A
+ * caller that reuses the buffer after decoding, such as a bridge reading a ring
+ * or a socket, decodes with <code>copy</code> instead, so the body is copied.</P>
+ *
+ * <P>Both ends must register the same names and body codecs with the same ids,
+ * and registration should be done before the codec is used.</P>
+ *
+ * @see IBodyCodec IBodyCodec
+ * @see IBodySerializer IBodySerializer
+ */
+public class NotificationCodec {
+
+    /**
+     * <P>The ids of the built in body codecs.</P>
+     */
+    public static final int NULL = 0, SERIALIZED = 1, STRING = 2, INTEGER = 3, LONG = 4, DOUBLE = 5, BOOLEAN = 6, BYTES = 7, BYTE_BUFFER = 8;
+
+    /**
+     * <P>The lowest id available to application body codecs.</P>
+     */
+    public static final int FIRST_CUSTOM_ID = 16;
+
+    // the serializer of the bodies without a codec, may be null
+    protected IBodySerializer serializer;
+
+    // the interned strings by id and the ids by string
+    protected List<String> names = new CopyOnWriteArrayList<>();
+    protected Map<String, Integer> nameIds = new ConcurrentHashMap<>();
+
+    // the body codecs by id and the ids by body type
+    protected Map<Integer, IBodyCodec<Object>> codecs = new ConcurrentHashMap<>();
+    protected Map<Class<?>, Integer> codecIds = new ConcurrentHashMap<>();
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param serializer the serializer of the bodies without a codec, or <code>null</code>
+     */
+    public NotificationCodec(IBodySerializer serializer) {
+        this.serializer = serializer;
+        registerBuiltInCodecs();
+    }
+
+    /**
+     * <P>Constructor.</P>
+     */
+    public NotificationCodec() {
+        this(null);
+    }
+
+    /**
+     * <P>Intern a notification name or type.</P>
+     *
+     * <P>Interned strings are encoded as a small id. Ids are
+     * given in order of registration, starting at 0.</P>
+     *
+     * @param name the string to intern
+     * @return the id of the string
+     */
+    public synchronized int registerName(String name) {
+        Integer id = nameIds.get(name);
+        if(id != null) return id;
+        names.add(name);
+        nameIds.put(name, names.size() - 1);
+        return names.size() - 1;
+    }
+
+    /**
+     * <P>Register a codec for the bodies of a given class.</P>
+     *
+     * @param id the id of the codec, at least <code>FIRST_CUSTOM_ID</code>
+     * @param type the exact class of the bodies
+     * @param codec the codec
+     * @param <T> the type of the bodies
+     * @throws IllegalArgumentException if the id is reserved or already registered
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> void registerBodyCodec(int id, Class<T> type, IBodyCodec<T> codec) {
+        if(id < FIRST_CUSTOM_ID || codecs.containsKey(id)) throw new IllegalArgumentException("Body codec id " + id + " is reserved or already registered");
+        codecs.put(id, (IBodyCodec<Object>) codec);
+        codecIds.put(type, id);
+    }
+
+    /**
+     * <P>Encode a notification at the position of a buffer.</P>
+     *
+     * @param notification the notification to encode
+     * @param buffer the buffer to write to
+     * @throws BufferOverflowException if the buffer is too small
+     * @throws IllegalArgumentException if the body has no codec and there is no serializer
+     */
+    public void encode(INotification notification, ByteBuffer buffer) {
+        writeString(buffer, notification.getName());
+        writeString(buffer, notification.getType());
+
+        Object body = notification.getBody();
+        if(body == null) {
+            writeVarint(buffer, NULL);
+            return;
+        }
+        Integer id = codecIds.get(body.getClass());
+        if(id == null && body instanceof ByteBuffer) id = BYTE_BUFFER;
+        if(id != null) {
+            writeVarint(buffer, id);
+            codecs.get(id).encode(body, buffer);
+        } else if(serializer != null) {
+            writeVarint(buffer, SERIALIZED);
+            byte[] bytes = serializer.serialize(body);
+            writeVarint(buffer, bytes.length);
+            buffer.put(bytes);
+        } else {
+            throw new IllegalArgumentException("No codec for body of " + body.getClass());
+        }
+    }
+
+    /**
+     * <P>Encode a notification into a reusable buffer, growing it as needed.</P>
+     *
+     * @param notification the notification to encode
+     * @param buffer the buffer to reuse
+     * @return the buffer holding the encoded notification between its position and limit,
+     * which is a new one if the given buffer was too small
+     */
+    public ByteBuffer encodeGrowing(INotification notification, ByteBuffer buffer) {
+        while(true) {
+            buffer.clear();
+            try {
+                encode(notification, buffer);
+                buffer.flip();
+                return buffer;
+            } catch (BufferOverflowException exception) {
+                buffer = buffer.isDirect() ? ByteBuffer.allocateDirect(buffer.capacity() * 2) : ByteBuffer.allocate(buffer.capacity() * 2);
+            }
+        }
+    }
+
+    /**
+     * <P>Decode a notification at the position of a buffer.</P>
+     *
+     * <P>A <code>ByteBuffer</code> body is a slice of the buffer,
+     * only valid as long as the buffer is not reused.</P>
+     *
+     * @param buffer the buffer to read from, left positioned after the notification
+     * @return the notification
+     * @throws IllegalArgumentException if the body codec is unknown
+     */
+    public INotification decode(ByteBuffer buffer) {
+        return decode(buffer, false);
+    }
+
+    /**
+     * <P>Decode a notification at the position of a buffer, copying a <code>ByteBuffer</code> body if asked to.</P>
+     *
+     * @param buffer the buffer to read from, left positioned after the notification
+     * @param copy whether a <code>ByteBuffer</code> body is copied out of the buffer, for a buffer that is reused
+     * @return the notification
+     * @throws IllegalArgumentException if the body codec is unknown
+     */
+    public INotification decode(ByteBuffer buffer, boolean copy) {
+        String name = readString(buffer);
+        String type = readString(buffer);
+
+        int id = readVarint(buffer);
+        Object body;
+        if(id == NULL) {
+            body = null;
+        } else if(id == SERIALIZED) {
+            if(serializer == null) throw new IllegalArgumentException("No serializer for serialized body");
+            byte[] bytes = new byte[readVarint(buffer)];
+            buffer.get(bytes);
+            body = serializer.deserialize(bytes);
+        } else {
+            IBodyCodec<Object> codec = codecs.get(id);
+            if(codec == null) throw new IllegalArgumentException("Unknown body codec id " + id);
+            body = codec.decode(buffer);
+        }
+        if(copy && body instanceof ByteBuffer) {
+            ByteBuffer copied = ByteBuffer.allocate(((ByteBuffer) body).remaining());
+            copied.put((ByteBuffer) body);
+            copied.flip();
+            body = copied;
+        }
+        return new Notification(name, body, type);
+    }
+
+    /**
+     * <P>Write an unsigned varint.</P>
+     *
+     * @param buffer the buffer to write to
+     * @param value the value, treated as unsigned
+     */
+    public static void writeVarint(ByteBuffer buffer, int value) {
+        while((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * <P>Read an unsigned varint.</P>
+     *
+     * @param buffer the buffer to read from
+     * @return the value
+     */
+    public static int readVarint(ByteBuffer buffer) {
+        int value = 0;
+        for(int shift = 0; ; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if(b >= 0) return value;
+        }
+    }
+
+    /**
+     * <P>Write an unsigned variable-length long.</P>
+     *
+     * @param buffer the buffer to write to
+     * @param value the value, treated as unsigned
+     */
+    public static void writeVarlong(ByteBuffer buffer, long value) {
+        while((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * <P>Read an unsigned variable-length long.</P>
+     *
+     * @param buffer the buffer to read from
+     * @return the value
+     */
+    public static long readVarlong(ByteBuffer buffer) {
+        long value = 0;
+        for(int shift = 0; ; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if(b >= 0) return value;
+        }
+    }
+
+    // null is 0, an interned id is odd, an inline string is even
+    private void writeString(ByteBuffer buffer, String string) {
+        if(string == null) {
+            writeVarint(buffer, 0);
+            return;
+        }
+        Integer id = nameIds.get(string);
+        if(id != null) {
+            writeVarint(buffer, (id << 1) | 1);
+            return;
+        }
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarint(buffer, (bytes.length + 1) << 1);
+        buffer.put(bytes);
+    }
+
+    private String readString(ByteBuffer buffer) {
+        int tag = readVarint(buffer);
+        if(tag == 0) return null;
+        if((tag & 1) == 1) return names.get(tag >>> 1);
+        return readUtf8(buffer, (tag >>> 1) - 1);
+    }
+
+    private static String readUtf8(ByteBuffer buffer, int length) {
+        String string;
+        if(buffer.hasArray()) {
+            string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            string = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return string;
+    }
+
+    private <T> void registerBuiltIn(int id, Class<T> type, IBodyCodec<T> codec) {
+        @SuppressWarnings("unchecked")
+        IBodyCodec<Object> untyped = (IBodyCodec<Object>) codec;
+        codecs.put(id, untyped);
+        codecIds.put(type, id);
+    }
+
+    private void registerBuiltInCodecs() {
+        registerBuiltIn(STRING, String.class, new IBodyCodec<String>() {
+            public void encode(String body, ByteBuffer buffer) {
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                writeVarint(buffer, bytes.length);
+                buffer.put(bytes);
+            }
+            public String decode(ByteBuffer buffer) {
+                return readUtf8(buffer, readVarint(buffer));
+            }
+        });
+        registerBuiltIn(INTEGER, Integer.class, new IBodyCodec<Integer>() {
+            public void encode(Integer body, ByteBuffer buffer) {
+                writeVarint(buffer, (body << 1) ^ (body >> 31));
+            }
+            public Integer decode(ByteBuffer buffer) {
+                int value = readVarint(buffer);
+                return (value >>> 1) ^ -(value & 1);
+            }
+        });
+        registerBuiltIn(LONG, Long.class, new IBodyCodec<Long>() {
+            public void encode(Long body, ByteBuffer buffer) {
+                writeVarlong(buffer, (body << 1) ^ (body >> 63));
+            }
+            public Long decode(ByteBuffer buffer) {
+                long value = readVarlong(buffer);
+                return (value >>> 1) ^ -(value & 1);
+            }
+        });
+        registerBuiltIn(DOUBLE, Double.class, new IBodyCodec<Double>() {
+            public void encode(Double body, ByteBuffer buffer) {
+                buffer.putDouble(body);
+            }
+            public Double decode(ByteBuffer buffer) {
+                return buffer.getDouble();
+            }
+        });
+        registerBuiltIn(BOOLEAN, Boolean.class, new IBodyCodec<Boolean>() {
+            public void encode(Boolean body, ByteBuffer buffer) {
+                buffer.put((byte) (body ? 1 : 0));
+            }
+            public Boolean decode(ByteBuffer buffer) {
+                return buffer.get() != 0;
+            }
+        });
+        registerBuiltIn(BYTES, byte[].class, new IBodyCodec<byte[]>() {
+            public void encode(byte[] body, ByteBuffer buffer) {
+                writeVarint(buffer, body.length);
+                buffer.put(body);
+            }
+            public byte[] decode(ByteBuffer buffer) {
+                byte[] bytes = new byte[readVarint(buffer)];
+                buffer.get(bytes);
+                return bytes;
+            }
+        });
+        registerBuiltIn(BYTE_BUFFER, ByteBuffer.class, new IBodyCodec<ByteBuffer>() {
+            public void encode(ByteBuffer body, ByteBuffer buffer) {
+                writeVarint(buffer, body.remaining());
+                buffer.put(body.duplicate());
+            }
+            public ByteBuffer decode(ByteBuffer buffer) {
+                int length = readVarint(buffer);
+                ByteBuffer slice = buffer.slice();
+                slice.limit(length);
+                buffer.position(buffer.position() + length);
+                return slice;
+            }
+        });
+    }
+
+}
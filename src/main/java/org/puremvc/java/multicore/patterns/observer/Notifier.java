@@ -8,9 +8,14 @@
 package org.puremvc.java.multicore.patterns.observer;
 
 import org.puremvc.java.multicore.interfaces.IFacade;
-import org.puremvc.java.multicore.interfaces.INotifier;
+import org.puremvc.java.multicore.interfaces.IRequestingNotifier;
+import org.puremvc.java.multicore.interfaces.ISchedulingNotifier;
+import org.puremvc.java.multicore.interfaces.ITimeout;
 import org.puremvc.java.multicore.patterns.facade.Facade;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 /**
  * <P>A Base <code>INotifier</code> implementation.</P>
  *
@@ -43,17 +48,31 @@ import org.puremvc.java.multicore.patterns.facade.Facade;
  * @see org.puremvc.java.multicore.patterns.command.MacroCommand MacroCommand
  * @see org.puremvc.java.multicore.patterns.command.SimpleCommand SimpleCommand
  */
-public class Notifier implements INotifier {
+public class Notifier implements ISchedulingNotifier, IRequestingNotifier {
 
     protected String multitonKey;
 
     protected final String MULTITON_MSG = "multitonKey for this Notifier not yet initialized!";
+    protected final String SCHEDULING_MSG = "Facade of this core does not schedule notifications!";
+    protected final String REQUESTING_MSG = "Facade of this core does not send requests!";
 
     protected IFacade getFacade() {
         if(multitonKey == null) throw new RuntimeException(MULTITON_MSG);
         return Facade.getInstance(multitonKey, key -> new Facade(key));
     }
 
+    protected ISchedulingNotifier getScheduler() {
+        IFacade facade = getFacade();
+        if(!(facade instanceof ISchedulingNotifier)) throw new IllegalStateException(SCHEDULING_MSG);
+        return (ISchedulingNotifier) facade;
+    }
+
+    protected IRequestingNotifier getRequester() {
+        IFacade facade = getFacade();
+        if(!(facade instanceof IRequestingNotifier)) throw new IllegalStateException(REQUESTING_MSG);
+        return (IRequestingNotifier) facade;
+    }
+
     /**
      * <P>Create and send an <code>INotification</code>.</P>
      *
@@ -93,6 +112,66 @@ public class Notifier implements INotifier {
         getFacade().sendNotification(notificationName);
     }
 
+    /**
+     * <P>Send an <code>INotification</code> after a delay.</P>
+     *
+     * @param notificationName the name of the notification to send
+     * @param body the body of the notification
+     * @param type the type of the notification
+     * @param delay the delay
+     * @param unit the time unit of the delay
+     * @return the timeout, to cancel the notification
+     * @throws IllegalStateException if the facade of this core does not schedule notifications
+     */
+    public ITimeout scheduleNotification(String notificationName, Object body, String type, long delay, TimeUnit unit) {
+        return getScheduler().scheduleNotification(notificationName, body, type, delay, unit);
+    }
+
+    /**
+     * <P>Send an <code>INotification</code> periodically, after an initial delay.</P>
+     *
+     * @param notificationName the name of the notification to send
+     * @param body the body of the notification
+     * @param type the type of the notification
+     * @param initialDelay the delay of the first notification
+     * @param period the period between notifications
+     * @param unit the time unit of the delay and period
+     * @return the timeout, to cancel the notifications
+     * @throws IllegalStateException if the facade of this core does not schedule notifications
+     */
+    public ITimeout scheduleNotificationAtFixedRate(String notificationName, Object body, String type, long initialDelay, long period, TimeUnit unit) {
+        return getScheduler().scheduleNotificationAtFixedRate(notificationName, body, type, initialDelay, period, unit);
+    }
+
+    /**
+     * <P>Send a request and get the future of its reply.</P>
+     *
+     * @param notificationName the name of the request to send
+     * @param body the body of the request
+     * @param type the type of the request
+     * @param timeout the time to wait for the reply
+     * @param unit the time unit of the timeout
+     * @param <T> the type of the response
+     * @return the future of the response
+     * @throws IllegalStateException if the facade of this core does not send requests
+     */
+    public <T> CompletableFuture<T> request(String notificationName, Object body, String type, long timeout, TimeUnit unit) {
+        return getRequester().request(notificationName, body, type, timeout, unit);
+    }
+
+    /**
+     * <P>Send a request and get the future of its reply, within the default timeout.</P>
+     *
+     * @param notificationName the name of the request to send
+     * @param body the body of the request
+     * @param <T> the type of the response
+     * @return the future of the response
+     * @throws IllegalStateException if the facade of this core does not send requests
+     */
+    public <T> CompletableFuture<T> request(String notificationName, Object body) {
+        return getRequester().request(notificationName, body);
+    }
+
     /**
      * <P>Initialize this INotifier instance.</P>
      *
@@ -35,6 +35,7 @@ public class Observer implements IObserver {
 
     private Object context;
     private Consumer<INotification> notify;
+    private int priority;
 
     /**
      * <P>Constructor.</P>
@@ -46,8 +47,29 @@ public class Observer implements IObserver {
      * @param notifyContext the notification context of the interested object
      */
     public Observer(Consumer<INotification> notifyMethod, Object notifyContext) {
+        this(notifyMethod, notifyContext, 0);
+    }
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param notifyMethod the notification method of the interested object
+     * @param notifyContext the notification context of the interested object
+     * @param priority the priority of the observer, higher priorities are notified first
+     */
+    public Observer(Consumer<INotification> notifyMethod, Object notifyContext, int priority) {
         setNotifyMethod(notifyMethod);
         setNotifyContext(notifyContext);
+        this.priority = priority;
+    }
+
+    /**
+     * <P>Get the priority of the observer.</P>
+     *
+     * @return the priority of the observer
+     */
+    public int getPriority() {
+        return priority;
     }
 
     /**
@@ -74,7 +96,7 @@ public class Observer implements IObserver {
      *
      * @return the notification context (<code>this</code>) of the interested object.
      */
-    protected Object getNotifyContext() {
+    public Object getNotifyContext() {
         return context;
     }
 
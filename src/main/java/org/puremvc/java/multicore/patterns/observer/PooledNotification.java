@@ -0,0 +1,174 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+import org.puremvc.java.multicore.interfaces.INotification;
+
+import java.util.Arrays;
+
+/**
+ * <P>A reusable <code>INotification</code>.</P>
+ *
+ * <P>Each thread keeps a small stack of pooled notifications, one per
+ * level of nested sends, so sending a notification from an observer
+ * of another one never clobbers the outer notification. A pooled
+ * notification is acquired before a synchronous dispatch and released
+ * once it completes, after which it is reused by the next send.</P>
+ *
+ * <P>An observer must not keep a reference to a pooled notification
+ * beyond its notification method. An observer keeping it, for later
+ * or for another thread, keeps its <code>retain()</code> copy instead:</P>
+ *
+ * <pre>
+ * {@code history.add(notification.retain());
+ * }
+ * </pre>
+ *
+ * @see org.puremvc.java.multicore.patterns.facade.Facade#setNotificationPooling(boolean) Facade.setNotificationPooling
+ */
+public class PooledNotification implements INotification {
+
+    // the pooled notifications of each thread, by nesting depth
+    private static final ThreadLocal<Pool> pools = ThreadLocal.withInitial(Pool::new);
+
+    private static class Pool {
+        private PooledNotification[] notifications = new PooledNotification[4];
+        private int depth;
+    }
+
+    // the pool of this notification
+    private final Pool pool;
+
+    private String name;
+    private Object body;
+    private String type;
+
+    // whether the notification is acquired
+    private boolean acquired;
+
+    private PooledNotification(Pool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * <P>Acquire a pooled notification of the current thread.</P>
+     *
+     * @param name name of the notification
+     * @param body the body of the notification
+     * @param type the type of the notification
+     * @return the pooled notification, to be released by the current thread
+     */
+    public static PooledNotification acquire(String name, Object body, String type) {
+        Pool pool = pools.get();
+        if(pool.depth == pool.notifications.length) {
+            pool.notifications = Arrays.copyOf(pool.notifications, pool.depth * 2);
+        }
+        PooledNotification notification = pool.notifications[pool.depth];
+        if(notification == null) {
+            notification = new PooledNotification(pool);
+            pool.notifications[pool.depth] = notification;
+        }
+        pool.depth++;
+        notification.name = name;
+        notification.body = body;
+        notification.type = type;
+        notification.acquired = true;
+        return notification;
+    }
+
+    /**
+     * <P>Release the notification to its pool, once its dispatch is complete.</P>
+     *
+     * <P>Notifications are released in the reverse order of their acquisition.
+     * The body is cleared, so the pool does not retain it.</P>
+     */
+    public void release() {
+        if(!acquired) return;
+        acquired = false;
+        name = null;
+        body = null;
+        type = null;
+        pool.depth--;
+    }
+
+    /**
+     * <P>Copy the notification, for an observer keeping it.</P>
+     *
+     * @return a new <code>Notification</code> with the same name, body and type
+     */
+    public INotification retain() {
+        return new Notification(name, body, type);
+    }
+
+    /**
+     * <P>Check if the notification is being dispatched.</P>
+     *
+     * @return whether the notification is acquired
+     */
+    public boolean isAcquired() {
+        return acquired;
+    }
+
+    /**
+     * <P>Get the name of the <code>Notification</code> instance.</P>
+     *
+     * @return the name of the <code>Notification</code> instance.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * <P>Set the body of the <code>Notification</code> instance.</P>
+     *
+     * @param body the body
+     */
+    public void setBody(Object body) {
+        this.body = body;
+    }
+
+    /**
+     * <P>Get the body of the <code>Notification</code> instance.</P>
+     *
+     * @return the body object.
+     */
+    public Object getBody() {
+        return body;
+    }
+
+    /**
+     * <P>Set the type of the <code>Notification</code> instance.</P>
+     *
+     * @param type the type
+     */
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    /**
+     * <P>Get the type of the <code>Notification</code> instance.</P>
+     *
+     * @return the type
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * <P>Get the string representation of the <code>Notification</code> instance.</P>
+     *
+     * @return the string representation of the <code>Notification</code> instance.
+     */
+    public String toString() {
+        return new StringBuilder("Notification Name: " + getName())
+                .append("\nBody:" + ((body == null) ? "null" : body.toString()))
+                .append("\nType:" + ((type == null) ? "null" : type))
+                .toString();
+    }
+
+}
@@ -0,0 +1,77 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <P>A <code>Notification</code> expecting a reply.</P>
+ *
+ * <P>A request carries the future of its response, so the reply is
+ * correlated with the request without a reply notification name or an
+ * identifier. An observer of the request replies through it:</P>
+ *
+ * <pre>
+ * {@code public void handleNotification(INotification notification) {
+ *     notification.reply(quoteProxy.getQuote((String) notification.getBody()));
+ * }
+ * }
+ * </pre>
+ *
+ * <P>The first reply completes the future, later ones are ignored.
+ * A request is shared rather than copied by <code>retain</code>, so an
+ * observer may keep it and reply later, from another thread.</P>
+ *
+ * @see org.puremvc.java.multicore.patterns.facade.Facade#request(String, Object, String, long, java.util.concurrent.TimeUnit) Facade.request
+ */
+public class RequestNotification extends Notification {
+
+    // the future of the response
+    private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param name name of the request
+     * @param body the body of the request
+     * @param type the type of the request
+     */
+    public RequestNotification(String name, Object body, String type) {
+        super(name, body, type);
+    }
+
+    /**
+     * <P>Get the future of the response.</P>
+     *
+     * @return the future completed by the reply
+     */
+    public CompletableFuture<Object> getFuture() {
+        return future;
+    }
+
+    /**
+     * <P>Reply to the request.</P>
+     *
+     * @param response the response
+     * @return false if the request was already replied to or timed out
+     */
+    public boolean reply(Object response) {
+        return future.complete(response);
+    }
+
+    /**
+     * <P>Reply to the request with a failure.</P>
+     *
+     * @param error the failure
+     * @return false if the request was already replied to or timed out
+     */
+    public boolean replyExceptionally(Throwable error) {
+        return future.completeExceptionally(error);
+    }
+
+}
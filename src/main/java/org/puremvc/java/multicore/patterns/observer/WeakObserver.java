@@ -0,0 +1,136 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.interfaces.IObserver;
+
+import java.lang.ref.WeakReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * <P>An <code>IObserver</code> holding its notification context weakly.</P>
+ *
+ * <P>A <code>WeakObserver</code> does not keep its context alive: once the
+ * context is garbage collected, the observer stops notifying and the
+ * <code>View</code> purges it, lazily when notifying its observer list or
+ * with <code>View.purgeCollectedObservers</code>, so a forgotten listener
+ * does not retain its object graph forever.</P>
+ *
+ * <P>The notification method takes the context as an argument rather than
+ * capturing it, since a method reference bound to the context, such as
+ * <code>component::update</code>, would hold it strongly:</P>
+ *
+ * <pre>
+ * {@code view.registerObserver("Quote", new WeakObserver<>(component, QuoteComponent::update));
+ * }
+ * </pre>
+ *
+ * @param <T> the type of the notification context
+ *
+ * @see org.puremvc.java.multicore.core.View View
+ */
+public class WeakObserver<T> implements IObserver {
+
+    private WeakReference<T> context;
+    private BiConsumer<T, INotification> notify;
+    private int priority;
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param notifyContext the notification context of the interested object, held weakly
+     * @param notifyMethod the notification method, passed the context and the notification
+     * @param priority the priority of the observer, higher priorities are notified first
+     */
+    public WeakObserver(T notifyContext, BiConsumer<T, INotification> notifyMethod, int priority) {
+        this.context = new WeakReference<>(notifyContext);
+        this.notify = notifyMethod;
+        this.priority = priority;
+    }
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param notifyContext the notification context of the interested object, held weakly
+     * @param notifyMethod the notification method, passed the context and the notification
+     */
+    public WeakObserver(T notifyContext, BiConsumer<T, INotification> notifyMethod) {
+        this(notifyContext, notifyMethod, 0);
+    }
+
+    /**
+     * <P>Compare an object to the notification context.</P>
+     *
+     * @param object the object to compare
+     * @return boolean indicating if the object and the notification context are the same
+     */
+    public boolean compareNotifyContext(Object object) {
+        return object != null && object == context.get();
+    }
+
+    /**
+     * <P>Notify the interested object, unless it has been collected.</P>
+     *
+     * @param notification the <code>INotification</code> to pass to the interested object's notification method.
+     */
+    public void notifyObserver(INotification notification) {
+        T notifyContext = context.get();
+        if(notifyContext != null) notify.accept(notifyContext, notification);
+    }
+
+    /**
+     * <P>Check if the notification context has been garbage collected.</P>
+     *
+     * @return whether the notification context has been collected
+     */
+    public boolean isCollected() {
+        return context.get() == null;
+    }
+
+    /**
+     * <P>Get the notification context.</P>
+     *
+     * @return the notification context, or <code>null</code> if it has been collected
+     */
+    public Object getNotifyContext() {
+        return context.get();
+    }
+
+    /**
+     * <P>Set the notification context.</P>
+     *
+     * @param notifyContext the notification context of the interested object, held weakly
+     */
+    @SuppressWarnings("unchecked")
+    public void setNotifyContext(Object notifyContext) {
+        this.context = new WeakReference<>((T) notifyContext);
+    }
+
+    /**
+     * <P>Set the notification method.</P>
+     *
+     * <P>The method is held strongly, so it must not capture the context.</P>
+     *
+     * @param notifyMethod the notification consumer method of the interested object
+     */
+    public void setNotifyMethod(Consumer<INotification> notifyMethod) {
+        this.notify = (notifyContext, notification) -> notifyMethod.accept(notification);
+    }
+
+    /**
+     * <P>Get the priority of the observer.</P>
+     *
+     * @return the priority of the observer
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+}
@@ -0,0 +1,286 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.pipes;
+
+import org.puremvc.java.multicore.interfaces.IFacade;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.facade.Facade;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * <P>A Multiton mailbox delivering <code>INotification</code>s to a core on its own thread.</P>
+ *
+ * <P>Each core that receives notifications through a <code>Pipe</code> has one
+ * <code>Mailbox</code>, holding a queue of pending tasks and a dedicated thread,
+ * virtual on Java 21, that runs them in order. Posting a notification enqueues
+ * its delivery to <code>Facade.notifyObservers</code> of the core, so senders
+ * never share a lock or a call stack with the receiving core.</P>
+ *
+ * <P>A mailbox constructed with an <code>Executor</code> has no thread of its
+ * own: it is a serial executor, draining its queue in batches of
+ * <code>BATCH</code> tasks on the threads of the executor, never more than one
+ * batch at a time. Many mailboxes can share one executor, such as a
+ * <code>ForkJoinPool</code>, or a virtual thread per task executor on Java 21,
+ * so idle cores cost no thread at all.</P>
+ *
+ * <P>A task that throws, even an <code>Error</code>, is reported to the
+ * uncaught exception handler of the thread running it, which then moves on
+ * to the next task. The mailbox of a core is closed when the core is removed
+ * with <code>Facade.removeCore</code>, cancelling the pending tasks that are
+ * <code>Future</code>s, so no caller waits for them forever.</P>
+ *
+ * @see Pipe Pipe
+ */
+public class Mailbox {
+
+    /**
+     * <P>The default maximum number of pending tasks.</P>
+     */
+    public static final int DEFAULT_CAPACITY = 65536;
+
+    /**
+     * <P>The maximum number of tasks run per batch on an <code>Executor</code>.</P>
+     */
+    public static final int BATCH = 64;
+
+    // The Multiton Key of the receiving Core
+    protected String multitonKey;
+
+    // the pending tasks
+    protected BlockingQueue<Runnable> queue;
+
+    // the thread running the tasks, null on an executor
+    protected Thread thread;
+
+    // the executor running the tasks, null on a dedicated thread
+    protected Executor executor;
+
+    // whether a batch is scheduled on the executor
+    protected AtomicBoolean scheduled = new AtomicBoolean();
+
+    // the thread running the current batch on the executor
+    protected volatile Thread current;
+
+    protected volatile boolean running = true;
+
+    // the receiving Facade, resolved once by the mailbox thread
+    protected IFacade facade;
+
+    // The Multiton Mailbox instanceMap.
+    protected static Map<String, Mailbox> instanceMap = new HashMap<>();
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * <P>Starts the mailbox thread. Use the Multiton Factory
+     * method <code>Mailbox.getInstance</code> rather than
+     * calling the constructor directly.</P>
+     *
+     * @param key the multitonKey of the receiving core
+     * @param capacity the maximum number of pending tasks
+     */
+    public Mailbox(String key, int capacity) {
+        multitonKey = key;
+        queue = new LinkedBlockingQueue<>(capacity);
+        thread = MailboxThreads.newThread(this::run, "PureMVC-Mailbox-" + key);
+        thread.start();
+    }
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * <P>Runs the tasks on the given executor rather than
+     * on a dedicated thread.</P>
+     *
+     * @param key the multitonKey of the receiving core
+     * @param capacity the maximum number of pending tasks
+     * @param executor the executor running the tasks
+     */
+    public Mailbox(String key, int capacity, Executor executor) {
+        multitonKey = key;
+        queue = new LinkedBlockingQueue<>(capacity);
+        this.executor = executor;
+    }
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param key the multitonKey of the receiving core
+     */
+    public Mailbox(String key) {
+        this(key, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * <P>Mailbox Multiton Factory method.</P>
+     *
+     * @param key multitonKey
+     * @param factory a factory that accepts the key and returns a <code>Mailbox</code>
+     * @return the Multiton instance of <code>Mailbox</code>
+     */
+    public synchronized static Mailbox getInstance(String key, Function<String, Mailbox> factory) {
+        if(instanceMap.get(key) == null) {
+            instanceMap.put(key, factory.apply(key));
+        }
+        return instanceMap.get(key);
+    }
+
+    /**
+     * <P>Post a notification for delivery to the core.</P>
+     *
+     * <P>The notification is shared with the receiving thread rather
+     * than copied, so its body must not be modified once posted. A
+     * reusable notification is retained first.</P>
+     *
+     * @param notification the notification to deliver
+     * @return false if the mailbox is full or closed
+     */
+    public boolean post(INotification notification) {
+        INotification retained = notification.retain();
+        return execute(() -> deliver(retained));
+    }
+
+    /**
+     * <P>Enqueue a task to run on the mailbox thread.</P>
+     *
+     * @param task the task to run
+     * @return false if the mailbox is full or closed
+     */
+    public boolean execute(Runnable task) {
+        if(!running || !queue.offer(task)) return false;
+        // closed meanwhile, so the task may have missed the drain of close
+        if(!running && queue.remove(task)) return false;
+        if(executor != null) schedule();
+        return true;
+    }
+
+    /**
+     * <P>Check if the mailbox is closed.</P>
+     *
+     * @return whether the mailbox rejects tasks
+     */
+    public boolean isClosed() {
+        return !running;
+    }
+
+    /**
+     * <P>Check if the calling thread is the mailbox thread.</P>
+     *
+     * @return whether the caller runs on the mailbox thread
+     */
+    public boolean isMailboxThread() {
+        return Thread.currentThread() == (executor == null ? thread : current);
+    }
+
+    /**
+     * <P>Get the number of pending tasks.</P>
+     *
+     * @return the number of pending tasks
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * <P>Stop the mailbox thread, discarding the pending tasks.</P>
+     *
+     * <P>The pending tasks that are <code>Future</code>s are cancelled,
+     * so the threads waiting for them are released.</P>
+     */
+    public void close() {
+        running = false;
+        List<Runnable> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        for(Runnable task : pending) {
+            if(task instanceof Future) ((Future<?>) task).cancel(false);
+        }
+        if(thread != null) thread.interrupt();
+    }
+
+    /**
+     * <P>Deliver a notification to the core, if it still exists.</P>
+     *
+     * @param notification the notification to deliver
+     */
+    protected void deliver(INotification notification) {
+        if(facade == null) {
+            if(!Facade.hasCore(multitonKey)) return;
+            facade = Facade.getInstance(multitonKey, key -> new Facade(key));
+        }
+        facade.notifyObservers(notification);
+    }
+
+    private void run() {
+        while(running) {
+            Runnable task;
+            try {
+                task = queue.take();
+            } catch (InterruptedException exception) {
+                continue;
+            }
+            runTask(task);
+        }
+    }
+
+    // schedule a batch on the executor, unless one is already scheduled or running
+    private void schedule() {
+        if(!scheduled.compareAndSet(false, true)) return;
+        try {
+            executor.execute(this::drain);
+        } catch (RuntimeException exception) {
+            scheduled.set(false);
+            throw exception;
+        }
+    }
+
+    private void drain() {
+        current = Thread.currentThread();
+        try {
+            Runnable task;
+            for(int i=0; i<BATCH && running && (task = queue.poll()) != null; i++) {
+                runTask(task);
+            }
+        } finally {
+            current = null;
+            scheduled.set(false);
+        }
+        // reschedule rather than loop, so other mailboxes on the executor get a turn
+        if(running && !queue.isEmpty()) schedule();
+    }
+
+    private void runTask(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable throwable) {
+            // an Error too, so the thread of the mailbox survives it
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+        }
+    }
+
+    /**
+     * <P>Close and remove a Mailbox instance.</P>
+     *
+     * @param key of the Mailbox instance to remove
+     */
+    public synchronized static void removeMailbox(String key) {
+        Mailbox mailbox = instanceMap.remove(key);
+        if(mailbox != null) mailbox.close();
+    }
+
+}
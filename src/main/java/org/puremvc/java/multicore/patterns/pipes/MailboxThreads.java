@@ -0,0 +1,37 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.pipes;
+
+/**
+ * <P>The factory of the dedicated threads of <code>Mailbox</code>es.</P>
+ *
+ * <P>Creates platform daemon threads. The multi-release JAR replaces
+ * this class on Java 21 with one creating virtual threads, so a core
+ * per mailbox no longer costs a platform thread.</P>
+ *
+ * @see Mailbox Mailbox
+ */
+final class MailboxThreads {
+
+    private MailboxThreads() {
+    }
+
+    /**
+     * <P>Create the thread of a mailbox, not yet started.</P>
+     *
+     * @param task the loop of the mailbox
+     * @param name the name of the thread
+     * @return the thread
+     */
+    static Thread newThread(Runnable task, String name) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+}
@@ -0,0 +1,163 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.pipes;
+
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.facade.Facade;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * <P>A named channel carrying <code>INotification</code>s to one or more cores.</P>
+ *
+ * <P>Cores are connected to a <code>Pipe</code> by their multiton key. A
+ * notification written to the pipe passes through its filters in order, and
+ * is then posted to the <code>Mailbox</code> of every connected core, which
+ * delivers it asynchronously on the mailbox thread of that core.</P>
+ *
+ * <P>A filter returns the notification to pass on, which may be a different
+ * one, or <code>null</code> to drop it:</P>
+ *
+ * <pre>
+ * {@code Pipe pipe = Pipe.getInstance("orders", name -> new Pipe(name));
+ * pipe.connect("Shipping");
+ * pipe.addFilter(note -> note.getType() == null ? null : note);
+ * pipe.write(new Notification("OrderPlaced", order, "priority"));
+ * }
+ * </pre>
+ *
+ * <P>The mailbox of a connected core is looked up once, on the first write
+ * to it, and again only after it is closed, so writing takes no lock. A core
+ * that is not registered, or was removed, is skipped.</P>
+ *
+ * <P>A <code>PipeMediator</code> forwards local notifications to a pipe.</P>
+ *
+ * @see Mailbox Mailbox
+ * @see PipeMediator PipeMediator
+ */
+public class Pipe {
+
+    // the name of the pipe
+    protected String name;
+
+    // the multiton keys of the connected cores
+    protected List<String> targets = new CopyOnWriteArrayList<>();
+
+    // the mailboxes of the connected cores, by multiton key
+    protected Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    // the filters, applied in order
+    protected List<UnaryOperator<INotification>> filters = new CopyOnWriteArrayList<>();
+
+    // The Pipe instanceMap.
+    protected static Map<String, Pipe> instanceMap = new HashMap<>();
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param name the name of the pipe
+     */
+    public Pipe(String name) {
+        this.name = name;
+    }
+
+    /**
+     * <P>Pipe Factory method.</P>
+     *
+     * @param name the name of the pipe
+     * @param factory a factory that accepts the name and returns a <code>Pipe</code>
+     * @return the instance of <code>Pipe</code> with the given name
+     */
+    public synchronized static Pipe getInstance(String name, Function<String, Pipe> factory) {
+        if(instanceMap.get(name) == null) {
+            instanceMap.put(name, factory.apply(name));
+        }
+        return instanceMap.get(name);
+    }
+
+    /**
+     * <P>Get the name of the pipe.</P>
+     *
+     * @return the name of the pipe
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * <P>Connect a core to the pipe.</P>
+     *
+     * @param multitonKey the multiton key of the core
+     */
+    public void connect(String multitonKey) {
+        if(!targets.contains(multitonKey)) targets.add(multitonKey);
+    }
+
+    /**
+     * <P>Disconnect a core from the pipe.</P>
+     *
+     * @param multitonKey the multiton key of the core
+     */
+    public void disconnect(String multitonKey) {
+        targets.remove(multitonKey);
+        mailboxes.remove(multitonKey);
+    }
+
+    /**
+     * <P>Add a filter to the pipe.</P>
+     *
+     * @param filter a function returning the notification to pass on, or <code>null</code> to drop it
+     */
+    public void addFilter(UnaryOperator<INotification> filter) {
+        filters.add(filter);
+    }
+
+    /**
+     * <P>Write a notification to the pipe.</P>
+     *
+     * <P>The filters run on the calling thread, the delivery
+     * to the connected cores runs on their mailbox threads.</P>
+     *
+     * @param notification the notification to write
+     * @return the number of cores the notification was posted to
+     */
+    public int write(INotification notification) {
+        for(UnaryOperator<INotification> filter : filters) {
+            notification = filter.apply(notification);
+            if(notification == null) return 0;
+        }
+
+        int posted = 0;
+        for(String target : targets) {
+            Mailbox mailbox = mailboxes.get(target);
+            if(mailbox == null || mailbox.isClosed()) {
+                mailbox = Facade.getMailbox(target);
+                if(mailbox == null) continue;
+                mailboxes.put(target, mailbox);
+            }
+            if(mailbox.post(notification)) posted++;
+        }
+        return posted;
+    }
+
+    /**
+     * <P>Remove a Pipe instance.</P>
+     *
+     * @param name of the Pipe instance to remove
+     */
+    public synchronized static void removePipe(String name) {
+        instanceMap.remove(name);
+    }
+
+}
@@ -0,0 +1,62 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.pipes;
+
+import org.puremvc.java.multicore.interfaces.IMediator;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.mediator.Mediator;
+
+/**
+ * <P>A <code>Mediator</code> forwarding local notifications to a <code>Pipe</code>.</P>
+ *
+ * <P>Registered with the <code>View</code> of the sending core, it writes every
+ * notification with one of the given names to the pipe, from where it is
+ * delivered asynchronously to the connected cores.</P>
+ *
+ * @see Pipe Pipe
+ */
+public class PipeMediator extends Mediator implements IMediator {
+
+    // the pipe to forward to
+    protected Pipe pipe;
+
+    // the names of the forwarded notifications
+    protected String[] interests;
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param mediatorName mediator name
+     * @param pipe the pipe to forward to
+     * @param interests the names of the notifications to forward
+     */
+    public PipeMediator(String mediatorName, Pipe pipe, String... interests) {
+        super(mediatorName, pipe);
+        this.pipe = pipe;
+        this.interests = interests;
+    }
+
+    /**
+     * <P>List the names of the forwarded notifications.</P>
+     *
+     * @return the names of the forwarded notifications
+     */
+    public String[] listNotificationInterests() {
+        return interests;
+    }
+
+    /**
+     * <P>Write the notification to the pipe.</P>
+     *
+     * @param notification the notification to forward
+     */
+    public void handleNotification(INotification notification) {
+        pipe.write(notification);
+    }
+
+}
@@ -0,0 +1,104 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.proxy;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * <P>A base <code>IProxy</code> implementation holding a fixed-length array of <code>double</code> values.</P>
+ *
+ * <P>The values are stored unboxed in a <code>DoubleBuffer</code>, which is either
+ * heap-backed or, when constructed with <code>direct</code> set to true,
+ * allocated outside of the Java heap.</P>
+ *
+ * <P>The bulk <code>get</code> and <code>set</code> methods copy ranges of
+ * values without boxing. Subclasses send <code>Notification</code>s through
+ * the inherited <code>sendNotification</code> after updating the values,
+ * so observers may batch their reads.</P>
+ *
+ * @see Proxy Proxy
+ */
+public class DoubleArrayProxy extends PrimitiveArrayProxy<DoubleBuffer, double[]> {
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param proxyName proxy name
+     * @param length the number of values
+     * @param direct true to allocate the values outside of the Java heap
+     */
+    public DoubleArrayProxy(String proxyName, int length, boolean direct) {
+        super(proxyName, direct ? allocateDirect(length, Double.BYTES).asDoubleBuffer() : DoubleBuffer.allocate(length), double[].class, DoubleBuffer.class);
+    }
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param proxyName proxy name
+     * @param length the number of values
+     */
+    public DoubleArrayProxy(String proxyName, int length) {
+        this(proxyName, length, false);
+    }
+
+    /**
+     * <P>Get a value.</P>
+     *
+     * @param index the index of the value
+     * @return the value
+     */
+    public double get(int index) {
+        return values.get(index);
+    }
+
+    /**
+     * <P>Set a value.</P>
+     *
+     * @param index the index of the value
+     * @param value the value
+     */
+    public void set(int index, double value) {
+        values.put(index, value);
+    }
+
+    /**
+     * <P>Copy a range of values into an array.</P>
+     *
+     * @param index the index of the first value to copy
+     * @param destination the array to copy into
+     * @param offset the offset in the destination array
+     * @param length the number of values to copy
+     */
+    public void get(int index, double[] destination, int offset, int length) {
+        at(index).get(destination, offset, length);
+    }
+
+    public void set(int index, double[] source, int offset, int length) {
+        at(index).put(source, offset, length);
+    }
+
+    /**
+     * <P>Set every value.</P>
+     *
+     * @param value the value
+     */
+    public void fill(double value) {
+        for(int i=0; i<values.capacity(); i++) {
+            values.put(i, value);
+        }
+    }
+
+    DoubleBuffer duplicate(DoubleBuffer buffer) {
+        return buffer.duplicate();
+    }
+
+    void put(DoubleBuffer target, DoubleBuffer source) {
+        target.put(source);
+    }
+
+}
@@ -0,0 +1,195 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.proxy;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+
+/**
+ * <P>A base <code>IProxy</code> implementation holding a bounded series of <code>double</code> values.</P>
+ *
+ * <P>The series is a ring: once <code>capacity</code> values have been
+ * appended, each new value overwrites the oldest one. Values are indexed
+ * from the oldest (0) to the latest (<code>size() - 1</code>) and stored
+ * unboxed in a <code>DoubleBuffer</code>, either on the heap or, when
+ * constructed with <code>direct</code> set to true, outside of the Java heap.</P>
+ *
+ * @see Proxy Proxy
+ */
+public class DoubleSeriesProxy extends Proxy {
+
+    // the ring of values
+    protected DoubleBuffer values;
+
+    // the slot the next value is written to
+    protected int head;
+
+    // the number of values in the series
+    protected int size;
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param proxyName proxy name
+     * @param capacity the maximum number of values kept, at least 1
+     * @param direct true to allocate the values outside of the Java heap
+     * @throws IllegalArgumentException if capacity is less than 1
+     */
+    public DoubleSeriesProxy(String proxyName, int capacity, boolean direct) {
+        super(proxyName);
+        if(capacity < 1) throw new IllegalArgumentException("Invalid DoubleSeriesProxy capacity: " + capacity);
+        values = direct
+                ? ByteBuffer.allocateDirect(capacity * Double.BYTES).order(ByteOrder.nativeOrder()).asDoubleBuffer()
+                : DoubleBuffer.allocate(capacity);
+        data = values;
+    }
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param proxyName proxy name
+     * @param capacity the maximum number of values kept, at least 1
+     * @throws IllegalArgumentException if capacity is less than 1
+     */
+    public DoubleSeriesProxy(String proxyName, int capacity) {
+        this(proxyName, capacity, false);
+    }
+
+    /**
+     * <P>Get the data object</P>
+     *
+     * <P>The ring is returned as is, use <code>get(double[])</code>
+     * for the values in order.</P>
+     *
+     * @return the ring of values as a <code>DoubleBuffer</code>
+     */
+    public DoubleBuffer getData() {
+        return values;
+    }
+
+    /**
+     * <P>Set the data object</P>
+     *
+     * <P>Clears the series and appends the given values.</P>
+     *
+     * @param data a <code>double[]</code>
+     * @throws IllegalArgumentException if data is not a <code>double[]</code>
+     */
+    public void setData(Object data) {
+        if(!(data instanceof double[])) throw new IllegalArgumentException("DoubleSeriesProxy data must be a double[]");
+        clear();
+        append((double[]) data, 0, ((double[]) data).length);
+    }
+
+    /**
+     * <P>Get the maximum number of values kept.</P>
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return values.capacity();
+    }
+
+    /**
+     * <P>Get the number of values in the series.</P>
+     *
+     * @return the size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * <P>Append a value, overwriting the oldest one if the series is full.</P>
+     *
+     * @param value the value
+     */
+    public void append(double value) {
+        values.put(head, value);
+        head = (head + 1) % values.capacity();
+        if(size < values.capacity()) size++;
+    }
+
+    /**
+     * <P>Append a range of values, in order.</P>
+     *
+     * @param source the array to copy from
+     * @param offset the offset in the source array
+     * @param length the number of values to append
+     */
+    public void append(double[] source, int offset, int length) {
+        int capacity = values.capacity();
+
+        // only the last capacity values can survive
+        if(length > capacity) {
+            offset += length - capacity;
+            length = capacity;
+        }
+
+        DoubleBuffer target = values.duplicate();
+        int first = Math.min(length, capacity - head);
+        target.position(head);
+        target.put(source, offset, first);
+        target.position(0);
+        target.put(source, offset + first, length - first);
+
+        head = (head + length) % capacity;
+        size = Math.min(size + length, capacity);
+    }
+
+    /**
+     * <P>Get a value.</P>
+     *
+     * @param index the index of the value, 0 being the oldest
+     * @return the value
+     * @throws IndexOutOfBoundsException if index is not below <code>size()</code>
+     */
+    public double get(int index) {
+        if(index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return values.get((head - size + index + values.capacity()) % values.capacity());
+    }
+
+    /**
+     * <P>Get the latest value.</P>
+     *
+     * @return the latest value
+     * @throws IndexOutOfBoundsException if the series is empty
+     */
+    public double latest() {
+        return get(size - 1);
+    }
+
+    /**
+     * <P>Copy the values, oldest first, into an array.</P>
+     *
+     * @param destination the array to fill, at least <code>size()</code> long
+     * @return the number of values copied
+     */
+    public int get(double[] destination) {
+        int capacity = values.capacity();
+        int start = (head - size + capacity) % capacity;
+        int first = Math.min(size, capacity - start);
+
+        DoubleBuffer source = values.duplicate();
+        source.position(start);
+        source.get(destination, 0, first);
+        source.position(0);
+        source.get(destination, first, size - first);
+        return size;
+    }
+
+    /**
+     * <P>Remove all values.</P>
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+}
@@ -0,0 +1,303 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.proxy;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+/**
+ * <P>A base <code>IProxy</code> implementation holding a map of <code>long</code> keys to <code>long</code> values.</P>
+ *
+ * <P>Keys and values are stored unboxed in open-addressed <code>LongBuffer</code>s
+ * using linear probing, either on the heap or, when constructed with
+ * <code>direct</code> set to true, outside of the Java heap. <code>int</code>
+ * keys or values widen to <code>long</code> without loss.</P>
+ *
+ * <P>The entries are accessed through the typed methods of this class.
+ * The data object is a copy of the entries, as a pair of arrays.</P>
+ *
+ * @see Proxy Proxy
+ */
+public class LongMapProxy extends Proxy {
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    // true to allocate the tables outside of the Java heap
+    protected boolean direct;
+
+    // the key, value and occupancy tables
+    protected LongBuffer keys;
+    protected LongBuffer values;
+    protected ByteBuffer used;
+
+    // the number of entries
+    protected int size;
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param proxyName proxy name
+     * @param expectedSize the number of entries to size the tables for
+     * @param direct true to allocate the tables outside of the Java heap
+     */
+    public LongMapProxy(String proxyName, int expectedSize, boolean direct) {
+        super(proxyName);
+        this.direct = direct;
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param proxyName proxy name
+     */
+    public LongMapProxy(String proxyName) {
+        this(proxyName, 16, false);
+    }
+
+    /**
+     * <P>Get the data object</P>
+     *
+     * <P>Copies the entries, in no particular order.</P>
+     *
+     * @return a <code>long[][]</code> of the keys and of the values
+     */
+    public long[][] getData() {
+        long[][] entries = new long[][] { new long[size], new long[size] };
+        entries(entries[0], entries[1]);
+        return entries;
+    }
+
+    /**
+     * <P>Set the data object</P>
+     *
+     * <P>Clears the map and puts the given entries.</P>
+     *
+     * @param data a <code>long[][]</code> of the keys and of the values
+     * @throws IllegalArgumentException if data is not a pair of arrays of the same length
+     */
+    public void setData(Object data) {
+        long[][] entries = data instanceof long[][] ? (long[][]) data : null;
+        if(entries == null || entries.length != 2 || entries[0].length != entries[1].length) {
+            throw new IllegalArgumentException("LongMapProxy data must be a long[][] of the keys and of the values");
+        }
+        clear();
+        putAll(entries[0], entries[1], entries[0].length);
+    }
+
+    /**
+     * <P>Get the number of entries.</P>
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * <P>Check if an entry exists for the given key.</P>
+     *
+     * @param key the key
+     * @return whether an entry exists for the key
+     */
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * <P>Get the value of a key.</P>
+     *
+     * @param key the key
+     * @param defaultValue the value to return if the key is absent
+     * @return the value of the key, or <code>defaultValue</code>
+     */
+    public long get(long key, long defaultValue) {
+        int index = indexOf(key);
+        return index >= 0 ? values.get(index) : defaultValue;
+    }
+
+    /**
+     * <P>Set the value of a key.</P>
+     *
+     * @param key the key
+     * @param value the value
+     */
+    public void put(long key, long value) {
+        int index = slotOf(key);
+        values.put(index, value);
+    }
+
+    /**
+     * <P>Add to the value of a key, treating an absent key as zero.</P>
+     *
+     * @param key the key
+     * @param delta the amount to add
+     * @return the new value
+     */
+    public long increment(long key, long delta) {
+        int index = slotOf(key);
+        long value = values.get(index) + delta;
+        values.put(index, value);
+        return value;
+    }
+
+    /**
+     * <P>Remove the entry of a key.</P>
+     *
+     * @param key the key
+     * @return whether an entry was removed
+     */
+    public boolean remove(long key) {
+        int index = indexOf(key);
+        if(index < 0) return false;
+
+        // shift the following entries of the probe sequence back,
+        // so lookups never need tombstones
+        int mask = keys.capacity() - 1;
+        int gap = index;
+        int next = (gap + 1) & mask;
+        while(used.get(next) != 0) {
+            int home = hash(keys.get(next)) & mask;
+            if(((next - home) & mask) >= ((next - gap) & mask)) {
+                keys.put(gap, keys.get(next));
+                values.put(gap, values.get(next));
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        used.put(gap, (byte) 0);
+        values.put(gap, 0L);
+        size--;
+        return true;
+    }
+
+    /**
+     * <P>Remove all entries.</P>
+     */
+    public void clear() {
+        for(int i=0; i<used.capacity(); i++) {
+            used.put(i, (byte) 0);
+            values.put(i, 0L);
+        }
+        size = 0;
+    }
+
+    /**
+     * <P>Set the values of several keys.</P>
+     *
+     * @param keys the keys
+     * @param values the values, in the same order as the keys
+     * @param length the number of entries to set
+     */
+    public void putAll(long[] keys, long[] values, int length) {
+        for(int i=0; i<length; i++) {
+            put(keys[i], values[i]);
+        }
+    }
+
+    /**
+     * <P>Get the values of several keys.</P>
+     *
+     * @param keys the keys
+     * @param destination the array to fill with the values, in the same order as the keys
+     * @param length the number of keys to look up
+     * @param defaultValue the value to use for absent keys
+     */
+    public void getAll(long[] keys, long[] destination, int length, long defaultValue) {
+        for(int i=0; i<length; i++) {
+            destination[i] = get(keys[i], defaultValue);
+        }
+    }
+
+    /**
+     * <P>Copy every entry into a pair of arrays.</P>
+     *
+     * @param keys the array to fill with the keys, at least <code>size()</code> long
+     * @param values the array to fill with the values, at least <code>size()</code> long
+     * @return the number of entries copied
+     */
+    public int entries(long[] keys, long[] values) {
+        int count = 0;
+        for(int i=0; i<used.capacity(); i++) {
+            if(used.get(i) != 0) {
+                keys[count] = this.keys.get(i);
+                values[count] = this.values.get(i);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // the slot holding key, or -1
+    private int indexOf(long key) {
+        int mask = keys.capacity() - 1;
+        int index = hash(key) & mask;
+        while(used.get(index) != 0) {
+            if(keys.get(index) == key) return index;
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    // the slot holding key, claiming a zeroed one if absent
+    private int slotOf(long key) {
+        int index = indexOf(key);
+        if(index >= 0) return index;
+
+        // only a new key may grow the tables
+        if(size + 1 > keys.capacity() * LOAD_FACTOR) resize(keys.capacity() * 2);
+        int mask = keys.capacity() - 1;
+        index = hash(key) & mask;
+        while(used.get(index) != 0) index = (index + 1) & mask;
+        used.put(index, (byte) 1);
+        keys.put(index, key);
+        size++;
+        return index;
+    }
+
+    private void resize(int capacity) {
+        LongBuffer oldKeys = keys;
+        LongBuffer oldValues = values;
+        ByteBuffer oldUsed = used;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for(int i=0; i<oldUsed.capacity(); i++) {
+            if(oldUsed.get(i) == 0) continue;
+            int index = hash(oldKeys.get(i)) & mask;
+            while(used.get(index) != 0) index = (index + 1) & mask;
+            used.put(index, (byte) 1);
+            keys.put(index, oldKeys.get(i));
+            values.put(index, oldValues.get(i));
+        }
+    }
+
+    private void allocate(int capacity) {
+        if(direct) {
+            keys = ByteBuffer.allocateDirect(capacity * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+            values = ByteBuffer.allocateDirect(capacity * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+            used = ByteBuffer.allocateDirect(capacity);
+        } else {
+            keys = LongBuffer.allocate(capacity);
+            values = LongBuffer.allocate(capacity);
+            used = ByteBuffer.allocate(capacity);
+        }
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = 16;
+        while(capacity * LOAD_FACTOR < expectedSize) capacity <<= 1;
+        return capacity;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+}
@@ -0,0 +1,267 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.proxy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <P>A base <code>IProxy</code> implementation whose data lives in a memory-mapped file.</P>
+ *
+ * <P>The data of a <code>MappedProxy</code> is a <code>MappedByteBuffer</code>
+ * obtained through <code>FileChannel.map</code>, so the bulk of it sits
+ * outside of the Java heap and is paged in by the operating system on demand.
+ * Because the file outlives the process, a <code>MappedProxy</code> created
+ * over an existing file sees the previously written data immediately,
+ * without reloading it from its original source.</P>
+ *
+ * <P>Subclasses typically define the layout of the region and expose
+ * domain methods built on the typed accessors, like this:</P>
+ *
+ * <pre>
+ * {@code public long getPrice(int index) {
+ *     return getLong(index * Long.BYTES);
+ * }
+ * }
+ * </pre>
+ *
+ * <P>The typed accessors are little-endian, whatever the byte order of
+ * the machine, so a file written on one host reads back the same on
+ * another. A single mapping is limited to <code>Integer.MAX_VALUE</code> bytes.</P>
+ *
+ * @see Proxy Proxy
+ */
+public class MappedProxy extends Proxy {
+
+    // the file backing the mapped region
+    protected Path path;
+
+    // the channel the region was mapped from
+    protected FileChannel channel;
+
+    // the mapped region, also exposed as the data object
+    protected MappedByteBuffer buffer;
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * <P>Opens (or creates) the file at <code>path</code> and maps
+     * <code>size</code> bytes of it in read/write mode. The file is
+     * grown to <code>size</code> bytes if it is shorter.</P>
+     *
+     * @param proxyName proxy name
+     * @param path the file backing the proxy data
+     * @param size the size of the mapped region in bytes
+     * @throws UncheckedIOException if the file cannot be opened or mapped
+     */
+    public MappedProxy(String proxyName, Path path, int size) {
+        super(proxyName);
+        this.path = path;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+        } catch (IOException exception) {
+            if(channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException suppressed) {
+                    exception.addSuppressed(suppressed);
+                }
+            }
+            throw new UncheckedIOException(exception);
+        }
+        data = buffer;
+    }
+
+    /**
+     * <P>Called by the Model when the Proxy is removed</P>
+     *
+     * <P>Flushes the mapped region and closes the backing channel.</P>
+     */
+    public void onRemove() {
+        close();
+    }
+
+    /**
+     * <P>Get the data object</P>
+     *
+     * @return the mapped region as a <code>MappedByteBuffer</code>
+     */
+    public MappedByteBuffer getData() {
+        return buffer;
+    }
+
+    /**
+     * <P>Set the data object</P>
+     *
+     * <P>The mapped region cannot be replaced, the remaining bytes of
+     * the given <code>ByteBuffer</code> are copied to the start of the region instead.</P>
+     *
+     * @param data a <code>ByteBuffer</code> holding the new contents
+     * @throws IllegalArgumentException if data is not a <code>ByteBuffer</code>
+     */
+    public void setData(Object data) {
+        if(!(data instanceof ByteBuffer)) throw new IllegalArgumentException("MappedProxy data must be a ByteBuffer");
+        ByteBuffer source = ((ByteBuffer) data).duplicate();
+        ByteBuffer target = buffer.duplicate();
+        target.clear();
+        target.put(source);
+    }
+
+    /**
+     * <P>Get the file backing the mapped region.</P>
+     *
+     * @return the file path
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * <P>Get the size of the mapped region.</P>
+     *
+     * @return the capacity in bytes
+     */
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * <P>Read a <code>byte</code> from the mapped region.</P>
+     *
+     * @param offset the offset in bytes
+     * @return the value at the offset
+     */
+    public byte getByte(int offset) {
+        return buffer.get(offset);
+    }
+
+    /**
+     * <P>Write a <code>byte</code> to the mapped region.</P>
+     *
+     * @param offset the offset in bytes
+     * @param value the value to write
+     */
+    public void putByte(int offset, byte value) {
+        buffer.put(offset, value);
+    }
+
+    /**
+     * <P>Read an <code>int</code> from the mapped region.</P>
+     *
+     * @param offset the offset in bytes
+     * @return the value at the offset
+     */
+    public int getInt(int offset) {
+        return buffer.getInt(offset);
+    }
+
+    /**
+     * <P>Write an <code>int</code> to the mapped region.</P>
+     *
+     * @param offset the offset in bytes
+     * @param value the value to write
+     */
+    public void putInt(int offset, int value) {
+        buffer.putInt(offset, value);
+    }
+
+    /**
+     * <P>Read a <code>long</code> from the mapped region.</P>
+     *
+     * @param offset the offset in bytes
+     * @return the value at the offset
+     */
+    public long getLong(int offset) {
+        return buffer.getLong(offset);
+    }
+
+    /**
+     * <P>Write a <code>long</code> to the mapped region.</P>
+     *
+     * @param offset the offset in bytes
+     * @param value the value to write
+     */
+    public void putLong(int offset, long value) {
+        buffer.putLong(offset, value);
+    }
+
+    /**
+     * <P>Read a <code>double</code> from the mapped region.</P>
+     *
+     * @param offset the offset in bytes
+     * @return the value at the offset
+     */
+    public double getDouble(int offset) {
+        return buffer.getDouble(offset);
+    }
+
+    /**
+     * <P>Write a <code>double</code> to the mapped region.</P>
+     *
+     * @param offset the offset in bytes
+     * @param value the value to write
+     */
+    public void putDouble(int offset, double value) {
+        buffer.putDouble(offset, value);
+    }
+
+    /**
+     * <P>Copy bytes out of the mapped region.</P>
+     *
+     * @param offset the offset in the region to read from
+     * @param destination the array to fill
+     */
+    public void getBytes(int offset, byte[] destination) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        view.get(destination);
+    }
+
+    /**
+     * <P>Copy bytes into the mapped region.</P>
+     *
+     * @param offset the offset in the region to write to
+     * @param source the bytes to write
+     */
+    public void putBytes(int offset, byte[] source) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        view.put(source);
+    }
+
+    /**
+     * <P>Write any changes of the mapped region to the backing file.</P>
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    /**
+     * <P>Flush the mapped region and close the backing channel.</P>
+     *
+     * <P>The region stays readable until it is garbage collected,
+     * but the proxy should not be used after it is closed.</P>
+     */
+    public void close() {
+        try {
+            if(buffer != null) buffer.force();
+            if(channel != null) channel.close();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.proxy;
+
+import java.lang.reflect.Array;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * <P>The base of the proxies holding a fixed-length array of primitive values.</P>
+ *
+ * <P>Holds the buffer of the values and implements what does not depend
+ * on their type: the allocation of direct buffers, the length, and
+ * <code>setData</code> from an array or a buffer. The subclasses only add
+ * the typed accessors.</P>
+ *
+ * @param <B> the type of the buffer of the values
+ * @param <A> the type of the array of the values
+ * @see LongArrayProxy LongArrayProxy
+ * @see IntArrayProxy IntArrayProxy
+ * @see DoubleArrayProxy DoubleArrayProxy
+ */
+abstract class PrimitiveArrayProxy<B extends Buffer, A> extends Proxy {
+
+    // the values of this proxy
+    protected B values;
+
+    // the types of the arrays and buffers accepted by setData
+    private final Class<A> arrayType;
+    private final Class<B> bufferType;
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param proxyName proxy name
+     * @param values the buffer of the values
+     * @param arrayType the type of the arrays of values
+     * @param bufferType the type of the buffers of values
+     */
+    PrimitiveArrayProxy(String proxyName, B values, Class<A> arrayType, Class<B> bufferType) {
+        super(proxyName);
+        this.values = values;
+        this.arrayType = arrayType;
+        this.bufferType = bufferType;
+        data = values;
+    }
+
+    /**
+     * <P>Allocate the bytes of a direct buffer of values, outside of the Java heap.</P>
+     *
+     * @param length the number of values
+     * @param bytes the size of a value in bytes
+     * @return the bytes, in native order
+     */
+    static ByteBuffer allocateDirect(int length, int bytes) {
+        return ByteBuffer.allocateDirect(length * bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * <P>Get the data object</P>
+     *
+     * @return the buffer of the values
+     */
+    public B getData() {
+        return values;
+    }
+
+    /**
+     * <P>Set the data object</P>
+     *
+     * <P>Copies the given array or buffer to the start of the values.</P>
+     *
+     * @param data an array or a buffer of values
+     * @throws IllegalArgumentException if data is neither
+     */
+    public void setData(Object data) {
+        if(arrayType.isInstance(data)) {
+            set(0, arrayType.cast(data), 0, Array.getLength(data));
+        } else if(bufferType.isInstance(data)) {
+            B target = duplicate(values);
+            target.clear();
+            put(target, duplicate(bufferType.cast(data)));
+        } else {
+            throw new IllegalArgumentException(getClass().getSimpleName() + " data must be a "
+                    + arrayType.getSimpleName() + " or a " + bufferType.getSimpleName());
+        }
+    }
+
+    /**
+     * <P>Get the number of values.</P>
+     *
+     * @return the length
+     */
+    public int length() {
+        return values.capacity();
+    }
+
+    /**
+     * <P>Copy a range of values from an array.</P>
+     *
+     * @param index the index of the first value to overwrite
+     * @param source the array to copy from
+     * @param offset the offset in the source array
+     * @param length the number of values to copy
+     */
+    public abstract void set(int index, A source, int offset, int length);
+
+    /**
+     * <P>Get a view of the values positioned at an index, for a bulk copy.</P>
+     *
+     * @param index the index of the first value copied
+     * @return the view
+     */
+    protected B at(int index) {
+        B view = duplicate(values);
+        view.position(index);
+        return view;
+    }
+
+    // a view of a buffer sharing its values
+    abstract B duplicate(B buffer);
+
+    // copy the remaining values of source to target
+    abstract void put(B target, B source);
+
+}
@@ -0,0 +1,347 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.timer;
+
+import org.puremvc.java.multicore.interfaces.ITimeout;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <P>A hierarchical timing wheel running delayed and periodic tasks.</P>
+ *
+ * <P>Timeouts are kept in four wheels of 256 slots each. The first
+ * wheel has one slot per tick, and each following wheel has one slot
+ * per turn of the previous one, so the wheels span 2<sup>32</sup> ticks,
+ * about 49 days at the default tick of one millisecond. Scheduling and
+ * cancelling a timeout are constant time, whatever the number of pending
+ * timeouts. As the wheels turn, the timeouts of a slot of an outer wheel
+ * cascade into the inner wheels, until they expire in the first one.</P>
+ *
+ * <P>Scheduling and cancelling only enqueue the timeout, without locking.
+ * A single daemon thread owns the wheels: every tick, it places the new
+ * timeouts, unlinks the cancelled ones and runs the expired ones. It
+ * parks while there are no pending timeouts. Tasks run on that thread,
+ * unless an executor is given, so they must be short, such as sending a
+ * notification to a core in actor mode. A timeout expires up to one
+ * tick late, never early.</P>
+ *
+ * @see org.puremvc.java.multicore.patterns.facade.Facade#scheduleNotification(String, Object, String, long, TimeUnit) Facade.scheduleNotification
+ */
+public class TimingWheel {
+
+    private static final int BITS = 8;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    // the farthest tick a timeout is placed at, farther ones are placed again as the wheels turn
+    private static final long SPAN = (1L << (BITS * LEVELS)) - 1;
+
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    // the shared timing wheel, created on first use
+    private static TimingWheel shared;
+
+    /**
+     * <P>A timeout of a <code>TimingWheel</code>.</P>
+     */
+    public static class Timeout implements ITimeout {
+
+        private final TimingWheel wheel;
+        private final Runnable task;
+
+        // the period in ticks, 0 for a single run
+        private final long period;
+
+        // the tick the timeout expires at
+        private long deadline;
+
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        // the slot list of the timeout, a level of -1 when it is not linked
+        private Timeout next;
+        private Timeout previous;
+        private int level = -1;
+        private int slot;
+
+        private Timeout(TimingWheel wheel, Runnable task, long deadline, long period) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        public boolean cancel() {
+            if(!state.compareAndSet(PENDING, CANCELLED)) return false;
+            wheel.pending.decrementAndGet();
+            wheel.cancelled.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        public boolean isDone() {
+            return state.get() != PENDING;
+        }
+
+    }
+
+    private final long tickNanos;
+    private final long start;
+    private final Executor executor;
+
+    // the slot lists of the wheels, owned by the wheel thread
+    private final Timeout[][] wheels = new Timeout[LEVELS][SLOTS];
+
+    // the current tick, owned by the wheel thread
+    private long tick;
+
+    // the timeouts to place and to unlink on the next tick
+    private final ConcurrentLinkedQueue<Timeout> added = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+
+    // the number of pending timeouts, and of the timeouts expired
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder expired = new LongAdder();
+
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    // whether the wheel thread is parked for lack of timeouts
+    private volatile boolean idle;
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * @param tick the duration of a tick, the resolution of the timeouts
+     * @param unit the time unit of the tick
+     * @param executor the executor running the expired tasks, or <code>null</code> to run them on the wheel thread
+     */
+    public TimingWheel(long tick, TimeUnit unit, Executor executor) {
+        if(tick <= 0) throw new IllegalArgumentException("Invalid tick: " + tick + " " + unit);
+        this.tickNanos = unit.toNanos(tick);
+        this.executor = executor;
+        this.start = System.nanoTime();
+        this.thread = new Thread(this::run, "PureMVC-TimingWheel");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * <P>Constructor.</P>
+     *
+     * <P>A timing wheel ticking every millisecond, running its tasks on its thread.</P>
+     */
+    public TimingWheel() {
+        this(1, TimeUnit.MILLISECONDS, null);
+    }
+
+    /**
+     * <P>Get the timing wheel shared by the cores.</P>
+     *
+     * @return the shared timing wheel
+     */
+    public static synchronized TimingWheel getShared() {
+        if(shared == null) shared = new TimingWheel();
+        return shared;
+    }
+
+    /**
+     * <P>Run a task once, after a delay.</P>
+     *
+     * @param task the task
+     * @param delay the delay
+     * @param unit the time unit of the delay
+     * @return the timeout, to cancel the task
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        return add(task, delay, 0, unit);
+    }
+
+    /**
+     * <P>Run a task periodically, after an initial delay.</P>
+     *
+     * <P>The period is rounded up to a whole number of ticks. A run that
+     * is late does not delay the following ones.</P>
+     *
+     * @param task the task
+     * @param initialDelay the delay of the first run
+     * @param period the period between runs
+     * @param unit the time unit of the delay and period
+     * @return the timeout, to cancel the task
+     */
+    public Timeout scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        if(period <= 0) throw new IllegalArgumentException("Invalid period: " + period + " " + unit);
+        return add(task, initialDelay, period, unit);
+    }
+
+    private Timeout add(Runnable task, long delay, long period, TimeUnit unit) {
+        if(!running) throw new IllegalStateException("TimingWheel is closed!");
+        long deadline = ticks(System.nanoTime() - start + unit.toNanos(Math.max(delay, 0)));
+        Timeout timeout = new Timeout(this, task, deadline, period == 0 ? 0 : Math.max(ticks(unit.toNanos(period)), 1));
+        pending.incrementAndGet();
+        added.add(timeout);
+        if(idle) LockSupport.unpark(thread);
+        return timeout;
+    }
+
+    // the number of ticks in a duration, rounded up
+    private long ticks(long nanos) {
+        return (nanos + tickNanos - 1) / tickNanos;
+    }
+
+    /**
+     * <P>Get the number of pending timeouts.</P>
+     *
+     * @return the number of timeouts neither expired nor cancelled
+     */
+    public int getPending() {
+        return pending.get();
+    }
+
+    /**
+     * <P>Get the number of timeouts expired, counting each run of a periodic timeout.</P>
+     *
+     * @return the number of expired timeouts
+     */
+    public long getExpired() {
+        return expired.sum();
+    }
+
+    /**
+     * <P>Stop the wheel thread, dropping the pending timeouts.</P>
+     */
+    public void close() {
+        running = false;
+        LockSupport.unpark(thread);
+    }
+
+    // the wheel thread
+    private void run() {
+        while(running) {
+            long now = (System.nanoTime() - start) / tickNanos;
+            if(pending.get() == 0 && added.isEmpty()) {
+                // nothing to expire, so skip the idle ticks once awake, however long the park
+                drainCancelled();
+                idle = true;
+                if(pending.get() == 0 && added.isEmpty()) LockSupport.park(this);
+                idle = false;
+                tick = (System.nanoTime() - start) / tickNanos;
+                continue;
+            }
+            drainCancelled();
+            Timeout timeout;
+            while((timeout = added.poll()) != null) {
+                if(timeout.state.get() == PENDING) place(timeout, 1);
+            }
+            while(tick < now) advance();
+            LockSupport.parkNanos(this, (tick + 1) * tickNanos - (System.nanoTime() - start));
+        }
+    }
+
+    // unlink the cancelled timeouts, so they are not retained until they expire
+    private void drainCancelled() {
+        Timeout timeout;
+        while((timeout = cancelled.poll()) != null) unlink(timeout);
+    }
+
+    // place a timeout in the wheel of its distance to the current tick, at least nearest ticks away
+    private void place(Timeout timeout, int nearest) {
+        long delta = Math.min(Math.max(timeout.deadline - tick, nearest), SPAN);
+        long target = tick + delta;
+        int level = 0;
+        while(level < LEVELS - 1 && delta >= 1L << (BITS * (level + 1))) level++;
+        int slot = (int) (target >>> (BITS * level)) & MASK;
+
+        Timeout head = wheels[level][slot];
+        timeout.previous = null;
+        timeout.next = head;
+        if(head != null) head.previous = timeout;
+        wheels[level][slot] = timeout;
+        timeout.level = level;
+        timeout.slot = slot;
+    }
+
+    private void unlink(Timeout timeout) {
+        if(timeout.level < 0) return;
+        if(timeout.previous == null) wheels[timeout.level][timeout.slot] = timeout.next; else timeout.previous.next = timeout.next;
+        if(timeout.next != null) timeout.next.previous = timeout.previous;
+        timeout.next = null;
+        timeout.previous = null;
+        timeout.level = -1;
+    }
+
+    // take the list of a slot, unlinking its timeouts
+    private Timeout take(int level, int slot) {
+        Timeout head = wheels[level][slot];
+        wheels[level][slot] = null;
+        for(Timeout timeout = head; timeout != null; timeout = timeout.next) timeout.level = -1;
+        return head;
+    }
+
+    // advance one tick, cascading the outer wheels that turned, and expire the slot of the tick
+    private void advance() {
+        tick++;
+        int level = 0;
+        while(level < LEVELS - 1 && (tick & ((1L << (BITS * (level + 1))) - 1)) == 0) level++;
+        for(; level > 0; level--) {
+            Timeout timeout = take(level, (int) (tick >>> (BITS * level)) & MASK);
+            while(timeout != null) {
+                Timeout next = timeout.next;
+                // a timeout due now lands in the slot expired below
+                if(timeout.state.get() == PENDING) place(timeout, 0);
+                timeout = next;
+            }
+        }
+
+        Timeout timeout = take(0, (int) tick & MASK);
+        while(timeout != null) {
+            Timeout next = timeout.next;
+            expire(timeout);
+            timeout = next;
+        }
+    }
+
+    private void expire(Timeout timeout) {
+        if(timeout.state.get() != PENDING) return;
+        if(timeout.deadline > tick) {
+            // beyond the span of the wheels when it was placed
+            place(timeout, 1);
+            return;
+        }
+        if(timeout.period > 0) {
+            timeout.deadline += timeout.period;
+            place(timeout, 1);
+        } else if(timeout.state.compareAndSet(PENDING, EXPIRED)) {
+            pending.decrementAndGet();
+        } else {
+            return;
+        }
+        expired.increment();
+        if(executor != null) executor.execute(timeout.task); else runTask(timeout.task);
+    }
+
+    private void runTask(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable throwable) {
+            Thread current = Thread.currentThread();
+            current.getUncaughtExceptionHandler().uncaughtException(current, throwable);
+        }
+    }
+
+}
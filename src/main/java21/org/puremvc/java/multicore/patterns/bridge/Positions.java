@@ -0,0 +1,53 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.bridge;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * <P>Ordered accesses to the positions of a <code>MappedRing</code>.</P>
+ *
+ * <P>The Java 21 version of the multi-release JAR, using
+ * <code>VarHandle</code> acquire and release modes, which need no
+ * fence on x86 and no shared volatile field.</P>
+ *
+ * @see MappedRing MappedRing
+ */
+final class Positions {
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private Positions() {
+    }
+
+    /**
+     * <P>Read a position, keeping the accesses after it from being reordered before it.</P>
+     *
+     * @param buffer the mapped ring
+     * @param index the byte index of the position, 8-byte aligned
+     * @return the position
+     */
+    static long getAcquire(ByteBuffer buffer, int index) {
+        return (long) LONGS.getAcquire(buffer, index);
+    }
+
+    /**
+     * <P>Write a position, keeping the accesses before it from being reordered after it.</P>
+     *
+     * @param buffer the mapped ring
+     * @param index the byte index of the position, 8-byte aligned
+     * @param value the position
+     */
+    static void setRelease(ByteBuffer buffer, int index, long value) {
+        LONGS.setRelease(buffer, index, value);
+    }
+
+}
@@ -0,0 +1,34 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.pipes;
+
+/**
+ * <P>The factory of the dedicated threads of <code>Mailbox</code>es.</P>
+ *
+ * <P>The Java 21 version of the multi-release JAR, creating virtual
+ * threads, so idle cores park without holding a platform thread.</P>
+ *
+ * @see Mailbox Mailbox
+ */
+final class MailboxThreads {
+
+    private MailboxThreads() {
+    }
+
+    /**
+     * <P>Create the thread of a mailbox, not yet started.</P>
+     *
+     * @param task the loop of the mailbox
+     * @param name the name of the thread
+     * @return the thread
+     */
+    static Thread newThread(Runnable task, String name) {
+        return Thread.ofVirtual().name(name).unstarted(task);
+    }
+
+}
@@ -0,0 +1,72 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore;
+
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.facade.Facade;
+import org.puremvc.java.multicore.patterns.mediator.Mediator;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * <P>Measures the allocation and time per <code>sendNotification</code>.</P>
+ *
+ * <P>A notification is sent to a single <code>Mediator</code>, with and
+ * without notification pooling, and the bytes allocated by the sending
+ * thread and the time are printed per send:</P>
+ *
+ * <pre>
+ * {@code mvn test-compile
+ * java -cp target/classes:target/test-classes org.puremvc.java.multicore.SendBenchmark
+ * }
+ * </pre>
+ *
+ * <P>In a loop this small, escape analysis may remove the allocation of
+ * the new notifications too. Run with <code>-XX:-DoEscapeAnalysis</code>
+ * to see the allocation it cannot remove once observers are many and
+ * their dispatch is not inlined.</P>
+ */
+public class SendBenchmark {
+
+    private static final String TICK = "tick";
+    private static final int SENDS = 10_000_000;
+
+    private static long handled;
+
+    public static void main(String[] args) {
+        run("new notifications", false);
+        run("pooled notifications", true);
+    }
+
+    private static void run(String label, boolean pooling) {
+        Facade facade = (Facade) Facade.getInstance("SendBenchmark", key -> new Facade(key));
+        facade.setNotificationPooling(pooling);
+        facade.registerMediator(new Mediator("TickMediator") {
+            public String[] listNotificationInterests() {
+                return new String[]{TICK};
+            }
+            public void handleNotification(INotification notification) {
+                handled++;
+            }
+        });
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        for(int i = 0; i < SENDS; i++) facade.sendNotification(TICK, label);
+
+        long bytes = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for(int i = 0; i < SENDS; i++) facade.sendNotification(TICK, label);
+        long nanos = System.nanoTime() - start;
+        bytes = threads.getThreadAllocatedBytes(thread) - bytes;
+
+        System.out.printf("%s: %.2f bytes/send, %.1f ns/send%n", label, (double) bytes / SENDS, (double) nanos / SENDS);
+        Facade.removeCore("SendBenchmark");
+    }
+
+}
@@ -0,0 +1,98 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore;
+
+import org.puremvc.java.multicore.interfaces.IFacade;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.command.MacroCommand;
+import org.puremvc.java.multicore.patterns.command.SimpleCommand;
+import org.puremvc.java.multicore.patterns.facade.Facade;
+import org.puremvc.java.multicore.patterns.mediator.Mediator;
+import org.puremvc.java.multicore.patterns.proxy.Proxy;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * <P>Measures the time to first notification of a representative core.</P>
+ *
+ * <P>Each run starts a core the usual way: a <code>Facade</code>, a startup
+ * <code>MacroCommand</code> registering a <code>Proxy</code> and a
+ * <code>Mediator</code>, and a first notification reaching the mediator.
+ * It prints the time from process start and from <code>main</code> to that
+ * first notification, in milliseconds. Startup is a one-shot measurement,
+ * so run the process repeatedly, in JVM mode:</P>
+ *
+ * <pre>
+ * {@code mvn test-compile
+ * for i in $(seq 10); do java -cp target/classes:target/test-classes org.puremvc.java.multicore.StartupBenchmark; done
+ * }
+ * </pre>
+ *
+ * <P>and in native mode, with GraalVM:</P>
+ *
+ * <pre>
+ * {@code mvn -Pnative -DskipTests package
+ * for i in $(seq 10); do target/puremvc-startup-benchmark; done
+ * }
+ * </pre>
+ */
+public class StartupBenchmark {
+
+    private static final String STARTUP = "startup";
+    private static final String READY = "ready";
+
+    private static long firstNotification;
+
+    public static void main(String[] args) {
+        long main = System.nanoTime();
+
+        IFacade facade = Facade.getInstance("StartupBenchmark", key -> new Facade(key));
+        facade.registerCommand(STARTUP, () -> new StartupCommand());
+        facade.sendNotification(STARTUP, "config");
+
+        long sinceMain = (firstNotification - main) / 1_000_000;
+        long sinceStart = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        System.out.println("time to first notification: " + sinceStart + " ms since process start, " + sinceMain + " ms since main");
+
+        Facade.removeCore("StartupBenchmark");
+    }
+
+    private static class StartupCommand extends MacroCommand {
+        protected void initializeMacroCommand() {
+            addSubCommand(() -> new PrepModelCommand());
+            addSubCommand(() -> new PrepViewCommand());
+            addSubCommand(() -> new ReadyCommand());
+        }
+    }
+
+    private static class PrepModelCommand extends SimpleCommand {
+        public void execute(INotification notification) {
+            getFacade().registerProxy(new Proxy("ConfigProxy", notification.getBody()));
+        }
+    }
+
+    private static class PrepViewCommand extends SimpleCommand {
+        public void execute(INotification notification) {
+            getFacade().registerMediator(new Mediator("ShellMediator") {
+                public String[] listNotificationInterests() {
+                    return new String[]{READY};
+                }
+                public void handleNotification(INotification notification) {
+                    if(firstNotification == 0) firstNotification = System.nanoTime();
+                }
+            });
+        }
+    }
+
+    private static class ReadyCommand extends SimpleCommand {
+        public void execute(INotification notification) {
+            sendNotification(READY, getFacade().retrieveProxy("ConfigProxy").getData());
+        }
+    }
+
+}
@@ -12,8 +12,22 @@ import org.junit.jupiter.api.Test;
 import org.puremvc.java.multicore.interfaces.IController;
 import org.puremvc.java.multicore.interfaces.INotification;
 import org.puremvc.java.multicore.interfaces.IView;
+import org.puremvc.java.multicore.patterns.command.AsyncCommand;
+import org.puremvc.java.multicore.patterns.command.SimpleCommand;
 import org.puremvc.java.multicore.patterns.observer.Notification;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Test the PureMVC Controller class.
  *
@@ -167,4 +181,263 @@ public class ControllerTest {
         Assertions.assertTrue(vo.result == 48, "Expecting vo.result == 48");
     }
 
+    /**
+     * Tests asynchronous commands on an executor, within a concurrency limit.
+     */
+    @Test
+    public void testAsyncCommand() throws Exception {
+        Controller controller = (Controller) Controller.getInstance("ControllerTestKey6", key -> new Controller(key));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        controller.setCommandExecutor(executor);
+        controller.setConcurrencyLimit("ControllerTestAsync", 2);
+        controller.registerCommand("ControllerTestAsync", () -> new ControllerTestAsyncCommand());
+
+        List<CompletableFuture<Object>> futures = new ArrayList<>();
+        for(int i=0; i<10; i++) {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            futures.add(future);
+            controller.executeCommand(new Notification("ControllerTestAsync", future));
+        }
+        Assertions.assertTrue(controller.getInFlightCommands() > 0, "Expecting commands in flight");
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        long deadline = System.currentTimeMillis() + 5000;
+        while(controller.getInFlightCommands() > 0 && System.currentTimeMillis() < deadline) Thread.sleep(1);
+
+        // test assertions
+        Assertions.assertTrue(ControllerTestAsyncCommand.maxRunning.get() <= 2, "Expecting at most 2 commands at a time, got " + ControllerTestAsyncCommand.maxRunning.get());
+        Assertions.assertTrue(controller.getInFlightCommands() == 0, "Expecting no commands in flight");
+        Assertions.assertTrue(controller.getInFlightCommands("ControllerTestAsync") == 0, "Expecting no ControllerTestAsync commands in flight");
+        Assertions.assertTrue(controller.getCompletedCommands("ControllerTestAsync", false) == 10, "Expecting 10 completed commands");
+        Assertions.assertTrue(controller.getCompletedCommands("ControllerTestAsync", true) == 0, "Expecting no failed commands");
+        Assertions.assertTrue(controller.getCommandLatency("ControllerTestAsync", TimeUnit.MILLISECONDS) >= 10, "Expecting a mean latency of at least 10 ms");
+        Assertions.assertTrue(controller.getMaxCommandLatency("ControllerTestAsync", TimeUnit.MILLISECONDS) >= 50, "Expecting the last command to wait for the others");
+
+        executor.shutdown();
+        Controller.removeController("ControllerTestKey6");
+    }
+
+    /**
+     * Tests that a failed IAsyncCommand is reported to the error handler
+     * and releases its lane to the next waiting command.
+     */
+    @Test
+    public void testAsyncCommandFailure() {
+        Controller controller = (Controller) Controller.getInstance("ControllerTestKey9", key -> new Controller(key));
+        List<Object> failures = new CopyOnWriteArrayList<>();
+        controller.setCommandErrorHandler((notification, error) -> failures.add(notification.getType() + ":" + error.getMessage()));
+        controller.setConcurrencyLimit("ControllerTestAsyncFailure", 1);
+        controller.registerCommand("ControllerTestAsyncFailure", () -> new AsyncCommand() {
+            @SuppressWarnings("unchecked")
+            public CompletionStage<?> executeAsync(INotification notification) {
+                return (CompletionStage<Object>) notification.getBody();
+            }
+        });
+
+        CompletableFuture<Object> first = new CompletableFuture<>();
+        CompletableFuture<Object> second = new CompletableFuture<>();
+        controller.executeCommand(new Notification("ControllerTestAsyncFailure", first, "first"));
+        controller.executeCommand(new Notification("ControllerTestAsyncFailure", second, "second"));
+        Assertions.assertTrue(controller.getInFlightCommands("ControllerTestAsyncFailure") == 2, "Expecting 2 commands in flight");
+
+        first.completeExceptionally(new IllegalStateException("Failed"));
+        Assertions.assertTrue(controller.getInFlightCommands("ControllerTestAsyncFailure") == 1, "Expecting the second command to run");
+        second.complete(null);
+
+        // test assertions
+        Assertions.assertEquals("[first:Failed]", failures.toString(), "Expecting the failure reported");
+        Assertions.assertTrue(controller.getCompletedCommands("ControllerTestAsyncFailure", true) == 1, "Expecting 1 failed command");
+        Assertions.assertTrue(controller.getInFlightCommands() == 0, "Expecting no commands in flight");
+
+        Controller.removeController("ControllerTestKey9");
+        View.removeView("ControllerTestKey9");
+    }
+
+    /**
+     * Tests commands rejected by the command executor.
+     *
+     * <P>A rejected command completes as failed, so its idempotency key
+     * is forgotten and the command may be retried.</P>
+     */
+    @Test
+    public void testRejectedCommand() {
+        Controller controller = (Controller) Controller.getInstance("ControllerTestKey10", key -> new Controller(key));
+        List<Throwable> errors = new ArrayList<>();
+        AtomicInteger executed = new AtomicInteger();
+        controller.setCommandErrorHandler((notification, error) -> errors.add(error));
+        controller.setCommandExecutor(command -> { throw new RejectedExecutionException("Rejected"); });
+        controller.registerCommand("ControllerTestRejectedAsync", () -> new AsyncCommand() {
+            public CompletionStage<?> executeAsync(INotification notification) {
+                executed.incrementAndGet();
+                return null;
+            }
+        }, INotification::getType, 1, TimeUnit.MINUTES);
+        for(int i = 0; i < 2; i++) {
+            controller.addCommand("ControllerTestRejected", () -> new SimpleCommand() {
+                public void execute(INotification notification) {
+                    executed.incrementAndGet();
+                }
+            });
+        }
+        controller.setParallelCommands("ControllerTestRejected", true);
+
+        controller.executeCommand(new Notification("ControllerTestRejectedAsync", null, "a"));
+        Assertions.assertThrows(RejectedExecutionException.class, () -> controller.executeCommand(new Notification("ControllerTestRejected")));
+
+        // test assertions
+        Assertions.assertTrue(executed.get() == 0, "Expecting no command executed");
+        Assertions.assertTrue(errors.size() == 1 && errors.get(0) instanceof RejectedExecutionException, "Expecting the rejection handled");
+        Assertions.assertTrue(controller.getInFlightCommands() == 0, "Expecting no command in flight");
+        Assertions.assertTrue(controller.getCompletedCommands("ControllerTestRejectedAsync", true) == 1, "Expecting 1 failed command");
+
+        // the key of the rejected command is forgotten
+        controller.setCommandExecutor(null);
+        controller.executeCommand(new Notification("ControllerTestRejectedAsync", null, "a"));
+        Assertions.assertTrue(executed.get() == 1, "Expecting the rejected command to be retried");
+
+        // a command evicted by capacity leaves the entry of its re-entered key alone
+        Controller.Deduplication deduplication = new Controller.Deduplication(INotification::getType, TimeUnit.MINUTES.toNanos(1), 1);
+        Controller.Deduplication.Entry first = deduplication.enter("a");
+        Controller.Deduplication.Entry second = deduplication.enter("b");
+        Controller.Deduplication.Entry again = deduplication.enter("a");
+        deduplication.exit("a", first, false);
+        Assertions.assertNotNull(first, "Expecting the first key entered");
+        Assertions.assertNotNull(second, "Expecting the second key entered");
+        Assertions.assertNotNull(again, "Expecting the evicted key entered again");
+        Assertions.assertNull(deduplication.enter("a"), "Expecting the key still executing");
+
+        Controller.removeController("ControllerTestKey10");
+        View.removeView("ControllerTestKey10");
+    }
+
+    /**
+     * Tests the deduplication of commands by idempotency key.
+     *
+     * <P>Notifications of the same type are duplicates while their command
+     * executes, and within the window once it completes, unless it failed.</P>
+     */
+    @Test
+    public void testCommandDeduplication() throws Exception {
+        Controller controller = (Controller) Controller.getInstance("ControllerTestKey7", key -> new Controller(key));
+        AtomicInteger executed = new AtomicInteger();
+        controller.registerCommand("ControllerTestDedup", () -> new SimpleCommand() {
+            public void execute(INotification notification) {
+                executed.incrementAndGet();
+                if("fail".equals(notification.getBody())) throw new IllegalStateException("Failed");
+            }
+        }, INotification::getType, 50, TimeUnit.MILLISECONDS);
+
+        controller.executeCommand(new Notification("ControllerTestDedup", null, "a"));
+        controller.executeCommand(new Notification("ControllerTestDedup", null, "a"));
+        controller.executeCommand(new Notification("ControllerTestDedup", null, "b"));
+        controller.executeCommand(new Notification("ControllerTestDedup", null, null));
+        controller.executeCommand(new Notification("ControllerTestDedup", null, null));
+        Assertions.assertTrue(executed.get() == 4, "Expecting 4 commands executed, got " + executed.get());
+        Assertions.assertTrue(controller.getDuplicateCommands("ControllerTestDedup") == 1, "Expecting 1 duplicate command");
+
+        // a failed command may be retried
+        Assertions.assertThrows(IllegalStateException.class, () -> controller.executeCommand(new Notification("ControllerTestDedup", "fail", "c")));
+        controller.executeCommand(new Notification("ControllerTestDedup", null, "c"));
+        Assertions.assertTrue(executed.get() == 6, "Expecting the failed command to be retried");
+
+        // a completed command is forgotten after the window
+        Thread.sleep(100);
+        controller.executeCommand(new Notification("ControllerTestDedup", null, "a"));
+        Assertions.assertTrue(executed.get() == 7, "Expecting the command to execute again after the window");
+
+        // an asynchronous command is a duplicate while it executes
+        CompletableFuture<Object> pending = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger();
+        controller.registerCommand("ControllerTestDedupAsync", () -> new AsyncCommand() {
+            public CompletionStage<?> executeAsync(INotification notification) {
+                started.incrementAndGet();
+                return pending;
+            }
+        }, INotification::getType, 1, TimeUnit.MINUTES);
+        controller.executeCommand(new Notification("ControllerTestDedupAsync", null, "a"));
+        controller.executeCommand(new Notification("ControllerTestDedupAsync", null, "a"));
+        pending.complete(null);
+        controller.executeCommand(new Notification("ControllerTestDedupAsync", null, "a"));
+        Assertions.assertTrue(started.get() == 1, "Expecting 1 asynchronous command started, got " + started.get());
+        Assertions.assertTrue(controller.getDuplicateCommands("ControllerTestDedupAsync") == 2, "Expecting 2 duplicate commands");
+
+        Controller.removeController("ControllerTestKey7");
+    }
+
+    /**
+     * Tests executing several commands for one notification name,
+     * in order, and fanned out in parallel.
+     */
+    @Test
+    public void testMultipleCommands() throws Exception {
+        Controller controller = (Controller) Controller.getInstance("ControllerTestKey8", key -> new Controller(key));
+        View view = (View) View.getInstance("ControllerTestKey8", key -> new View(key));
+        List<String> executed = new CopyOnWriteArrayList<>();
+        for(String name : new String[] { "first", "second", "third" }) {
+            controller.addCommand("ControllerTestMulti", () -> new SimpleCommand() {
+                public void execute(INotification notification) {
+                    executed.add(name);
+                }
+            });
+        }
+        controller.executeCommand(new Notification("ControllerTestMulti"));
+
+        Assertions.assertTrue(view.observerMap.get("ControllerTestMulti").size() == 1, "Expecting a single observer");
+        Assertions.assertTrue(executed.size() == 3, "Expecting 3 commands executed");
+        Assertions.assertTrue(executed.get(0).equals("first"), "Expecting executed[0] == first");
+        Assertions.assertTrue(executed.get(1).equals("second"), "Expecting executed[1] == second");
+        Assertions.assertTrue(executed.get(2).equals("third"), "Expecting executed[2] == third");
+
+        // registering again replaces the commands
+        controller.registerCommand("ControllerTestMulti", () -> new SimpleCommand() {
+            public void execute(INotification notification) {
+                executed.add("only");
+            }
+        });
+        controller.executeCommand(new Notification("ControllerTestMulti"));
+        Assertions.assertTrue(executed.size() == 4 && executed.get(3).equals("only"), "Expecting only the registered command executed");
+
+        // parallel commands run at the same time, each waiting for the other
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        controller.setCommandExecutor(executor);
+        controller.setParallelCommands("ControllerTestParallel", true);
+        CountDownLatch latch = new CountDownLatch(2);
+        AtomicInteger met = new AtomicInteger();
+        for(int i=0; i<2; i++) {
+            controller.addCommand("ControllerTestParallel", () -> new SimpleCommand() {
+                public void execute(INotification notification) {
+                    latch.countDown();
+                    try {
+                        if(latch.await(5, TimeUnit.SECONDS)) met.incrementAndGet();
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+        }
+        controller.executeCommand(new Notification("ControllerTestParallel"));
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS), "Expecting the commands to complete");
+        Assertions.assertTrue(met.get() == 2, "Expecting the 2 commands to run at the same time");
+
+        // a failing parallel command does not skip the others
+        ExecutorService isolated = Executors.newFixedThreadPool(2);
+        controller.setCommandExecutor(isolated);
+        controller.setParallelCommands("ControllerTestIsolated", true);
+        controller.addCommand("ControllerTestIsolated", () -> { throw new IllegalStateException("Unavailable"); });
+        controller.addCommand("ControllerTestIsolated", () -> new SimpleCommand() {
+            public void execute(INotification notification) {
+                executed.add("isolated");
+            }
+        });
+        IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class, () -> controller.executeCommand(new Notification("ControllerTestIsolated")));
+        isolated.shutdown();
+        Assertions.assertTrue(isolated.awaitTermination(5, TimeUnit.SECONDS), "Expecting the commands to complete");
+        Assertions.assertTrue(exception.getMessage().equals("Unavailable"), "Expecting the failure of the first command");
+        Assertions.assertTrue(executed.contains("isolated"), "Expecting the second command executed");
+
+        Controller.removeController("ControllerTestKey8");
+        View.removeView("ControllerTestKey8");
+    }
+
 }
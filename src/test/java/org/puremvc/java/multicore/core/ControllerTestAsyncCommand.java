@@ -0,0 +1,46 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.core;
+
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.command.AsyncCommand;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An AsyncCommand subclass used by ControllerTest.
+ *
+ * @see ControllerTest ControllerTest
+ */
+public class ControllerTestAsyncCommand extends AsyncCommand {
+
+    // the commands running, and the most ever running at a time
+    public static final AtomicInteger running = new AtomicInteger();
+    public static final AtomicInteger maxRunning = new AtomicInteger();
+
+    /**
+     * Complete the future in the body of the note after 10 milliseconds
+     *
+     * @param notification the note carrying the future to complete
+     */
+    @SuppressWarnings("unchecked")
+    public CompletionStage<?> executeAsync(INotification notification) {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        return CompletableFuture.runAsync(() -> {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            ((CompletableFuture<Object>) notification.getBody()).complete(notification);
+        });
+    }
+}
@@ -0,0 +1,58 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.patterns.observer.Notification;
+import org.puremvc.java.multicore.patterns.observer.Observer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Test the PureMVC ObserverList class.
+ *
+ * @see ObserverList ObserverList
+ */
+public class ObserverListTest {
+
+    /**
+     * Tests that observers removed or added during a walk are not notified by it,
+     * in a shared and in a confined list.
+     */
+    @Test
+    public void testModifyDuringWalk() {
+        for(boolean confined : new boolean[] { false, true }) {
+            ObserverList list = new ObserverList(new LongAdder(), confined);
+            List<String> notified = new ArrayList<>();
+            ObserverList.Node[] nodes = new ObserverList.Node[3];
+
+            nodes[0] = list.add(new Observer(note -> {
+                notified.add("first");
+                list.remove(nodes[0]);
+                list.remove(nodes[1]);
+                list.add(new Observer(added -> notified.add("added"), "added"));
+            }, "first"));
+            nodes[1] = list.add(new Observer(note -> notified.add("second"), "second"));
+            nodes[2] = list.add(new Observer(note -> notified.add("third"), "third"));
+
+            list.notifyObservers(new Notification("Test"), null, null, 0);
+
+            // test assertions
+            Assertions.assertEquals("[first, third]", notified.toString(), "Expecting the removed and added observers skipped");
+            Assertions.assertTrue(list.size() == 2, "Expecting list.size() == 2");
+
+            notified.clear();
+            list.notifyObservers(new Notification("Test"), null, null, 0);
+            Assertions.assertEquals("[third, added]", notified.toString(), "Expecting the added observer on the next walk");
+        }
+    }
+
+}
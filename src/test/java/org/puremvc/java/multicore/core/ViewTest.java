@@ -11,10 +11,23 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.puremvc.java.multicore.interfaces.IMediator;
 import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.interfaces.IObserver;
 import org.puremvc.java.multicore.interfaces.IView;
 import org.puremvc.java.multicore.patterns.mediator.Mediator;
+import org.puremvc.java.multicore.patterns.observer.DeliveryPolicy;
 import org.puremvc.java.multicore.patterns.observer.Notification;
 import org.puremvc.java.multicore.patterns.observer.Observer;
+import org.puremvc.java.multicore.patterns.observer.WeakObserver;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Test the PureMVC View class.
@@ -388,4 +401,284 @@ public class ViewTest {
         // verify the count is 0
         Assertions.assertEquals(0, counter, "Expecting counter == 0");
     }
+
+    /**
+     * Tests that observers are notified by decreasing priority, then in order of registration.
+     */
+    @Test
+    public void testObserverPriority() {
+        IView view = View.getInstance("ViewTestKey12", key -> new View(key));
+        List<String> order = new ArrayList<>();
+
+        view.registerObserver(NOTE1, new Observer(note -> order.add("low"), "low", -1));
+        view.registerObserver(NOTE1, new Observer(note -> order.add("default1"), "default1"));
+        view.registerObserver(NOTE1, new Observer(note -> order.add("high"), "high", 10));
+        view.registerObserver(NOTE1, new Observer(note -> order.add("default2"), "default2"));
+        view.registerMediator(new Mediator("RiskMediator") {
+            public String[] listNotificationInterests() {
+                return new String[]{NOTE1};
+            }
+            public void handleNotification(INotification notification) {
+                order.add("mediator");
+            }
+            public int getPriority() {
+                return 5;
+            }
+        });
+
+        view.notifyObservers(new Notification(NOTE1));
+
+        // test assertions
+        Assertions.assertEquals("[high, mediator, default1, default2, low]", order.toString(), "Expecting observers by priority");
+        View.removeView("ViewTestKey12");
+    }
+
+    /**
+     * Tests that observers below the threshold are notified by the executor.
+     */
+    @Test
+    public void testAsyncDelivery() throws InterruptedException {
+        View view = (View) View.getInstance("ViewTestKey13", key -> new View(key));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        view.setAsyncDelivery(executor, 0);
+        Thread caller = Thread.currentThread();
+        List<String> order = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+
+        view.registerObserver(NOTE1, new Observer(note -> { order.add("ui"); threads.add(Thread.currentThread()); }, "ui", -1));
+        view.registerObserver(NOTE1, new Observer(note -> { order.add("risk"); threads.add(Thread.currentThread()); }, "risk", 1));
+
+        view.notifyObservers(new Notification(NOTE1));
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS), "Expecting the executor to finish");
+
+        // test assertions
+        Assertions.assertEquals("[risk, ui]", order.toString(), "Expecting the synchronous observer first");
+        Assertions.assertTrue(threads.get(0) == caller, "Expecting the high priority observer on the caller");
+        Assertions.assertTrue(threads.get(1) != caller, "Expecting the low priority observer on the executor");
+        View.removeView("ViewTestKey13");
+    }
+
+    /**
+     * Tests removing observers by notify context, singly and in bulk.
+     */
+    @Test
+    public void testRemoveObservers() {
+        IView view = View.getInstance("ViewTestKey14", key -> new View(key));
+        List<String> notified = new ArrayList<>();
+        Object context = new Object();
+        Object other = new Object();
+
+        view.registerObserver(NOTE1, new Observer(note -> notified.add("context1"), context));
+        view.registerObserver(NOTE2, new Observer(note -> notified.add("context2"), context));
+        view.registerObserver(NOTE3, new Observer(note -> notified.add("context3"), context));
+        view.registerObserver(NOTE1, new Observer(note -> notified.add("other1"), other));
+
+        view.removeObserver(NOTE3, context);
+        view.notifyObservers(new Notification(NOTE3));
+        Assertions.assertTrue(notified.isEmpty(), "Expecting the NOTE3 observer removed");
+
+        ((View) view).removeObservers(context);
+        view.notifyObservers(new Notification(NOTE1));
+        view.notifyObservers(new Notification(NOTE2));
+
+        // test assertions
+        Assertions.assertEquals("[other1]", notified.toString(), "Expecting only the other observer");
+
+        // many mediators on one name, removed in any order
+        for(int i=0; i<1000; i++) {
+            view.registerMediator(new Mediator("ChurnMediator" + i) {
+                public String[] listNotificationInterests() {
+                    return new String[]{NOTE4, NOTE5};
+                }
+            });
+        }
+        for(int i=999; i>=0; i-=2) view.removeMediator("ChurnMediator" + i);
+        for(int i=0; i<1000; i+=2) view.removeMediator("ChurnMediator" + i);
+        Assertions.assertFalse(((View) view).observerMap.containsKey(NOTE4), "Expecting the NOTE4 observer list removed");
+
+        View.removeView("ViewTestKey14");
+    }
+
+    /**
+     * Tests removing an observer that does not expose its notify context.
+     */
+    @Test
+    public void testRemoveObserverWithoutContext() {
+        IView view = View.getInstance("ViewTestKey18", key -> new View(key));
+        List<String> notified = new ArrayList<>();
+        Object context = new Object();
+
+        view.registerObserver(NOTE1, new IObserver() {
+            public void setNotifyMethod(Consumer<INotification> notifyMethod) {
+            }
+            public void setNotifyContext(Object notifyContext) {
+            }
+            public void notifyObserver(INotification notification) {
+                notified.add("anonymous");
+            }
+            public boolean compareNotifyContext(Object object) {
+                return object == context;
+            }
+        });
+        view.registerObserver(NOTE2, new Observer(note -> notified.add("indexed"), context));
+
+        ((View) view).removeObservers(context);
+        view.notifyObservers(new Notification(NOTE1));
+        view.notifyObservers(new Notification(NOTE2));
+
+        // test assertions
+        Assertions.assertTrue(notified.isEmpty(), "Expecting both observers removed");
+        Assertions.assertTrue(((View) view).uncontextedMap.isEmpty(), "Expecting the observer without context unindexed");
+
+        View.removeView("ViewTestKey18");
+    }
+
+    /**
+     * Tests that weak observers do not retain their context and are purged once it is collected.
+     */
+    @Test
+    public void testWeakObserver() throws InterruptedException {
+        View view = (View) View.getInstance("ViewTestKey15", key -> new View(key));
+        List<String> notified = new ArrayList<>();
+        Object kept = new Object();
+        Object dropped = new Object();
+        WeakReference<Object> reference = new WeakReference<>(dropped);
+
+        view.registerObserver(NOTE1, new WeakObserver<>(kept, (context, note) -> notified.add("kept")));
+        view.registerObserver(NOTE1, new WeakObserver<>(dropped, (context, note) -> notified.add("dropped")));
+        view.registerObserver(NOTE2, new WeakObserver<>(dropped, (context, note) -> notified.add("dropped")));
+
+        view.notifyObservers(new Notification(NOTE1));
+        Assertions.assertEquals("[kept, dropped]", notified.toString(), "Expecting both observers while reachable");
+
+        dropped = null;
+        for(int i=0; i<50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assertions.assertTrue(reference.get() == null, "Expecting the context to be collected");
+
+        // lazily on dispatch
+        notified.clear();
+        view.notifyObservers(new Notification(NOTE1));
+        Assertions.assertEquals("[kept]", notified.toString(), "Expecting only the reachable observer");
+        Assertions.assertTrue(view.getCollectedObservers() == 1, "Expecting 1 collected observer");
+
+        // by a sweep
+        Assertions.assertTrue(view.purgeCollectedObservers() == 1, "Expecting 1 observer purged");
+        Assertions.assertTrue(view.getCollectedObservers() == 2, "Expecting 2 collected observers");
+        Assertions.assertFalse(view.observerMap.containsKey(NOTE2), "Expecting the NOTE2 observer list removed");
+        Assertions.assertTrue(view.weakContextMap.size() == 1, "Expecting the collected context unindexed");
+
+        view.removeObserver(NOTE1, kept);
+        Assertions.assertFalse(view.observerMap.containsKey(NOTE1), "Expecting the NOTE1 observer list removed");
+        Assertions.assertTrue(view.weakContextMap.isEmpty(), "Expecting the weak context unindexed");
+
+        View.removeView("ViewTestKey15");
+    }
+
+    /**
+     * Tests immediate and deferred dispatch of nested notifications, and the depth limit.
+     */
+    @Test
+    public void testDispatchPolicy() {
+        View view = (View) View.getInstance("ViewTestKey16", key -> new View(key));
+        List<String> order = new ArrayList<>();
+        view.registerObserver(NOTE1, new Observer(note -> { order.add("first"); view.notifyObservers(new Notification(NOTE2)); }, "first"));
+        view.registerObserver(NOTE1, new Observer(note -> order.add("second"), "second"));
+        view.registerObserver(NOTE2, new Observer(note -> order.add("nested"), "nested"));
+
+        view.notifyObservers(new Notification(NOTE1));
+        Assertions.assertEquals("[first, nested, second]", order.toString(), "Expecting the nested notification dispatched immediately");
+
+        order.clear();
+        view.setDispatchPolicy(true, Integer.MAX_VALUE);
+        view.notifyObservers(new Notification(NOTE1));
+        Assertions.assertEquals("[first, second, nested]", order.toString(), "Expecting the nested notification deferred");
+        Assertions.assertTrue(view.getNestedNotifications() == 2, "Expecting 2 nested notifications");
+
+        // a cascade far deeper than the stack allows, deferred
+        int[] count = new int[1];
+        view.registerObserver(NOTE3, new Observer(note -> { if(++count[0] < 100000) view.notifyObservers(note); }, "cascade"));
+        view.notifyObservers(new Notification(NOTE3));
+        Assertions.assertTrue(count[0] == 100000, "Expecting the deferred cascade to complete");
+
+        // test the depth limit in both modes
+        for(boolean deferred : new boolean[]{false, true}) {
+            count[0] = 0;
+            view.setDispatchPolicy(deferred, 10);
+            Assertions.assertThrows(IllegalStateException.class, () -> view.notifyObservers(new Notification(NOTE3)), "Expecting the depth limit exceeded");
+            Assertions.assertTrue(count[0] == 10, "Expecting 10 levels notified, got " + count[0]);
+        }
+        Assertions.assertTrue(view.getRejectedNotifications() == 2, "Expecting 2 rejected notifications");
+
+        View.removeView("ViewTestKey16");
+    }
+
+    /**
+     * Tests delivery policies per notification name and per observer.
+     */
+    @Test
+    public void testDeliveryPolicy() {
+        View view = (View) View.getInstance("ViewTestKey17", key -> new View(key));
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        DeliveryPolicy once = DeliveryPolicy.throttle(scheduler, 1, 1, TimeUnit.HOURS);
+        List<String> notified = new ArrayList<>();
+        Object context = new Object();
+        view.registerObserver(NOTE1, new Observer(note -> notified.add("all"), this));
+        view.registerObserver(NOTE1, new Observer(note -> notified.add("limited"), context));
+
+        view.setDeliveryPolicy(NOTE1, context, once);
+        for(int i=0; i<3; i++) view.notifyObservers(new Notification(NOTE1));
+        Assertions.assertEquals("[all, limited, all, all]", notified.toString(), "Expecting the observer throttled");
+
+        notified.clear();
+        view.setDeliveryPolicy(NOTE1, context, null);
+        view.setDeliveryPolicy(NOTE1, once);
+        for(int i=0; i<3; i++) view.notifyObservers(new Notification(NOTE1));
+        Assertions.assertEquals("[all, limited]", notified.toString(), "Expecting the notification name throttled");
+
+        notified.clear();
+        view.setDeliveryPolicy(NOTE1, null);
+        view.notifyObservers(new Notification(NOTE1));
+        Assertions.assertEquals("[all, limited]", notified.toString(), "Expecting every notification delivered again");
+
+        View.removeView("ViewTestKey17");
+        scheduler.shutdown();
+    }
+
+    /**
+     * Tests that removing a mediator, or the view, drops its pending debounced notification.
+     */
+    @Test
+    public void testRemoveWithPendingDelivery() throws InterruptedException {
+        View view = (View) View.getInstance("ViewTestKey19", key -> new View(key));
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        DeliveryPolicy debounce = DeliveryPolicy.debounce(scheduler, 20, TimeUnit.MILLISECONDS);
+        List<String> notified = new CopyOnWriteArrayList<>();
+        IMediator mediator = new Mediator("ViewTestDebouncedMediator") {
+            public String[] listNotificationInterests() {
+                return new String[]{NOTE1};
+            }
+            public void handleNotification(INotification notification) {
+                notified.add("mediator");
+            }
+        };
+        view.registerMediator(mediator);
+        view.setDeliveryPolicy(NOTE1, mediator, debounce);
+        view.registerObserver(NOTE2, debounce.wrap(new Observer(note -> notified.add("observer"), this)));
+
+        view.notifyObservers(new Notification(NOTE1));
+        view.removeMediator("ViewTestDebouncedMediator");
+        view.notifyObservers(new Notification(NOTE2));
+        View.removeView("ViewTestKey19");
+        Thread.sleep(100);
+
+        // test assertions
+        Assertions.assertTrue(notified.isEmpty(), "Expecting nothing delivered after the removal, got " + notified);
+
+        scheduler.shutdown();
+    }
+
 }
@@ -0,0 +1,79 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.bridge;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Test the PureMVC MappedRing class.
+ *
+ * @see MappedRing MappedRing
+ */
+public class MappedRingTest {
+
+    /**
+     * Tests offering and polling messages across the end of the ring.
+     */
+    @Test
+    public void testOfferAndPoll() throws IOException {
+        Path path = Files.createTempFile("MappedRingTest", ".ring");
+        MappedRing producer = new MappedRing(path, 64);
+        MappedRing consumer = new MappedRing(path, 64);
+
+        for(int i=0; i<20; i++) {
+            ByteBuffer message = ByteBuffer.allocate(12).putInt(i).putLong(i * 10L);
+            message.flip();
+            Assertions.assertTrue(producer.offer(message), "Expecting producer.offer() == true");
+
+            ByteBuffer received = consumer.poll();
+            Assertions.assertTrue(received.remaining() == 12, "Expecting received.remaining() == 12");
+            Assertions.assertTrue(received.getInt() == i, "Expecting received.getInt() == i");
+            Assertions.assertTrue(received.getLong() == i * 10L, "Expecting received.getLong() == i * 10");
+        }
+
+        // test assertions
+        Assertions.assertNull(consumer.poll(), "Expecting consumer.poll() == null");
+        Assertions.assertTrue(producer.size() == 0, "Expecting producer.size() == 0");
+
+        producer.close();
+        consumer.close();
+        Files.delete(path);
+    }
+
+    /**
+     * Tests that a full ring rejects messages until the consumer catches up.
+     */
+    @Test
+    public void testFull() throws IOException {
+        Path path = Files.createTempFile("MappedRingTest", ".ring");
+        MappedRing producer = new MappedRing(path, 64);
+        MappedRing consumer = new MappedRing(path, 64);
+        ByteBuffer message = ByteBuffer.allocate(28);
+
+        // test assertions
+        Assertions.assertTrue(producer.offer(message), "Expecting the first message to fit");
+        Assertions.assertTrue(producer.offer(message), "Expecting the second message to fit");
+        Assertions.assertFalse(producer.offer(message), "Expecting the third message not to fit");
+        Assertions.assertNotNull(consumer.poll(), "Expecting a first message");
+        Assertions.assertNotNull(consumer.poll(), "Expecting a second message");
+        Assertions.assertTrue(producer.offer(message), "Expecting room after the first message was released");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> producer.offer(ByteBuffer.allocate(64)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new MappedRing(path, 128));
+
+        producer.close();
+        consumer.close();
+        Files.delete(path);
+    }
+
+}
@@ -0,0 +1,169 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.bridge;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.core.View;
+import org.puremvc.java.multicore.interfaces.IBodySerializer;
+import org.puremvc.java.multicore.interfaces.IFacade;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.facade.Facade;
+import org.puremvc.java.multicore.patterns.observer.Observer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test the PureMVC SharedMemoryBridge class.
+ *
+ * @see SharedMemoryBridge SharedMemoryBridge
+ */
+public class SharedMemoryBridgeTest {
+
+    /**
+     * A serializer for String bodies.
+     */
+    private static final IBodySerializer STRINGS = new IBodySerializer() {
+        public byte[] serialize(Object body) {
+            return ((String) body).getBytes(StandardCharsets.UTF_8);
+        }
+
+        public Object deserialize(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    /**
+     * Tests bridging notifications between two cores through a pair of rings.
+     */
+    @Test
+    public void testBridge() throws IOException, InterruptedException {
+        Path aToB = Files.createTempFile("SharedMemoryBridgeTest", ".ring");
+        Path bToA = Files.createTempFile("SharedMemoryBridgeTest", ".ring");
+        IFacade a = Facade.getInstance("SharedMemoryBridgeTestKeyA", key -> new Facade(key));
+        IFacade b = Facade.getInstance("SharedMemoryBridgeTestKeyB", key -> new Facade(key));
+
+        CountDownLatch latch = new CountDownLatch(2);
+        List<INotification> received = new CopyOnWriteArrayList<>();
+        View.getInstance("SharedMemoryBridgeTestKeyB", key -> new View(key)).registerObserver("Quote", new Observer(note -> {
+            received.add(note);
+            latch.countDown();
+        }, this));
+
+        a.registerMediator(new SharedMemoryBridge("Bridge", aToB, bToA, 4096, STRINGS, "Quote"));
+        b.registerMediator(new SharedMemoryBridge("Bridge", bToA, aToB, 4096, STRINGS, "Quote"));
+
+        a.sendNotification("Quote", "EURUSD", "bid");
+        a.sendNotification("Quote");
+
+        // test assertions
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS), "Expecting two notifications to be bridged");
+        Assertions.assertTrue(received.get(0).getName().equals("Quote"), "Expecting received.get(0).getName() == 'Quote'");
+        Assertions.assertTrue(received.get(0).getBody().equals("EURUSD"), "Expecting received.get(0).getBody() == 'EURUSD'");
+        Assertions.assertTrue(received.get(0).getType().equals("bid"), "Expecting received.get(0).getType() == 'bid'");
+        Assertions.assertNull(received.get(1).getBody(), "Expecting received.get(1).getBody() == null");
+
+        // the notifications delivered to B must not have been echoed back to A
+        Thread.sleep(50);
+        MappedRing echo = new MappedRing(bToA, 4096);
+        Assertions.assertTrue(echo.size() == 0, "Expecting nothing echoed back");
+        echo.close();
+
+        a.removeMediator("Bridge");
+        b.removeMediator("Bridge");
+        Facade.removeCore("SharedMemoryBridgeTestKeyA");
+        Facade.removeCore("SharedMemoryBridgeTestKeyB");
+    }
+
+    /**
+     * Tests bridging between two cores in actor mode, copying the bodies out of the ring.
+     */
+    @Test
+    public void testActor() throws IOException, InterruptedException {
+        Path aToB = Files.createTempFile("SharedMemoryBridgeTest", ".ring");
+        Path bToA = Files.createTempFile("SharedMemoryBridgeTest", ".ring");
+        Facade a = (Facade) Facade.getInstance("SharedMemoryBridgeTestKeyC", key -> new Facade(key));
+        Facade b = (Facade) Facade.getInstance("SharedMemoryBridgeTestKeyD", key -> new Facade(key));
+        a.startActor();
+        b.startActor();
+
+        CountDownLatch latch = new CountDownLatch(500);
+        List<ByteBuffer> received = new CopyOnWriteArrayList<>();
+        b.registerMediator(new SharedMemoryBridge("Bridge", bToA, aToB, 4096, STRINGS, "Tick"));
+        View.getInstance("SharedMemoryBridgeTestKeyD", key -> new View(key)).registerObserver("Tick", new Observer(note -> {
+            received.add((ByteBuffer) note.getBody());
+            latch.countDown();
+        }, this));
+        a.registerMediator(new SharedMemoryBridge("Bridge", aToB, bToA, 4096, STRINGS, "Tick"));
+
+        for(int i=0; i<500; i++) {
+            ByteBuffer body = ByteBuffer.allocate(4);
+            body.putInt(0, i);
+            a.sendNotification("Tick", body);
+        }
+
+        // test assertions
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS), "Expecting 500 notifications to be bridged");
+        for(int i=0; i<500; i++) Assertions.assertTrue(received.get(i).getInt(0) == i, "Expecting the bodies to survive the reuse of the ring");
+
+        // the notifications delivered to B on its actor must not have been echoed back to A
+        Thread.sleep(50);
+        MappedRing echo = new MappedRing(bToA, 4096);
+        Assertions.assertTrue(echo.size() == 0, "Expecting nothing echoed back");
+        echo.close();
+
+        a.removeMediator("Bridge");
+        b.removeMediator("Bridge");
+        Facade.removeCore("SharedMemoryBridgeTestKeyC");
+        Facade.removeCore("SharedMemoryBridgeTestKeyD");
+    }
+
+    /**
+     * Tests that the poller reports a failed delivery and keeps polling.
+     */
+    @Test
+    public void testFailure() throws IOException, InterruptedException {
+        Path aToB = Files.createTempFile("SharedMemoryBridgeTest", ".ring");
+        Path bToA = Files.createTempFile("SharedMemoryBridgeTest", ".ring");
+        IFacade a = Facade.getInstance("SharedMemoryBridgeTestKeyE", key -> new Facade(key));
+        IFacade b = Facade.getInstance("SharedMemoryBridgeTestKeyF", key -> new Facade(key));
+
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        View.getInstance("SharedMemoryBridgeTestKeyF", key -> new View(key)).registerObserver("Quote", new Observer(note -> {
+            if(note.getBody().equals("bad")) throw new IllegalStateException("bad");
+            latch.countDown();
+        }, this));
+
+        SharedMemoryBridge bridge = new SharedMemoryBridge("Bridge", bToA, aToB, 4096, STRINGS, "Quote");
+        a.registerMediator(new SharedMemoryBridge("Bridge", aToB, bToA, 4096, STRINGS, "Quote"));
+        b.registerMediator(bridge);
+        bridge.poller.setUncaughtExceptionHandler((thread, throwable) -> errors.add(throwable));
+
+        a.sendNotification("Quote", "bad");
+        a.sendNotification("Quote", "good");
+
+        // test assertions
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS), "Expecting the next notification to be bridged");
+        Assertions.assertTrue(errors.size() == 1 && errors.get(0).getMessage().equals("bad"), "Expecting the failure to be reported");
+
+        a.removeMediator("Bridge");
+        b.removeMediator("Bridge");
+        Facade.removeCore("SharedMemoryBridgeTestKeyE");
+        Facade.removeCore("SharedMemoryBridgeTestKeyF");
+    }
+
+}
@@ -0,0 +1,212 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.bridge;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.core.View;
+import org.puremvc.java.multicore.interfaces.IBodySerializer;
+import org.puremvc.java.multicore.interfaces.IFacade;
+import org.puremvc.java.multicore.patterns.facade.Facade;
+import org.puremvc.java.multicore.patterns.observer.Observer;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test the PureMVC SocketBridge class.
+ *
+ * @see SocketBridge SocketBridge
+ */
+public class SocketBridgeTest {
+
+    /**
+     * A serializer for String bodies.
+     */
+    private static final IBodySerializer STRINGS = new IBodySerializer() {
+        public byte[] serialize(Object body) {
+            return ((String) body).getBytes(StandardCharsets.UTF_8);
+        }
+
+        public Object deserialize(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    /**
+     * Tests bridging notifications both ways between two cores on loopback.
+     */
+    @Test
+    public void testBridge() throws InterruptedException {
+        IFacade server = Facade.getInstance("SocketBridgeTestKeyServer", key -> new Facade(key));
+        IFacade client = Facade.getInstance("SocketBridgeTestKeyClient", key -> new Facade(key));
+
+        CountDownLatch serverLatch = new CountDownLatch(1000);
+        CountDownLatch clientLatch = new CountDownLatch(1);
+        List<Object> serverReceived = new CopyOnWriteArrayList<>();
+        View.getInstance("SocketBridgeTestKeyServer", key -> new View(key)).registerObserver("Order", new Observer(note -> {
+            serverReceived.add(note.getBody());
+            serverLatch.countDown();
+        }, this));
+        View.getInstance("SocketBridgeTestKeyClient", key -> new View(key)).registerObserver("Fill", new Observer(note -> clientLatch.countDown(), this));
+
+        SocketBridge serverBridge = new SocketBridge("Bridge", STRINGS, 50, "Fill");
+        serverBridge.listen(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.registerMediator(serverBridge);
+
+        SocketBridge clientBridge = new SocketBridge("Bridge", STRINGS, 50, "Order");
+        clientBridge.connect(serverBridge.getLocalAddress());
+        client.registerMediator(clientBridge);
+
+        for(int i=0; i<1000; i++) {
+            client.sendNotification("Order", "order-" + i, "limit");
+        }
+        Assertions.assertTrue(serverLatch.await(5, TimeUnit.SECONDS), "Expecting 1000 orders to be bridged");
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while(serverBridge.getConnectionCount() == 0 && System.currentTimeMillis() < deadline) Thread.sleep(10);
+        server.sendNotification("Fill", "filled");
+
+        // test assertions
+        Assertions.assertTrue(clientLatch.await(5, TimeUnit.SECONDS), "Expecting the fill to be bridged back");
+        Assertions.assertTrue(serverReceived.get(0).equals("order-0"), "Expecting orders in order");
+        Assertions.assertTrue(serverReceived.get(999).equals("order-999"), "Expecting orders in order");
+
+        client.removeMediator("Bridge");
+        server.removeMediator("Bridge");
+        Facade.removeCore("SocketBridgeTestKeyServer");
+        Facade.removeCore("SocketBridgeTestKeyClient");
+    }
+
+    /**
+     * Tests that a connection is reestablished once the remote bridge is available.
+     */
+    @Test
+    public void testReconnect() throws IOException, InterruptedException {
+        IFacade client = Facade.getInstance("SocketBridgeTestKeyReconnect", key -> new Facade(key));
+        InetSocketAddress address;
+        try(ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            address = (InetSocketAddress) socket.getLocalSocketAddress();
+        }
+
+        // connect while nothing listens on the address yet
+        SocketBridge clientBridge = new SocketBridge("Bridge", STRINGS, 20, "Ping");
+        clientBridge.connect(address);
+        client.registerMediator(clientBridge);
+        client.sendNotification("Ping", "queued");
+        Thread.sleep(100);
+
+        SocketBridge probe = new SocketBridge("Probe", STRINGS);
+        probe.listen(address);
+        IFacade server = Facade.getInstance("SocketBridgeTestKeyListener", key -> new Facade(key));
+        CountDownLatch latch = new CountDownLatch(1);
+        View.getInstance("SocketBridgeTestKeyListener", key -> new View(key)).registerObserver("Ping", new Observer(note -> latch.countDown(), this));
+        server.registerMediator(probe);
+
+        // test assertions
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS), "Expecting the queued notification after reconnecting");
+
+        client.removeMediator("Bridge");
+        server.removeMediator("Probe");
+        Facade.removeCore("SocketBridgeTestKeyReconnect");
+        Facade.removeCore("SocketBridgeTestKeyListener");
+    }
+
+    /**
+     * Tests bridging between two cores in actor mode, without echoes, copying the bodies out of the read buffer.
+     */
+    @Test
+    public void testActor() throws InterruptedException {
+        Facade server = (Facade) Facade.getInstance("SocketBridgeTestKeyActorServer", key -> new Facade(key));
+        Facade client = (Facade) Facade.getInstance("SocketBridgeTestKeyActorClient", key -> new Facade(key));
+        server.startActor();
+        client.startActor();
+
+        CountDownLatch latch = new CountDownLatch(1000);
+        List<ByteBuffer> received = new CopyOnWriteArrayList<>();
+        List<Object> sent = new CopyOnWriteArrayList<>();
+        View.getInstance("SocketBridgeTestKeyActorServer", key -> new View(key)).registerObserver("Tick", new Observer(note -> {
+            received.add((ByteBuffer) note.getBody());
+            latch.countDown();
+        }, this));
+
+        SocketBridge serverBridge = new SocketBridge("Bridge", STRINGS, 50, "Tick");
+        serverBridge.listen(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.registerMediator(serverBridge);
+
+        SocketBridge clientBridge = new SocketBridge("Bridge", STRINGS, 50, "Tick");
+        clientBridge.connect(serverBridge.getLocalAddress());
+        client.registerMediator(clientBridge);
+        // the client sees its own ticks, and any echoed back
+        View.getInstance("SocketBridgeTestKeyActorClient", key -> new View(key)).registerObserver("Tick", new Observer(note -> sent.add(note.getBody()), this));
+
+        for(int i=0; i<1000; i++) {
+            ByteBuffer body = ByteBuffer.allocate(4);
+            body.putInt(0, i);
+            client.sendNotification("Tick", body);
+        }
+
+        // test assertions
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS), "Expecting 1000 notifications to be bridged");
+        for(int i=0; i<1000; i++) Assertions.assertTrue(received.get(i).getInt(0) == i, "Expecting the bodies to survive the reuse of the read buffer");
+        Thread.sleep(100);
+        Assertions.assertTrue(sent.size() == 1000, "Expecting nothing echoed back");
+
+        client.removeMediator("Bridge");
+        server.removeMediator("Bridge");
+        Facade.removeCore("SocketBridgeTestKeyActorServer");
+        Facade.removeCore("SocketBridgeTestKeyActorClient");
+    }
+
+    /**
+     * Tests that the selector thread reports a failed delivery and keeps reading.
+     */
+    @Test
+    public void testFailure() throws InterruptedException {
+        IFacade server = Facade.getInstance("SocketBridgeTestKeyFailureServer", key -> new Facade(key));
+        IFacade client = Facade.getInstance("SocketBridgeTestKeyFailureClient", key -> new Facade(key));
+
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        View.getInstance("SocketBridgeTestKeyFailureServer", key -> new View(key)).registerObserver("Order", new Observer(note -> {
+            if(note.getBody().equals("bad")) throw new IllegalStateException("bad");
+            latch.countDown();
+        }, this));
+
+        SocketBridge serverBridge = new SocketBridge("Bridge", STRINGS, 50);
+        serverBridge.listen(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.registerMediator(serverBridge);
+        serverBridge.thread.setUncaughtExceptionHandler((thread, throwable) -> errors.add(throwable));
+
+        SocketBridge clientBridge = new SocketBridge("Bridge", STRINGS, 50, "Order");
+        clientBridge.connect(serverBridge.getLocalAddress());
+        client.registerMediator(clientBridge);
+
+        client.sendNotification("Order", "bad");
+        client.sendNotification("Order", "good");
+
+        // test assertions
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS), "Expecting the next notification to be bridged");
+        Assertions.assertTrue(errors.size() == 1 && errors.get(0).getMessage().equals("bad"), "Expecting the failure to be reported");
+        Assertions.assertTrue(serverBridge.getConnectionCount() == 1, "Expecting the connection to stay open");
+
+        client.removeMediator("Bridge");
+        server.removeMediator("Bridge");
+        Facade.removeCore("SocketBridgeTestKeyFailureServer");
+        Facade.removeCore("SocketBridgeTestKeyFailureClient");
+    }
+
+}
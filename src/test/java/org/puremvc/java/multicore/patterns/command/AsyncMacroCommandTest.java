@@ -0,0 +1,152 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.facade.Facade;
+import org.puremvc.java.multicore.patterns.observer.Notification;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test the PureMVC AsyncMacroCommand class.
+ *
+ * @see org.puremvc.java.multicore.patterns.command.AsyncMacroCommand AsyncMacroCommand
+ */
+public class AsyncMacroCommandTest {
+
+    /**
+     * Tests that the steps run in order, each on its own executor,
+     * without waiting for an asynchronous step on the calling thread.
+     */
+    @Test
+    public void testPipeline() throws Exception {
+        ExecutorService compute = Executors.newSingleThreadExecutor(task -> new Thread(task, "compute"));
+        ExecutorService io = Executors.newSingleThreadExecutor(task -> new Thread(task, "io"));
+        List<String> steps = new CopyOnWriteArrayList<>();
+        CompletableFuture<Object> fetched = new CompletableFuture<>();
+
+        AsyncMacroCommand command = new AsyncMacroCommand() {
+            protected void initializeMacroCommand() {
+                addSubCommand(() -> new AsyncCommand() {
+                    public CompletionStage<?> executeAsync(INotification notification) {
+                        steps.add("fetch:" + Thread.currentThread().getName());
+                        return fetched;
+                    }
+                }, io);
+                addSubCommand(() -> new SimpleCommand() {
+                    public void execute(INotification notification) {
+                        steps.add("price:" + Thread.currentThread().getName());
+                    }
+                }, compute);
+                addSubCommand(() -> new SimpleCommand() {
+                    public void execute(INotification notification) {
+                        steps.add("store:" + notification.getBody());
+                    }
+                });
+            }
+        };
+        command.initializeNotifier("AsyncMacroCommandTestKey1");
+
+        CompletableFuture<?> future = command.executeAsync(new Notification("Order", 7)).toCompletableFuture();
+        Assertions.assertFalse(future.isDone(), "Expecting the pipeline to wait for the fetch step");
+
+        fetched.complete(null);
+        future.get(5, TimeUnit.SECONDS);
+        compute.shutdown();
+        io.shutdown();
+
+        Assertions.assertEquals(3, steps.size(), "Expecting 3 steps");
+        Assertions.assertTrue(steps.get(0).equals("fetch:io"), "Expecting steps[0] == fetch:io");
+        Assertions.assertTrue(steps.get(1).equals("price:compute"), "Expecting steps[1] == price:compute");
+        Assertions.assertTrue(steps.get(2).equals("store:7"), "Expecting steps[2] == store:7");
+    }
+
+    /**
+     * Tests that a failed step skips the remaining steps and runs the
+     * compensations of the completed steps in reverse order.
+     */
+    @Test
+    public void testCompensation() throws Exception {
+        List<String> steps = new CopyOnWriteArrayList<>();
+        IllegalStateException error = new IllegalStateException("Out of stock");
+
+        AsyncMacroCommand command = new AsyncMacroCommand() {
+            protected void initializeMacroCommand() {
+                addSubCommand(() -> record(steps, "reserve"), null, () -> record(steps, "unreserve"));
+                addSubCommand(() -> record(steps, "charge"), null, () -> record(steps, "refund"));
+                addSubCommand(() -> new AsyncCommand() {
+                    public CompletionStage<?> executeAsync(INotification notification) {
+                        CompletableFuture<Object> failed = new CompletableFuture<>();
+                        failed.completeExceptionally(error);
+                        return failed;
+                    }
+                }, null, () -> record(steps, "unship"));
+                addSubCommand(() -> record(steps, "notify"));
+            }
+        };
+        command.initializeNotifier("AsyncMacroCommandTestKey2");
+
+        CompletableFuture<?> future = command.executeAsync(new Notification("Order")).toCompletableFuture();
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+
+        Assertions.assertTrue(exception.getCause() == error, "Expecting the error of the failed step");
+        Assertions.assertEquals(4, steps.size(), "Expecting 4 steps");
+        Assertions.assertTrue(steps.get(0).equals("reserve"), "Expecting steps[0] == reserve");
+        Assertions.assertTrue(steps.get(1).equals("charge"), "Expecting steps[1] == charge");
+        Assertions.assertTrue(steps.get(2).equals("refund"), "Expecting steps[2] == refund");
+        Assertions.assertTrue(steps.get(3).equals("unreserve"), "Expecting steps[3] == unreserve");
+    }
+
+    /**
+     * Tests that a <code>CORE</code> step runs on the actor of its core.
+     */
+    @Test
+    public void testCoreStep() throws Exception {
+        Facade facade = (Facade) Facade.getInstance("AsyncMacroCommandTestKey3", key -> new Facade(key));
+        facade.startActor();
+        ExecutorService compute = Executors.newSingleThreadExecutor(task -> new Thread(task, "compute"));
+        List<String> steps = new CopyOnWriteArrayList<>();
+
+        AsyncMacroCommand command = new AsyncMacroCommand() {
+            protected void initializeMacroCommand() {
+                addSubCommand(() -> record(steps, "compute"), compute);
+                addSubCommand(() -> new SimpleCommand() {
+                    public void execute(INotification notification) {
+                        steps.add(Thread.currentThread().getName());
+                    }
+                }, CORE);
+            }
+        };
+        command.initializeNotifier("AsyncMacroCommandTestKey3");
+        command.executeAsync(new Notification("Order")).toCompletableFuture().get(5, TimeUnit.SECONDS);
+        compute.shutdown();
+        Facade.removeCore("AsyncMacroCommandTestKey3");
+
+        Assertions.assertTrue(steps.get(0).equals("compute"), "Expecting steps[0] == compute");
+        Assertions.assertTrue(steps.get(1).equals("PureMVC-Mailbox-AsyncMacroCommandTestKey3"), "Expecting steps[1] on the mailbox thread " + steps.get(1));
+    }
+
+    private static SimpleCommand record(List<String> steps, String name) {
+        return new SimpleCommand() {
+            public void execute(INotification notification) {
+                steps.add(name);
+            }
+        };
+    }
+
+}
@@ -11,10 +11,25 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.puremvc.java.multicore.interfaces.IFacade;
 import org.puremvc.java.multicore.interfaces.IMediator;
+import org.puremvc.java.multicore.interfaces.INotification;
 import org.puremvc.java.multicore.interfaces.IProxy;
+import org.puremvc.java.multicore.interfaces.ITimeout;
+import org.puremvc.java.multicore.patterns.command.SimpleCommand;
 import org.puremvc.java.multicore.patterns.mediator.Mediator;
 import org.puremvc.java.multicore.patterns.proxy.Proxy;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 /**
  * Test the PureMVC Facade class.
  *
@@ -246,4 +261,216 @@ public class FacadeTest {
         Assertions.assertFalse(Facade.hasCore("FacadeTestKey11"), "Expecting Facade.hasCore('FacadeTestKey11') == false");
     }
 
+    /**
+     * Tests that an actor core dispatches notifications in order on its mailbox.
+     */
+    @Test
+    public void testActor() throws InterruptedException {
+        Facade facade = (Facade) Facade.getInstance("FacadeTestKey12", key -> new Facade(key));
+        facade.startActor();
+        Assertions.assertTrue(facade.isActor(), "Expecting facade.isActor() == true");
+
+        List<Object> bodies = new CopyOnWriteArrayList<>();
+        List<Boolean> onActor = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(100);
+        facade.registerMediator(new Mediator("ActorMediator") {
+            public String[] listNotificationInterests() {
+                return new String[]{"ActorNote"};
+            }
+            public void handleNotification(INotification notification) {
+                bodies.add(notification.getBody());
+                onActor.add(facade.actor.isMailboxThread());
+                latch.countDown();
+            }
+        });
+
+        for(int i=0; i<100; i++) facade.sendNotification("ActorNote", i);
+
+        // test assertions
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS), "Expecting 100 notifications");
+        for(int i=0; i<100; i++) Assertions.assertTrue((Integer) bodies.get(i) == i, "Expecting notifications in order");
+        Assertions.assertFalse(onActor.contains(false), "Expecting every notification on the actor");
+        Assertions.assertTrue(facade.removeMediator("ActorMediator") != null, "Expecting the mediator to be removed on the actor");
+
+        Facade.removeCore("FacadeTestKey12");
+    }
+
+    /**
+     * Tests many actor cores sharing a small executor.
+     */
+    @Test
+    public void testActorsOnExecutor() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        int cores = 200;
+        CountDownLatch latch = new CountDownLatch(cores * 10);
+        int[] counts = new int[cores];
+
+        for(int c=0; c<cores; c++) {
+            int core = c;
+            Facade facade = (Facade) Facade.getInstance("FacadeTestActorKey" + c, key -> new Facade(key));
+            facade.startActor(executor);
+            // unsynchronized state, confined to the actor
+            facade.registerCommand("Count", () -> new SimpleCommand() {
+                public void execute(INotification notification) {
+                    counts[core]++;
+                    latch.countDown();
+                }
+            });
+        }
+        for(int i=0; i<10; i++) {
+            for(int c=0; c<cores; c++) Facade.getInstance("FacadeTestActorKey" + c, key -> new Facade(key)).sendNotification("Count");
+        }
+
+        // test assertions
+        Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS), "Expecting every notification to be handled");
+        for(int c=0; c<cores; c++) {
+            Assertions.assertTrue(counts[c] == 10, "Expecting counts[" + c + "] == 10");
+            Facade.removeCore("FacadeTestActorKey" + c);
+        }
+        executor.shutdown();
+    }
+
+    /**
+     * Tests that a confined core fails fast when accessed from another thread.
+     */
+    @Test
+    public void testConfined() throws InterruptedException {
+        IFacade facade = Facade.getInstance("FacadeTestKey13", key -> new Facade(key, true));
+        facade.registerCommand("ConfinedNote", () -> new FacadeTestCommand());
+        facade.registerProxy(new Proxy("ConfinedProxy"));
+        Assertions.assertTrue(facade.hasCommand("ConfinedNote"), "Expecting facade.hasCommand('ConfinedNote') == true");
+        Assertions.assertTrue(facade.hasProxy("ConfinedProxy"), "Expecting facade.hasProxy('ConfinedProxy') == true");
+
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        Thread thread = new Thread(() -> {
+            try { facade.hasProxy("ConfinedProxy"); } catch (AssertionError error) { errors.add(error); }
+            try { facade.hasMediator("ConfinedMediator"); } catch (AssertionError error) { errors.add(error); }
+            try { facade.hasCommand("ConfinedNote"); } catch (AssertionError error) { errors.add(error); }
+        });
+        thread.start();
+        thread.join();
+
+        // test assertions
+        Assertions.assertTrue(errors.size() == 3, "Expecting 3 AssertionErrors, got " + errors.size());
+
+        Facade.removeCore("FacadeTestKey13");
+    }
+
+    /**
+     * Tests that pooled sends reuse their notification and allocate nothing.
+     */
+    @Test
+    public void testNotificationPooling() {
+        Facade facade = (Facade) Facade.getInstance("FacadeTestKey14", key -> new Facade(key));
+        facade.setNotificationPooling(true);
+        List<INotification> seen = new ArrayList<>();
+        List<INotification> retained = new ArrayList<>();
+        facade.registerMediator(new Mediator("PoolingMediator") {
+            public String[] listNotificationInterests() {
+                return new String[]{"Pooled", "Nested"};
+            }
+            public void handleNotification(INotification notification) {
+                if(seen.size() < 3) {
+                    seen.add(notification);
+                    retained.add(notification.retain());
+                }
+                if(notification.getName() == "Pooled" && seen.size() == 2) sendNotification("Nested", "inner");
+            }
+        });
+
+        facade.sendNotification("Pooled", "first");
+        facade.sendNotification("Pooled", "second");
+
+        // test assertions
+        Assertions.assertTrue(seen.get(0) == seen.get(1), "Expecting the notification reused across sends");
+        Assertions.assertTrue(seen.get(2) != seen.get(1), "Expecting a distinct notification for a nested send");
+        Assertions.assertTrue(retained.get(0).getBody() == "first", "Expecting retained.get(0).getBody() == 'first'");
+        Assertions.assertTrue(retained.get(1).getBody() == "second", "Expecting retained.get(1).getBody() == 'second'");
+        Assertions.assertTrue(retained.get(2).getBody() == "inner", "Expecting retained.get(2).getBody() == 'inner'");
+
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if(threads instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+            com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+            long thread = Thread.currentThread().getId();
+            for(int i=0; i<10000; i++) facade.sendNotification("Pooled");
+            long before = allocations.getThreadAllocatedBytes(thread);
+            for(int i=0; i<100000; i++) facade.sendNotification("Pooled");
+            long allocated = allocations.getThreadAllocatedBytes(thread) - before;
+            Assertions.assertTrue(allocated < 100000, "Expecting no allocation per send, got " + allocated + " bytes for 100000 sends");
+        }
+
+        Facade.removeCore("FacadeTestKey14");
+    }
+
+    /**
+     * Tests delayed and periodic notifications, and their cancellation by removeCore.
+     */
+    @Test
+    public void testScheduledNotification() throws InterruptedException {
+        Facade facade = (Facade) Facade.getInstance("FacadeTestKey15", key -> new Facade(key));
+        List<String> notified = new CopyOnWriteArrayList<>();
+        CountDownLatch later = new CountDownLatch(1);
+        CountDownLatch ticks = new CountDownLatch(3);
+        facade.registerMediator(new Mediator("SchedulingMediator") {
+            public String[] listNotificationInterests() {
+                return new String[]{"Later", "Tick", "Cancelled"};
+            }
+            public void handleNotification(INotification notification) {
+                notified.add(notification.getName());
+                if(notification.getName() == "Later") later.countDown();
+                if(notification.getName() == "Tick") ticks.countDown();
+            }
+        });
+
+        ITimeout cancelled = facade.scheduleNotification("Cancelled", null, null, 20, TimeUnit.MILLISECONDS);
+        facade.scheduleNotification("Later", "body", null, 20, TimeUnit.MILLISECONDS);
+        ITimeout tick = facade.scheduleNotificationAtFixedRate("Tick", null, null, 0, 10, TimeUnit.MILLISECONDS);
+        Assertions.assertTrue(cancelled.cancel(), "Expecting the notification cancelled");
+
+        // test assertions
+        Assertions.assertTrue(later.await(5, TimeUnit.SECONDS), "Expecting the delayed notification");
+        Assertions.assertTrue(ticks.await(5, TimeUnit.SECONDS), "Expecting 3 periodic notifications");
+        Assertions.assertFalse(notified.contains("Cancelled"), "Expecting the cancelled notification not sent");
+
+        Facade.removeCore("FacadeTestKey15");
+        Assertions.assertTrue(tick.isCancelled(), "Expecting the periodic notification cancelled by removeCore");
+    }
+
+    /**
+     * Tests replies to requests, synchronous, asynchronous, failed and missing.
+     */
+    @Test
+    public void testRequest() throws InterruptedException, ExecutionException {
+        Facade facade = (Facade) Facade.getInstance("FacadeTestKey16", key -> new Facade(key));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        facade.registerMediator(new Mediator("ResponderMediator") {
+            public String[] listNotificationInterests() {
+                return new String[]{"Double", "DoubleLater", "Fail"};
+            }
+            public void handleNotification(INotification notification) {
+                int value = (int) notification.getBody();
+                switch(notification.getName()) {
+                    case "Double": notification.reply(value * 2); break;
+                    case "DoubleLater": executor.execute(() -> notification.reply(value * 2)); break;
+                    default: throw new IllegalArgumentException("Fail");
+                }
+            }
+        });
+
+        CompletableFuture<Integer> doubled = facade.request("Double", 21);
+        CompletableFuture<Integer> composed = facade.<Integer>request("DoubleLater", 5).thenCompose(value -> facade.request("Double", value));
+        CompletableFuture<Integer> failed = facade.request("Fail", 0);
+        CompletableFuture<Integer> missing = facade.request("Unanswered", 0, null, 20, TimeUnit.MILLISECONDS);
+
+        // test assertions
+        Assertions.assertTrue(doubled.isDone() && doubled.get() == 42, "Expecting a synchronous reply of 42");
+        Assertions.assertTrue(composed.get() == 20, "Expecting a composed reply of 20");
+        Assertions.assertTrue(failed.isCompletedExceptionally(), "Expecting the request failed by the observer");
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class, missing::get, "Expecting the request to time out");
+        Assertions.assertTrue(exception.getCause() instanceof TimeoutException, "Expecting a TimeoutException");
+
+        executor.shutdown();
+        Facade.removeCore("FacadeTestKey16");
+    }
+
 }
@@ -0,0 +1,167 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.journal;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.core.View;
+import org.puremvc.java.multicore.interfaces.IBodySerializer;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.interfaces.IView;
+import org.puremvc.java.multicore.patterns.facade.Facade;
+import org.puremvc.java.multicore.patterns.observer.Notification;
+import org.puremvc.java.multicore.patterns.observer.Observer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Test the PureMVC Journal class.
+ *
+ * @see Journal Journal
+ */
+public class JournalTest {
+
+    /**
+     * A serializer for String bodies.
+     */
+    private static final IBodySerializer STRINGS = new IBodySerializer() {
+        public byte[] serialize(Object body) {
+            return ((String) body).getBytes(StandardCharsets.UTF_8);
+        }
+
+        public Object deserialize(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    /**
+     * Tests appending selected notifications and replaying them.
+     */
+    @Test
+    public void testAppendAndReplay() throws IOException {
+        Path directory = Files.createTempDirectory("JournalTest");
+        Journal journal = new Journal(directory, STRINGS, "Deposit", "Withdraw");
+
+        long first = journal.append(new Notification("Deposit", "10", "USD"));
+        long skipped = journal.append(new Notification("Render", "ignored"));
+        long second = journal.append(new Notification("Withdraw"));
+        journal.close();
+
+        List<INotification> replayed = new ArrayList<>();
+        long count = new Journal(directory, STRINGS, "Deposit", "Withdraw").replay(replayed::add);
+
+        // test assertions
+        Assertions.assertTrue(first == 0 && second == 1, "Expecting sequence numbers 0 and 1");
+        Assertions.assertTrue(skipped == -1, "Expecting skipped == -1");
+        Assertions.assertTrue(count == 2, "Expecting count == 2");
+        Assertions.assertTrue(replayed.get(0).getName().equals("Deposit"), "Expecting replayed.get(0).getName() == 'Deposit'");
+        Assertions.assertTrue(replayed.get(0).getBody().equals("10"), "Expecting replayed.get(0).getBody() == '10'");
+        Assertions.assertTrue(replayed.get(0).getType().equals("USD"), "Expecting replayed.get(0).getType() == 'USD'");
+        Assertions.assertNull(replayed.get(1).getBody(), "Expecting replayed.get(1).getBody() == null");
+        Assertions.assertNull(replayed.get(1).getType(), "Expecting replayed.get(1).getType() == null");
+    }
+
+    /**
+     * Tests rolling segments and resuming an existing journal.
+     */
+    @Test
+    public void testSegmentsAndResume() throws IOException {
+        Path directory = Files.createTempDirectory("JournalTest");
+        Journal journal = new Journal(directory, STRINGS, 256, 64, "Tick");
+        for(int i=0; i<50; i++) {
+            journal.append(new Notification("Tick", String.valueOf(i)));
+        }
+        journal.close();
+
+        Journal resumed = new Journal(directory, STRINGS, 256, 64, "Tick");
+        long next = resumed.append(new Notification("Tick", "50"));
+
+        List<INotification> tail = new ArrayList<>();
+        resumed.replay(45, tail::add);
+        resumed.close();
+
+        long segments;
+        try(Stream<Path> files = Files.list(directory)) {
+            segments = files.count();
+        }
+
+        // test assertions
+        Assertions.assertTrue(segments > 1, "Expecting more than one segment");
+        Assertions.assertTrue(next == 50, "Expecting next == 50");
+        Assertions.assertTrue(tail.size() == 6, "Expecting tail.size() == 6");
+        Assertions.assertTrue(tail.get(0).getBody().equals("45"), "Expecting tail.get(0).getBody() == '45'");
+        Assertions.assertTrue(tail.get(5).getBody().equals("50"), "Expecting tail.get(5).getBody() == '50'");
+    }
+
+    /**
+     * Tests journaling through a Facade and replaying into a fresh core
+     * with a side-effecting observer suppressed.
+     */
+    @Test
+    public void testFacadeReplay() throws IOException {
+        Path directory = Files.createTempDirectory("JournalTest");
+        Facade facade = (Facade) Facade.getInstance("JournalTestKey1", key -> new Facade(key));
+        Journal journal = new Journal(directory, STRINGS, "Deposit");
+        facade.setJournal(journal);
+        facade.sendNotification("Deposit", "5");
+        facade.sendNotification("Deposit", "7");
+        Facade.removeCore("JournalTestKey1");
+        Journal reopened = new Journal(directory, STRINGS, "Deposit");
+
+        Facade fresh = (Facade) Facade.getInstance("JournalTestKey2", key -> new Facade(key));
+        List<Object> state = new ArrayList<>();
+        List<Object> sideEffects = new ArrayList<>();
+        Object service = new Object();
+        fresh.setJournal(reopened);
+        IView view = View.getInstance("JournalTestKey2", key -> new View(key));
+        view.registerObserver("Deposit", new Observer(note -> state.add(note.getBody()), this));
+        view.registerObserver("Deposit", new Observer(note -> sideEffects.add(note.getBody()), service));
+
+        long count = fresh.replay(reopened, 0, observer -> !observer.compareNotifyContext(service));
+        reopened.close();
+
+        // test assertions
+        Assertions.assertTrue(count == 2, "Expecting count == 2");
+        Assertions.assertTrue(state.size() == 2, "Expecting state.size() == 2");
+        Assertions.assertTrue(sideEffects.isEmpty(), "Expecting sideEffects to be empty");
+        Assertions.assertTrue(reopened.getSequence() == 2, "Expecting nothing appended while replaying");
+    }
+
+    /**
+     * Tests that a group is committed after the max delay,
+     * without filling the batch nor calling commit.
+     */
+    @Test
+    public void testMaxDelay() throws Exception {
+        Path directory = Files.createTempDirectory("JournalTest");
+        Journal journal = new Journal(directory, STRINGS, "Deposit");
+        journal.setMaxDelay(10, TimeUnit.MILLISECONDS);
+        journal.append(new Notification("Deposit", "3"));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        long size = 0;
+        while(size == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+            try(Stream<Path> segments = Files.list(directory)) {
+                size = segments.mapToLong(segment -> segment.toFile().length()).sum();
+            }
+        }
+        journal.close();
+
+        // test assertions
+        Assertions.assertTrue(size > 0, "Expecting the record committed after the max delay");
+    }
+
+}
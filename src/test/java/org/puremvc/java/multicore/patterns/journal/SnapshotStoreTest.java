@@ -0,0 +1,163 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.journal;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.core.Model;
+import org.puremvc.java.multicore.core.View;
+import org.puremvc.java.multicore.interfaces.IBodySerializer;
+import org.puremvc.java.multicore.patterns.facade.Facade;
+import org.puremvc.java.multicore.patterns.observer.Observer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Test the PureMVC SnapshotStore class.
+ *
+ * @see SnapshotStore SnapshotStore
+ */
+public class SnapshotStoreTest {
+
+    /**
+     * A serializer for Long bodies.
+     */
+    private static final IBodySerializer LONGS = new IBodySerializer() {
+        public byte[] serialize(Object body) {
+            return ByteBuffer.allocate(8).putLong((long) body).array();
+        }
+
+        public Object deserialize(byte[] bytes) {
+            return ByteBuffer.wrap(bytes).getLong();
+        }
+    };
+
+    /**
+     * Tests that incremental checkpoints only write changed proxies
+     * and that restoring applies the whole chain.
+     */
+    @Test
+    public void testIncrementalCheckpoint() throws IOException {
+        Path directory = Files.createTempDirectory("SnapshotStoreTest");
+        Model model = (Model) Model.getInstance("SnapshotStoreTestKey1", key -> new Model(key));
+        SnapshotStoreTestProxy first = new SnapshotStoreTestProxy("first", 1L);
+        SnapshotStoreTestProxy second = new SnapshotStoreTestProxy("second", 2L);
+        model.registerProxy(first);
+        model.registerProxy(second);
+
+        SnapshotStore store = new SnapshotStore(directory);
+        int full = store.checkpoint(model, 10);
+        second.setData(20L);
+        int incremental = store.checkpoint(model, 11);
+        int unchanged = store.checkpoint(model, 12);
+
+        Model restoredModel = (Model) Model.getInstance("SnapshotStoreTestKey2", key -> new Model(key));
+        SnapshotStoreTestProxy restoredFirst = new SnapshotStoreTestProxy("first", 0L);
+        SnapshotStoreTestProxy restoredSecond = new SnapshotStoreTestProxy("second", 0L);
+        restoredModel.registerProxy(restoredFirst);
+        restoredModel.registerProxy(restoredSecond);
+        long sequence = new SnapshotStore(directory).restore(restoredModel);
+
+        // test assertions
+        Assertions.assertTrue(full == 2, "Expecting full == 2");
+        Assertions.assertTrue(incremental == 1, "Expecting incremental == 1");
+        Assertions.assertTrue(unchanged == 0, "Expecting unchanged == 0");
+        Assertions.assertTrue(sequence == 12, "Expecting sequence == 12");
+        Assertions.assertTrue((long) restoredFirst.getData() == 1L, "Expecting restoredFirst.getData() == 1");
+        Assertions.assertTrue((long) restoredSecond.getData() == 20L, "Expecting restoredSecond.getData() == 20");
+        Assertions.assertTrue(restoredSecond.restored == 2, "Expecting restoredSecond.restored == 2");
+    }
+
+    /**
+     * Tests that a corrupt incremental checkpoint ends the chain,
+     * so the journal is replayed from the checkpoint before it.
+     */
+    @Test
+    public void testCorruptIncremental() throws IOException {
+        Path directory = Files.createTempDirectory("SnapshotStoreTest");
+        Model model = (Model) Model.getInstance("SnapshotStoreTestKey5", key -> new Model(key));
+        SnapshotStoreTestProxy first = new SnapshotStoreTestProxy("first", 1L);
+        SnapshotStoreTestProxy second = new SnapshotStoreTestProxy("second", 2L);
+        model.registerProxy(first);
+        model.registerProxy(second);
+
+        SnapshotStore store = new SnapshotStore(directory);
+        store.checkpoint(model, 10);
+        first.setData(10L);
+        store.checkpoint(model, 11);
+        second.setData(20L);
+        store.checkpoint(model, 12);
+        first.setData(100L);
+        store.checkpoint(model, 13);
+
+        // corrupt the second incremental checkpoint, the only one holding second == 20
+        Path corrupt = directory.resolve(String.format("%020d%s", 2, SnapshotStore.SUFFIX));
+        byte[] bytes = Files.readAllBytes(corrupt);
+        bytes[bytes.length / 2] ^= 0xFF;
+        Files.write(corrupt, bytes);
+
+        Model restoredModel = (Model) Model.getInstance("SnapshotStoreTestKey6", key -> new Model(key));
+        SnapshotStoreTestProxy restoredFirst = new SnapshotStoreTestProxy("first", 0L);
+        SnapshotStoreTestProxy restoredSecond = new SnapshotStoreTestProxy("second", 0L);
+        restoredModel.registerProxy(restoredFirst);
+        restoredModel.registerProxy(restoredSecond);
+        SnapshotStore restoredStore = new SnapshotStore(directory);
+        long sequence = restoredStore.restore(restoredModel);
+        int next = restoredStore.checkpoint(restoredModel, sequence);
+
+        // test assertions
+        Assertions.assertTrue(sequence == 11, "Expecting the journal replayed from sequence 11, got " + sequence);
+        Assertions.assertTrue((long) restoredFirst.getData() == 10L, "Expecting restoredFirst.getData() == 10");
+        Assertions.assertTrue((long) restoredSecond.getData() == 2L, "Expecting restoredSecond.getData() == 2");
+        Assertions.assertTrue(next == 2, "Expecting the next checkpoint to be full");
+
+        Model.removeModel("SnapshotStoreTestKey5");
+        Model.removeModel("SnapshotStoreTestKey6");
+    }
+
+    /**
+     * Tests restoring a core from a checkpoint and the journal tail.
+     */
+    @Test
+    public void testFacadeRestore() throws IOException {
+        Path directory = Files.createTempDirectory("SnapshotStoreTest");
+        Journal journal = new Journal(directory.resolve("journal"), LONGS, "Add");
+        SnapshotStore store = new SnapshotStore(directory.resolve("snapshots"));
+
+        Facade facade = (Facade) Facade.getInstance("SnapshotStoreTestKey3", key -> new Facade(key));
+        SnapshotStoreTestProxy total = new SnapshotStoreTestProxy("total", 0L);
+        facade.registerProxy(total);
+        View.getInstance("SnapshotStoreTestKey3", key -> new View(key))
+                .registerObserver("Add", new Observer(note -> total.setData((long) total.getData() + (long) note.getBody()), total));
+        facade.setJournal(journal);
+
+        facade.sendNotification("Add", 1L);
+        facade.sendNotification("Add", 2L);
+        facade.checkpoint(store);
+        facade.sendNotification("Add", 4L);
+        Facade.removeCore("SnapshotStoreTestKey3");
+        Journal reopened = new Journal(directory.resolve("journal"), LONGS, "Add");
+
+        Facade restored = (Facade) Facade.getInstance("SnapshotStoreTestKey4", key -> new Facade(key));
+        SnapshotStoreTestProxy restoredTotal = new SnapshotStoreTestProxy("total", 0L);
+        restored.registerProxy(restoredTotal);
+        View.getInstance("SnapshotStoreTestKey4", key -> new View(key))
+                .registerObserver("Add", new Observer(note -> restoredTotal.setData((long) restoredTotal.getData() + (long) note.getBody()), restoredTotal));
+        restored.setJournal(reopened);
+        long replayed = restored.restore(store, observer -> true);
+        reopened.close();
+
+        // test assertions
+        Assertions.assertTrue(replayed == 1, "Expecting replayed == 1");
+        Assertions.assertTrue((long) restoredTotal.getData() == 7L, "Expecting restoredTotal.getData() == 7");
+    }
+
+}
@@ -0,0 +1,48 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.journal;
+
+import org.puremvc.java.multicore.interfaces.ISnapshotProxy;
+import org.puremvc.java.multicore.patterns.proxy.Proxy;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A Proxy class used by SnapshotStoreTest.
+ *
+ * @see SnapshotStoreTest SnapshotStoreTest
+ */
+public class SnapshotStoreTestProxy extends Proxy implements ISnapshotProxy {
+
+    private long version;
+
+    public int restored;
+
+    public SnapshotStoreTestProxy(String proxyName, long value) {
+        super(proxyName, value);
+    }
+
+    public void setData(Object data) {
+        super.setData(data);
+        version++;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public byte[] snapshot() {
+        return ByteBuffer.allocate(8).putLong((long) data).array();
+    }
+
+    public void restore(byte[] bytes) {
+        data = ByteBuffer.wrap(bytes).getLong();
+        restored++;
+    }
+
+}
@@ -0,0 +1,112 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.interfaces.IObserver;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test the PureMVC DeliveryPolicy class.
+ *
+ * @see DeliveryPolicy DeliveryPolicy
+ */
+public class DeliveryPolicyTest {
+
+    /**
+     * Tests that a burst is debounced into its latest notification.
+     */
+    @Test
+    public void testDebounce() throws InterruptedException {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        List<Object> delivered = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        DeliveryPolicy.Gate gate = DeliveryPolicy.debounce(scheduler, 50, TimeUnit.MILLISECONDS).gate(note -> {
+            delivered.add(note.getBody());
+            latch.countDown();
+        });
+
+        for(int i=0; i<10; i++) gate.accept(new Notification("Burst", i));
+
+        // test assertions
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS), "Expecting a delivery after the quiet period");
+        Thread.sleep(100);
+        Assertions.assertEquals("[9]", delivered.toString(), "Expecting only the latest notification");
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Tests that a burst is throttled to the permits of an interval.
+     */
+    @Test
+    public void testThrottle() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        List<Object> delivered = new CopyOnWriteArrayList<>();
+        DeliveryPolicy.Gate gate = DeliveryPolicy.throttle(scheduler, 3, 1, TimeUnit.HOURS).gate(note -> delivered.add(note.getBody()));
+
+        for(int i=0; i<10; i++) gate.accept(new Notification("Burst", i));
+
+        // test assertions
+        Assertions.assertEquals("[0, 1, 2]", delivered.toString(), "Expecting the first 3 notifications");
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Tests that a burst is sampled into its latest notification, and that sampling stops when idle.
+     */
+    @Test
+    public void testSample() throws InterruptedException {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        List<Object> delivered = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        DeliveryPolicy.Gate gate = DeliveryPolicy.sample(scheduler, 20, TimeUnit.MILLISECONDS).gate(note -> {
+            delivered.add(note.getBody());
+            latch.countDown();
+        });
+
+        for(int i=0; i<10; i++) gate.accept(new Notification("Burst", i));
+
+        // test assertions
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS), "Expecting a sample");
+        Thread.sleep(100);
+        Assertions.assertEquals("[9]", delivered.toString(), "Expecting only the latest notification");
+        Assertions.assertNull(gate.timer, "Expecting the sampling stopped when idle");
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Tests that a wrapped observer keeps the context and priority of the observer.
+     */
+    @Test
+    public void testWrap() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        Object context = new Object();
+        List<INotification> notified = new CopyOnWriteArrayList<>();
+        IObserver observer = new Observer(notified::add, context, 5);
+        IObserver wrapped = DeliveryPolicy.throttle(scheduler, 1, 1, TimeUnit.HOURS).wrap(observer);
+
+        wrapped.notifyObserver(new Notification("First"));
+        wrapped.notifyObserver(new Notification("Second"));
+
+        // test assertions
+        Assertions.assertTrue(notified.size() == 1, "Expecting 1 notification");
+        Assertions.assertTrue(wrapped.compareNotifyContext(context), "Expecting the context of the observer");
+        Assertions.assertTrue(wrapped.getPriority() == 5, "Expecting the priority of the observer");
+        Assertions.assertTrue(DeliveryPolicy.unwrap(wrapped) == observer, "Expecting the observer unwrapped");
+        scheduler.shutdownNow();
+    }
+
+}
@@ -0,0 +1,69 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.interfaces.INotification;
+
+/**
+ * Test the PureMVC ImmutableNotification class.
+ *
+ * @see ImmutableNotification ImmutableNotification
+ */
+public class ImmutableNotificationTest {
+
+    /**
+     * Tests the typed body and the constructor.
+     */
+    @Test
+    public void testConstructor() {
+        ImmutableNotification<Integer> note = new ImmutableNotification<>("TestNote", 5, "TestNoteType");
+        int body = note.getBody();
+
+        // test assertions
+        Assertions.assertTrue(note.getName() == "TestNote", "Expecting note.getName() == 'TestNote'");
+        Assertions.assertTrue(body == 5, "Expecting note.getBody() == 5");
+        Assertions.assertTrue(note.getType() == "TestNoteType", "Expecting note.getType() == 'TestNoteType'");
+    }
+
+    /**
+     * Tests that the setters throw and the derived notifications are new.
+     */
+    @Test
+    public void testImmutable() {
+        INotification note = new ImmutableNotification<>("TestNote", 5);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> note.setBody(6), "Expecting setBody to throw");
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> note.setType("Type"), "Expecting setType to throw");
+
+        ImmutableNotification<String> text = ImmutableNotification.<Integer>of(note).withBody("five").withType("Text");
+
+        // test assertions
+        Assertions.assertTrue((int)note.getBody() == 5, "Expecting note.getBody() == 5");
+        Assertions.assertNull(note.getType(), "Expecting note.getType() == null");
+        Assertions.assertTrue(text.getBody() == "five", "Expecting text.getBody() == 'five'");
+        Assertions.assertTrue(text.getType() == "Text", "Expecting text.getType() == 'Text'");
+        Assertions.assertTrue(note.retain() == note, "Expecting retain() to share the notification");
+    }
+
+    /**
+     * Tests converting a notification and record-style equality.
+     */
+    @Test
+    public void testOf() {
+        INotification note = new ImmutableNotification<>("TestNote", 5, "TestNoteType");
+        ImmutableNotification<Integer> copy = ImmutableNotification.of(new Notification("TestNote", 5, "TestNoteType"));
+
+        // test assertions
+        Assertions.assertTrue(ImmutableNotification.of(note) == note, "Expecting an immutable notification returned as is");
+        Assertions.assertTrue(copy.equals(note), "Expecting equal notifications");
+        Assertions.assertTrue(copy.hashCode() == note.hashCode(), "Expecting equal hash codes");
+        Assertions.assertFalse(copy.equals(copy.withType(null)), "Expecting notifications of different types to differ");
+    }
+
+}
@@ -0,0 +1,151 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.interfaces.IBodyCodec;
+import org.puremvc.java.multicore.interfaces.IBodySerializer;
+import org.puremvc.java.multicore.interfaces.INotification;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Test the PureMVC NotificationCodec class.
+ *
+ * @see NotificationCodec NotificationCodec
+ */
+public class NotificationCodecTest {
+
+    /**
+     * Tests round trips of the bodies with built in codecs.
+     */
+    @Test
+    public void testBuiltInBodies() {
+        NotificationCodec codec = new NotificationCodec();
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+
+        Object[] bodies = { null, "h\u00e9llo", 0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE, 42L, 3.25, true, false };
+        for(Object body : bodies) {
+            buffer.clear();
+            codec.encode(new Notification("Test", body, "Type"), buffer);
+            buffer.flip();
+            INotification note = codec.decode(buffer);
+
+            Assertions.assertTrue(note.getName().equals("Test"), "Expecting note.getName() == 'Test'");
+            Assertions.assertTrue(note.getType().equals("Type"), "Expecting note.getType() == 'Type'");
+            Assertions.assertTrue(body == null ? note.getBody() == null : body.equals(note.getBody()), "Expecting note.getBody() == " + body);
+            Assertions.assertTrue(!buffer.hasRemaining(), "Expecting the buffer to be consumed");
+        }
+
+        buffer.clear();
+        codec.encode(new Notification("Test", new byte[]{1, 2, 3}), buffer);
+        buffer.flip();
+        INotification note = codec.decode(buffer);
+        Assertions.assertTrue(note.getType() == null, "Expecting note.getType() == null");
+        Assertions.assertTrue(Arrays.equals((byte[]) note.getBody(), new byte[]{1, 2, 3}), "Expecting note.getBody() == [1, 2, 3]");
+    }
+
+    /**
+     * Tests that small integers and interned names take a few bytes.
+     */
+    @Test
+    public void testCompactEncoding() {
+        NotificationCodec codec = new NotificationCodec();
+        Assertions.assertTrue(codec.registerName("Quote") == 0, "Expecting registerName('Quote') == 0");
+        Assertions.assertTrue(codec.registerName("Quote") == 0, "Expecting registerName('Quote') to be idempotent");
+
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        codec.encode(new Notification("Quote", 5), buffer);
+        Assertions.assertTrue(buffer.position() == 4, "Expecting 4 bytes, got " + buffer.position());
+
+        buffer.flip();
+        INotification note = codec.decode(buffer);
+        Assertions.assertTrue(note.getName().equals("Quote"), "Expecting note.getName() == 'Quote'");
+        Assertions.assertTrue((Integer) note.getBody() == 5, "Expecting note.getBody() == 5");
+    }
+
+    /**
+     * Tests that a ByteBuffer body is decoded as a slice of a direct buffer, or as a copy.
+     */
+    @Test
+    public void testByteBufferBody() {
+        NotificationCodec codec = new NotificationCodec();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        codec.encode(new Notification("Test", ByteBuffer.wrap("payload".getBytes(StandardCharsets.UTF_8))), buffer);
+        buffer.flip();
+
+        ByteBuffer body = (ByteBuffer) codec.decode(buffer).getBody();
+        Assertions.assertTrue(body.isDirect(), "Expecting a slice of the direct buffer");
+        Assertions.assertTrue(body.remaining() == 7, "Expecting 7 bytes");
+        Assertions.assertTrue(body.get(0) == 'p' && body.get(6) == 'd', "Expecting 'payload'");
+
+        buffer.rewind();
+        ByteBuffer copied = (ByteBuffer) codec.decode(buffer, true).getBody();
+        buffer.clear();
+        while(buffer.hasRemaining()) buffer.put((byte) 0);
+        Assertions.assertFalse(copied.isDirect(), "Expecting a copy of the direct buffer");
+        Assertions.assertTrue(copied.remaining() == 7, "Expecting 7 bytes");
+        Assertions.assertTrue(copied.get(0) == 'p' && copied.get(6) == 'd', "Expecting 'payload' after the buffer is reused");
+    }
+
+    /**
+     * Tests registered body codecs and the serializer fallback.
+     */
+    @Test
+    public void testCustomBodies() {
+        IBodySerializer serializer = new IBodySerializer() {
+            public byte[] serialize(Object body) {
+                return body.toString().getBytes(StandardCharsets.UTF_8);
+            }
+            public Object deserialize(byte[] bytes) {
+                return new StringBuilder(new String(bytes, StandardCharsets.UTF_8));
+            }
+        };
+        NotificationCodec codec = new NotificationCodec(serializer);
+        codec.registerBodyCodec(NotificationCodec.FIRST_CUSTOM_ID, int[].class, new IBodyCodec<int[]>() {
+            public void encode(int[] body, ByteBuffer buffer) {
+                NotificationCodec.writeVarint(buffer, body.length);
+                for(int value : body) buffer.putInt(value);
+            }
+            public int[] decode(ByteBuffer buffer) {
+                int[] body = new int[NotificationCodec.readVarint(buffer)];
+                for(int i=0; i<body.length; i++) body[i] = buffer.getInt();
+                return body;
+            }
+        });
+
+        ByteBuffer buffer = codec.encodeGrowing(new Notification("Test", new int[]{7, 8}), ByteBuffer.allocate(64));
+        Assertions.assertTrue(Arrays.equals((int[]) codec.decode(buffer).getBody(), new int[]{7, 8}), "Expecting note.getBody() == [7, 8]");
+
+        buffer = codec.encodeGrowing(new Notification("Test", new StringBuilder("text")), buffer);
+        Assertions.assertTrue(codec.decode(buffer).getBody().toString().equals("text"), "Expecting note.getBody() == 'text'");
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> codec.registerBodyCodec(NotificationCodec.STRING, String.class, null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new NotificationCodec().encode(new Notification("Test", new Object()), ByteBuffer.allocate(64)));
+    }
+
+    /**
+     * Tests that encoding overflows a small buffer and grows a reusable one.
+     */
+    @Test
+    public void testGrowing() {
+        NotificationCodec codec = new NotificationCodec();
+        INotification note = new Notification("Test", new byte[1000]);
+
+        Assertions.assertThrows(BufferOverflowException.class, () -> codec.encode(note, ByteBuffer.allocate(16)));
+
+        ByteBuffer buffer = codec.encodeGrowing(note, ByteBuffer.allocate(16));
+        Assertions.assertTrue(buffer.capacity() >= 1000, "Expecting the buffer to grow");
+        Assertions.assertTrue(((byte[]) codec.decode(buffer).getBody()).length == 1000, "Expecting 1000 bytes");
+    }
+
+}
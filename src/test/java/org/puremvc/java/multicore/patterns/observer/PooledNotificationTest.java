@@ -0,0 +1,77 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.interfaces.INotification;
+
+/**
+ * Test the PureMVC PooledNotification class.
+ *
+ * @see PooledNotification PooledNotification
+ */
+public class PooledNotificationTest {
+
+    /**
+     * Tests that a released notification is reused by the next acquisition.
+     */
+    @Test
+    public void testReuse() {
+        PooledNotification first = PooledNotification.acquire("TestNote", 5, "TestNoteType");
+        Assertions.assertTrue(first.getName() == "TestNote", "Expecting first.getName() == 'TestNote'");
+        Assertions.assertTrue((int)first.getBody() == 5, "Expecting first.getBody() == 5");
+        Assertions.assertTrue(first.getType() == "TestNoteType", "Expecting first.getType() == 'TestNoteType'");
+        first.release();
+
+        // test assertions
+        Assertions.assertFalse(first.isAcquired(), "Expecting first.isAcquired() == false");
+        Assertions.assertNull(first.getBody(), "Expecting the body cleared on release");
+
+        PooledNotification second = PooledNotification.acquire("OtherNote", null, null);
+        Assertions.assertTrue(second == first, "Expecting the released notification reused");
+        second.release();
+    }
+
+    /**
+     * Tests that nested acquisitions get distinct notifications.
+     */
+    @Test
+    public void testNesting() {
+        PooledNotification outer = PooledNotification.acquire("Outer", 1, null);
+        PooledNotification inner = PooledNotification.acquire("Inner", 2, null);
+
+        // test assertions
+        Assertions.assertTrue(outer != inner, "Expecting distinct nested notifications");
+        Assertions.assertTrue(outer.getName() == "Outer", "Expecting outer.getName() == 'Outer'");
+        Assertions.assertTrue((int)outer.getBody() == 1, "Expecting outer.getBody() == 1");
+
+        inner.release();
+        outer.release();
+        Assertions.assertTrue(PooledNotification.acquire("Again", null, null) == outer, "Expecting the outer notification reused");
+        outer.release();
+    }
+
+    /**
+     * Tests that a retained notification outlives the release of the pooled one.
+     */
+    @Test
+    public void testRetain() {
+        PooledNotification notification = PooledNotification.acquire("TestNote", 5, "TestNoteType");
+        INotification retained = notification.retain();
+        notification.release();
+
+        // test assertions
+        Assertions.assertTrue(retained != notification, "Expecting a copy");
+        Assertions.assertTrue(retained.getName() == "TestNote", "Expecting retained.getName() == 'TestNote'");
+        Assertions.assertTrue((int)retained.getBody() == 5, "Expecting retained.getBody() == 5");
+        Assertions.assertTrue(retained.getType() == "TestNoteType", "Expecting retained.getType() == 'TestNoteType'");
+        Assertions.assertTrue(retained.retain() == retained, "Expecting a Notification to retain itself");
+    }
+
+}
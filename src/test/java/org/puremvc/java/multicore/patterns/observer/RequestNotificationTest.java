@@ -0,0 +1,50 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.interfaces.INotification;
+
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Test the PureMVC RequestNotification class.
+ *
+ * @see RequestNotification RequestNotification
+ */
+public class RequestNotificationTest {
+
+    /**
+     * Tests that the first reply completes the future.
+     */
+    @Test
+    public void testReply() throws InterruptedException, ExecutionException {
+        INotification request = new RequestNotification("GetQuote", "PMVC", null);
+
+        // test assertions
+        Assertions.assertTrue(request.reply(42), "Expecting the first reply accepted");
+        Assertions.assertFalse(request.reply(43), "Expecting a second reply ignored");
+        Assertions.assertTrue((int)((RequestNotification) request).getFuture().get() == 42, "Expecting the response 42");
+        Assertions.assertTrue(request.retain() == request, "Expecting a request shared when retained");
+    }
+
+    /**
+     * Tests a failed reply, and that other notifications ignore replies.
+     */
+    @Test
+    public void testReplyExceptionally() {
+        RequestNotification request = new RequestNotification("GetQuote", "PMVC", null);
+
+        // test assertions
+        Assertions.assertTrue(request.replyExceptionally(new IllegalStateException()), "Expecting the failure accepted");
+        Assertions.assertTrue(request.getFuture().isCompletedExceptionally(), "Expecting the future failed");
+        Assertions.assertFalse(new Notification("Note").reply(42), "Expecting a notification not to be a request");
+    }
+
+}
@@ -0,0 +1,129 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.pipes;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.patterns.facade.Facade;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test the PureMVC Mailbox class.
+ *
+ * @see Mailbox Mailbox
+ */
+public class MailboxTest {
+
+    /**
+     * Tests that tasks run in order on the mailbox thread, past failing ones.
+     */
+    @Test
+    public void testExecute() throws InterruptedException {
+        Mailbox mailbox = Mailbox.getInstance("MailboxTestKey1", key -> new Mailbox(key));
+        mailbox.thread.setUncaughtExceptionHandler((thread, exception) -> {});
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        List<Boolean> onMailboxThread = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        mailbox.execute(() -> order.add(1));
+        mailbox.execute(() -> { throw new IllegalStateException(); });
+        mailbox.execute(() -> { throw new AssertionError(); });
+        mailbox.execute(() -> order.add(2));
+        mailbox.execute(() -> {
+            onMailboxThread.add(mailbox.isMailboxThread());
+            latch.countDown();
+        });
+
+        // test assertions
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS), "Expecting the tasks to run");
+        Assertions.assertTrue(order.get(0) == 1 && order.get(1) == 2, "Expecting tasks in order");
+        Assertions.assertTrue(onMailboxThread.get(0), "Expecting isMailboxThread() == true on the mailbox thread");
+        Assertions.assertFalse(mailbox.isMailboxThread(), "Expecting isMailboxThread() == false on the test thread");
+
+        Mailbox.removeMailbox("MailboxTestKey1");
+    }
+
+    /**
+     * Tests that tasks run in order, one at a time, on an executor.
+     */
+    @Test
+    public void testExecutor() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        Mailbox mailbox = Mailbox.getInstance("MailboxTestKey3", key -> new Mailbox(key, Mailbox.DEFAULT_CAPACITY, executor));
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        List<Boolean> onMailboxThread = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1000);
+
+        for(int i=0; i<1000; i++) {
+            int value = i;
+            mailbox.execute(() -> {
+                order.add(value);
+                onMailboxThread.add(mailbox.isMailboxThread());
+                latch.countDown();
+            });
+        }
+
+        // test assertions
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS), "Expecting the tasks to run");
+        for(int i=0; i<1000; i++) Assertions.assertTrue(order.get(i) == i, "Expecting tasks in order");
+        Assertions.assertFalse(onMailboxThread.contains(false), "Expecting isMailboxThread() == true while running a task");
+        Assertions.assertFalse(mailbox.isMailboxThread(), "Expecting isMailboxThread() == false on the test thread");
+
+        Mailbox.removeMailbox("MailboxTestKey3");
+        executor.shutdown();
+    }
+
+    /**
+     * Tests that removing a core closes its mailbox.
+     */
+    @Test
+    public void testRemoveCore() {
+        Facade.getInstance("MailboxTestKey2", key -> new Facade(key));
+        Mailbox mailbox = Mailbox.getInstance("MailboxTestKey2", key -> new Mailbox(key));
+        Facade.removeCore("MailboxTestKey2");
+
+        // test assertions
+        Assertions.assertFalse(mailbox.execute(() -> {}), "Expecting a closed mailbox to reject tasks");
+    }
+
+    /**
+     * Tests that closing a mailbox cancels its pending futures.
+     */
+    @Test
+    public void testClose() throws InterruptedException {
+        Mailbox mailbox = Mailbox.getInstance("MailboxTestKey4", key -> new Mailbox(key));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FutureTask<Object> pending = new FutureTask<>(() -> null);
+
+        mailbox.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        mailbox.execute(pending);
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS), "Expecting the first task to run");
+        Mailbox.removeMailbox("MailboxTestKey4");
+        release.countDown();
+
+        // test assertions
+        Assertions.assertTrue(mailbox.isClosed(), "Expecting isClosed() == true");
+        Assertions.assertTrue(pending.isCancelled(), "Expecting the pending future to be cancelled");
+    }
+
+}
@@ -0,0 +1,93 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.pipes;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.core.View;
+import org.puremvc.java.multicore.interfaces.IFacade;
+import org.puremvc.java.multicore.patterns.facade.Facade;
+import org.puremvc.java.multicore.patterns.observer.Notification;
+import org.puremvc.java.multicore.patterns.observer.Observer;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test the PureMVC Pipe class.
+ *
+ * @see Pipe Pipe
+ */
+public class PipeTest {
+
+    /**
+     * Tests filtering and asynchronous delivery to a connected core.
+     */
+    @Test
+    public void testWrite() throws InterruptedException {
+        Facade.getInstance("PipeTestKey1", key -> new Facade(key));
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Object> received = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        View.getInstance("PipeTestKey1", key -> new View(key)).registerObserver("Order", new Observer(note -> {
+            received.add(note.getBody());
+            threads.add(Thread.currentThread());
+            latch.countDown();
+        }, this));
+
+        Pipe pipe = Pipe.getInstance("PipeTestPipe1", name -> new Pipe(name));
+        pipe.connect("PipeTestKey1");
+        pipe.connect("PipeTestMissingKey");
+        pipe.addFilter(note -> note.getBody() == null ? null : note);
+
+        int dropped = pipe.write(new Notification("Order"));
+        int posted = pipe.write(new Notification("Order", "book"));
+
+        // test assertions
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS), "Expecting the notification to be delivered");
+        Assertions.assertTrue(dropped == 0, "Expecting dropped == 0");
+        Assertions.assertTrue(posted == 1, "Expecting posted == 1");
+        Assertions.assertTrue(received.size() == 1 && received.get(0) == "book", "Expecting received == ['book']");
+        Assertions.assertTrue(threads.get(0) != Thread.currentThread(), "Expecting delivery on the mailbox thread");
+
+        Facade.removeCore("PipeTestKey1");
+        Assertions.assertTrue(pipe.write(new Notification("Order", "pen")) == 0, "Expecting a removed core to be skipped");
+        Assertions.assertNull(Mailbox.instanceMap.get("PipeTestKey1"), "Expecting the mailbox of a removed core not to be created again");
+
+        Pipe.removePipe("PipeTestPipe1");
+    }
+
+    /**
+     * Tests forwarding local notifications with a PipeMediator.
+     */
+    @Test
+    public void testPipeMediator() throws InterruptedException {
+        IFacade sender = Facade.getInstance("PipeTestKey2", key -> new Facade(key));
+        Facade.getInstance("PipeTestKey3", key -> new Facade(key));
+        CountDownLatch latch = new CountDownLatch(2);
+        View.getInstance("PipeTestKey3", key -> new View(key)).registerObserver("Ping", new Observer(note -> latch.countDown(), this));
+
+        Pipe pipe = Pipe.getInstance("PipeTestPipe2", name -> new Pipe(name));
+        pipe.connect("PipeTestKey3");
+        sender.registerMediator(new PipeMediator("PipeTestMediator", pipe, "Ping"));
+
+        sender.sendNotification("Ping");
+        sender.sendNotification("Pong");
+        sender.sendNotification("Ping");
+
+        // test assertions
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS), "Expecting two notifications to be delivered");
+
+        Pipe.removePipe("PipeTestPipe2");
+        Facade.removeCore("PipeTestKey2");
+        Facade.removeCore("PipeTestKey3");
+    }
+
+}
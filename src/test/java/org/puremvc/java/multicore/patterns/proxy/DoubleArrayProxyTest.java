@@ -0,0 +1,61 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.proxy;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Test the PureMVC DoubleArrayProxy class.
+ *
+ * @see DoubleArrayProxy DoubleArrayProxy
+ */
+public class DoubleArrayProxyTest {
+
+    /**
+     * Tests single and bulk access on a heap-backed array.
+     */
+    @Test
+    public void testAccessors() {
+        DoubleArrayProxy proxy = new DoubleArrayProxy("weights", 8);
+        proxy.set(0, 1.5);
+        proxy.set(2, new double[]{1.0, 2.0, 3.0, 4.0}, 1, 3);
+
+        double[] copy = new double[4];
+        proxy.get(0, copy, 0, 4);
+
+        // test assertions
+        Assertions.assertTrue(proxy.length() == 8, "Expecting proxy.length() == 8");
+        Assertions.assertTrue(proxy.get(0) == 1.5, "Expecting proxy.get(0) == 1.5");
+        Assertions.assertTrue(copy[2] == 2.0, "Expecting copy[2] == 2.0");
+        Assertions.assertTrue(copy[3] == 3.0, "Expecting copy[3] == 3.0");
+        Assertions.assertFalse(proxy.getData().isDirect(), "Expecting heap-backed data");
+    }
+
+    /**
+     * Tests setting the data of an off-heap array, from an array and from a buffer.
+     */
+    @Test
+    public void testDirectData() {
+        DoubleArrayProxy proxy = new DoubleArrayProxy("prices", 4, true);
+        proxy.setData(new double[]{5.0, 6.0, 7.0, 8.0});
+        Assertions.assertTrue(proxy.get(3) == 8.0, "Expecting proxy.get(3) == 8.0");
+
+        proxy.fill(0.5);
+        proxy.setData(DoubleBuffer.wrap(new double[]{9.0, 9.0}));
+
+        // test assertions
+        Assertions.assertTrue(proxy.getData().isDirect(), "Expecting off-heap data");
+        Assertions.assertTrue(proxy.get(1) == 9.0, "Expecting proxy.get(1) == 9.0");
+        Assertions.assertTrue(proxy.get(2) == 0.5, "Expecting proxy.get(2) == 0.5");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> proxy.setData("not an array"));
+    }
+
+}
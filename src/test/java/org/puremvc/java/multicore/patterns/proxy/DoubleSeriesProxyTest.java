@@ -0,0 +1,66 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.proxy;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the PureMVC DoubleSeriesProxy class.
+ *
+ * @see DoubleSeriesProxy DoubleSeriesProxy
+ */
+public class DoubleSeriesProxyTest {
+
+    /**
+     * Tests that appending past the capacity overwrites the oldest values.
+     */
+    @Test
+    public void testAppend() {
+        DoubleSeriesProxy proxy = new DoubleSeriesProxy("prices", 4);
+        proxy.append(1.0);
+        proxy.append(2.0);
+        proxy.append(new double[]{3.0, 4.0, 5.0}, 0, 3);
+
+        double[] values = new double[proxy.size()];
+        proxy.get(values);
+
+        // test assertions
+        Assertions.assertTrue(proxy.size() == 4, "Expecting proxy.size() == 4");
+        Assertions.assertTrue(proxy.get(0) == 2.0, "Expecting proxy.get(0) == 2.0");
+        Assertions.assertTrue(proxy.latest() == 5.0, "Expecting proxy.latest() == 5.0");
+        Assertions.assertArrayEquals(new double[]{2.0, 3.0, 4.0, 5.0}, values, "Expecting values in order");
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> proxy.get(4));
+    }
+
+    /**
+     * Tests setting the data of an off-heap series.
+     */
+    @Test
+    public void testDirectData() {
+        DoubleSeriesProxy proxy = new DoubleSeriesProxy("series", 3, true);
+        proxy.append(9.0);
+        proxy.setData(new double[]{1.0, 2.0, 3.0, 4.0, 5.0});
+
+        // test assertions
+        Assertions.assertTrue(proxy.getData().isDirect(), "Expecting off-heap data");
+        Assertions.assertTrue(proxy.size() == 3, "Expecting proxy.size() == 3");
+        Assertions.assertTrue(proxy.get(0) == 3.0, "Expecting proxy.get(0) == 3.0");
+        Assertions.assertTrue(proxy.latest() == 5.0, "Expecting proxy.latest() == 5.0");
+    }
+
+    /**
+     * Tests that a series needs room for at least one value.
+     */
+    @Test
+    public void testInvalidCapacity() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new DoubleSeriesProxy("empty", 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new DoubleSeriesProxy("negative", -1, true));
+    }
+
+}
@@ -0,0 +1,61 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.proxy;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.IntBuffer;
+
+/**
+ * Test the PureMVC IntArrayProxy class.
+ *
+ * @see IntArrayProxy IntArrayProxy
+ */
+public class IntArrayProxyTest {
+
+    /**
+     * Tests single and bulk access on a heap-backed array.
+     */
+    @Test
+    public void testAccessors() {
+        IntArrayProxy proxy = new IntArrayProxy("flags", 8);
+        proxy.set(0, 10);
+        proxy.set(2, new int[]{1, 2, 3, 4}, 1, 3);
+
+        int[] copy = new int[4];
+        proxy.get(0, copy, 0, 4);
+
+        // test assertions
+        Assertions.assertTrue(proxy.length() == 8, "Expecting proxy.length() == 8");
+        Assertions.assertTrue(proxy.get(0) == 10, "Expecting proxy.get(0) == 10");
+        Assertions.assertTrue(copy[2] == 2, "Expecting copy[2] == 2");
+        Assertions.assertTrue(copy[3] == 3, "Expecting copy[3] == 3");
+        Assertions.assertFalse(proxy.getData().isDirect(), "Expecting heap-backed data");
+    }
+
+    /**
+     * Tests setting the data of an off-heap array, from an array and from a buffer.
+     */
+    @Test
+    public void testDirectData() {
+        IntArrayProxy proxy = new IntArrayProxy("levels", 4, true);
+        proxy.setData(new int[]{5, 6, 7, 8});
+        Assertions.assertTrue(proxy.get(3) == 8, "Expecting proxy.get(3) == 8");
+
+        proxy.fill(1);
+        proxy.setData(IntBuffer.wrap(new int[]{9, 9}));
+
+        // test assertions
+        Assertions.assertTrue(proxy.getData().isDirect(), "Expecting off-heap data");
+        Assertions.assertTrue(proxy.get(1) == 9, "Expecting proxy.get(1) == 9");
+        Assertions.assertTrue(proxy.get(2) == 1, "Expecting proxy.get(2) == 1");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> proxy.setData(new long[]{1}));
+    }
+
+}
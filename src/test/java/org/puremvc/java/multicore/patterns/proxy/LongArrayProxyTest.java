@@ -0,0 +1,57 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.proxy;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the PureMVC LongArrayProxy class.
+ *
+ * @see LongArrayProxy LongArrayProxy
+ */
+public class LongArrayProxyTest {
+
+    /**
+     * Tests single and bulk access on a heap-backed array.
+     */
+    @Test
+    public void testAccessors() {
+        LongArrayProxy proxy = new LongArrayProxy("ids", 8);
+        proxy.set(0, 10L);
+        proxy.set(2, new long[]{1, 2, 3, 4}, 1, 3);
+
+        long[] copy = new long[4];
+        proxy.get(0, copy, 0, 4);
+
+        // test assertions
+        Assertions.assertTrue(proxy.length() == 8, "Expecting proxy.length() == 8");
+        Assertions.assertTrue(proxy.get(0) == 10L, "Expecting proxy.get(0) == 10");
+        Assertions.assertTrue(copy[2] == 2L, "Expecting copy[2] == 2");
+        Assertions.assertTrue(copy[3] == 3L, "Expecting copy[3] == 3");
+        Assertions.assertFalse(proxy.getData().isDirect(), "Expecting heap-backed data");
+    }
+
+    /**
+     * Tests setting the data of an off-heap array.
+     */
+    @Test
+    public void testDirectData() {
+        LongArrayProxy proxy = new LongArrayProxy("counters", 4, true);
+        proxy.setData(new long[]{5, 6, 7, 8});
+        proxy.fill(1L);
+        proxy.set(3, 9L);
+
+        // test assertions
+        Assertions.assertTrue(proxy.getData().isDirect(), "Expecting off-heap data");
+        Assertions.assertTrue(proxy.get(0) == 1L, "Expecting proxy.get(0) == 1");
+        Assertions.assertTrue(proxy.get(3) == 9L, "Expecting proxy.get(3) == 9");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> proxy.setData("not an array"));
+    }
+
+}
@@ -0,0 +1,104 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.proxy;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the PureMVC LongMapProxy class.
+ *
+ * @see LongMapProxy LongMapProxy
+ */
+public class LongMapProxyTest {
+
+    /**
+     * Tests putting, getting and incrementing entries.
+     */
+    @Test
+    public void testPutAndGet() {
+        LongMapProxy proxy = new LongMapProxy("counters");
+        proxy.put(1L, 100L);
+        proxy.increment(1L, 5L);
+        proxy.increment(2L, 3L);
+
+        // test assertions
+        Assertions.assertTrue(proxy.size() == 2, "Expecting proxy.size() == 2");
+        Assertions.assertTrue(proxy.get(1L, -1L) == 105L, "Expecting proxy.get(1) == 105");
+        Assertions.assertTrue(proxy.get(2L, -1L) == 3L, "Expecting proxy.get(2) == 3");
+        Assertions.assertTrue(proxy.get(3L, -1L) == -1L, "Expecting proxy.get(3) == -1");
+    }
+
+    /**
+     * Tests growing the tables and removing entries from an off-heap map.
+     */
+    @Test
+    public void testGrowAndRemove() {
+        LongMapProxy proxy = new LongMapProxy("prices", 4, true);
+        for(long key=0; key<1000; key++) {
+            proxy.put(key * 31, key);
+        }
+        for(long key=0; key<1000; key+=2) {
+            Assertions.assertTrue(proxy.remove(key * 31), "Expecting proxy.remove(key) == true");
+        }
+
+        long[] keys = new long[proxy.size()];
+        long[] values = new long[proxy.size()];
+        int count = proxy.entries(keys, values);
+
+        // test assertions
+        Assertions.assertTrue(proxy.size() == 500, "Expecting proxy.size() == 500");
+        Assertions.assertTrue(count == 500, "Expecting count == 500");
+        Assertions.assertFalse(proxy.containsKey(0L), "Expecting proxy.containsKey(0) == false");
+        Assertions.assertFalse(proxy.remove(0L), "Expecting proxy.remove(0) == false");
+        for(long key=1; key<1000; key+=2) {
+            Assertions.assertTrue(proxy.get(key * 31, -1L) == key, "Expecting proxy.get(key * 31) == key");
+        }
+    }
+
+    /**
+     * Tests that putting an existing key does not grow the tables.
+     */
+    @Test
+    public void testPutExistingKey() {
+        LongMapProxy proxy = new LongMapProxy("limits");
+        for(long key=0; key<12; key++) {
+            proxy.put(key, key);
+        }
+        int capacity = proxy.keys.capacity();
+        proxy.put(11L, 110L);
+        proxy.increment(11L, 1L);
+
+        // test assertions
+        Assertions.assertTrue(proxy.keys.capacity() == capacity, "Expecting the tables not grown");
+        Assertions.assertTrue(proxy.size() == 12, "Expecting proxy.size() == 12");
+        Assertions.assertTrue(proxy.get(11L, -1L) == 111L, "Expecting proxy.get(11) == 111");
+    }
+
+    /**
+     * Tests getting and setting the entries as the data object.
+     */
+    @Test
+    public void testData() {
+        LongMapProxy proxy = new LongMapProxy("positions");
+        proxy.put(7L, 70L);
+        proxy.setData(new long[][]{{1L, 2L}, {10L, 20L}});
+        long[][] data = proxy.getData();
+
+        // test assertions
+        Assertions.assertTrue(proxy.size() == 2, "Expecting proxy.size() == 2");
+        Assertions.assertFalse(proxy.containsKey(7L), "Expecting the previous entries cleared");
+        Assertions.assertTrue(data[0].length == 2 && data[1].length == 2, "Expecting 2 entries in the data");
+        for(int i=0; i<2; i++) {
+            Assertions.assertTrue(data[1][i] == data[0][i] * 10, "Expecting the value of each key");
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> proxy.setData(new long[][]{{1L}, {}}));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> proxy.setData(new long[]{1L}));
+    }
+
+}
@@ -0,0 +1,95 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.proxy;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Test the PureMVC MappedProxy class.
+ *
+ * @see MappedProxy MappedProxy
+ */
+public class MappedProxyTest {
+
+    /**
+     * Tests the typed accessors of the mapped region.
+     */
+    @Test
+    public void testTypedAccessors() throws IOException {
+        Path path = Files.createTempFile("MappedProxyTest", ".dat");
+        MappedProxy proxy = new MappedProxy("prices", path, 64);
+
+        proxy.putInt(0, 42);
+        proxy.putLong(8, 1234567890123L);
+        proxy.putDouble(16, 3.5);
+        proxy.putBytes(24, new byte[]{1, 2, 3});
+
+        byte[] bytes = new byte[3];
+        proxy.getBytes(24, bytes);
+
+        // test assertions
+        Assertions.assertTrue(proxy.getProxyName() == "prices", "Expecting proxy.getProxyName() == 'prices'");
+        Assertions.assertTrue(proxy.capacity() == 64, "Expecting proxy.capacity() == 64");
+        Assertions.assertTrue(proxy.getInt(0) == 42, "Expecting proxy.getInt(0) == 42");
+        Assertions.assertTrue(proxy.getLong(8) == 1234567890123L, "Expecting proxy.getLong(8) == 1234567890123L");
+        Assertions.assertTrue(proxy.getDouble(16) == 3.5, "Expecting proxy.getDouble(16) == 3.5");
+        Assertions.assertTrue(bytes[2] == 3, "Expecting bytes[2] == 3");
+        Assertions.assertTrue(proxy.getData().capacity() == 64, "Expecting proxy.getData().capacity() == 64");
+
+        proxy.close();
+        Files.delete(path);
+    }
+
+    /**
+     * Tests that the data survives closing and re-mapping the file.
+     */
+    @Test
+    public void testPersistence() throws IOException {
+        Path path = Files.createTempFile("MappedProxyTest", ".dat");
+        MappedProxy proxy = new MappedProxy("persistent", path, 16);
+        proxy.setData(ByteBuffer.wrap(new byte[]{7, 8, 9}));
+        proxy.putLong(8, 99L);
+        proxy.onRemove();
+
+        MappedProxy reopened = new MappedProxy("persistent", path, 16);
+
+        // test assertions
+        Assertions.assertTrue(Files.size(path) == 16, "Expecting file size == 16");
+        Assertions.assertTrue(reopened.getByte(1) == 8, "Expecting reopened.getByte(1) == 8");
+        Assertions.assertTrue(reopened.getLong(8) == 99L, "Expecting reopened.getLong(8) == 99L");
+        Assertions.assertTrue(Files.readAllBytes(path)[8] == 99, "Expecting the long stored little-endian");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> reopened.setData("not a buffer"));
+
+        reopened.close();
+        Files.delete(path);
+    }
+
+    /**
+     * Tests that a file that cannot be opened fails with the original cause.
+     */
+    @Test
+    public void testOpenFailure() throws IOException {
+        Path path = Files.createTempDirectory("MappedProxyTest");
+        try {
+            UncheckedIOException exception = Assertions.assertThrows(UncheckedIOException.class, () -> new MappedProxy("directory", path, 64));
+
+            // test assertions
+            Assertions.assertTrue(exception.getCause() != null, "Expecting the cause of the failure");
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+}
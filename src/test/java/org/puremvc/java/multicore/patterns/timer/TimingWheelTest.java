@@ -0,0 +1,164 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.timer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.interfaces.ITimeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test the PureMVC TimingWheel class.
+ *
+ * @see TimingWheel TimingWheel
+ */
+public class TimingWheelTest {
+
+    /**
+     * Tests that timeouts expire in order of deadline, never early.
+     */
+    @Test
+    public void testSchedule() throws InterruptedException {
+        TimingWheel wheel = new TimingWheel();
+        List<Integer> order = new ArrayList<>();
+        long[] elapsed = new long[3];
+        CountDownLatch latch = new CountDownLatch(3);
+        long start = System.nanoTime();
+
+        for(int delay : new int[]{300, 20, 120}) {
+            wheel.schedule(() -> {
+                order.add(delay);
+                elapsed[order.size() - 1] = (System.nanoTime() - start) / 1_000_000;
+                latch.countDown();
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+
+        // test assertions
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS), "Expecting the timeouts to expire");
+        Assertions.assertEquals("[20, 120, 300]", order.toString(), "Expecting the timeouts in order of deadline");
+        for(int i=0; i<3; i++) Assertions.assertTrue(elapsed[i] >= order.get(i), "Expecting no timeout early");
+        Assertions.assertTrue(wheel.getPending() == 0, "Expecting no pending timeouts");
+        wheel.close();
+    }
+
+    /**
+     * Tests cancelling a timeout.
+     */
+    @Test
+    public void testCancel() throws InterruptedException {
+        TimingWheel wheel = new TimingWheel();
+        AtomicInteger runs = new AtomicInteger();
+        ITimeout timeout = wheel.schedule(runs::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+
+        // test assertions
+        Assertions.assertTrue(timeout.cancel(), "Expecting the timeout cancelled");
+        Assertions.assertFalse(timeout.cancel(), "Expecting the timeout cancelled once");
+        Assertions.assertTrue(timeout.isCancelled() && timeout.isDone(), "Expecting the timeout cancelled and done");
+        Thread.sleep(150);
+        Assertions.assertTrue(runs.get() == 0, "Expecting the cancelled task not run");
+        Assertions.assertTrue(wheel.getPending() == 0, "Expecting no pending timeouts");
+        wheel.close();
+    }
+
+    /**
+     * Tests a periodic timeout until it is cancelled.
+     */
+    @Test
+    public void testFixedRate() throws InterruptedException {
+        TimingWheel wheel = new TimingWheel();
+        CountDownLatch latch = new CountDownLatch(5);
+        ITimeout timeout = wheel.scheduleAtFixedRate(latch::countDown, 0, 10, TimeUnit.MILLISECONDS);
+
+        // test assertions
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS), "Expecting 5 runs");
+        Assertions.assertFalse(timeout.isDone(), "Expecting a periodic timeout pending");
+        timeout.cancel();
+        long expired = wheel.getExpired();
+        Thread.sleep(50);
+        Assertions.assertTrue(wheel.getExpired() <= expired + 1, "Expecting the runs stopped");
+        wheel.close();
+    }
+
+    /**
+     * Tests many pending timeouts across the wheels, half of them cancelled.
+     */
+    @Test
+    public void testManyTimeouts() throws InterruptedException {
+        TimingWheel wheel = new TimingWheel();
+        AtomicInteger runs = new AtomicInteger();
+        List<ITimeout> timeouts = new ArrayList<>();
+        for(int i=0; i<200000; i++) {
+            // from 1 ms to over an hour, across the four wheels
+            timeouts.add(wheel.schedule(runs::incrementAndGet, i < 1000 ? 1 + i % 300 : 1 + (long) i * 20, TimeUnit.MILLISECONDS));
+        }
+        int near = 1000;
+        for(int i=0; i<timeouts.size(); i+=2) {
+            // a near timeout may expire before it is cancelled
+            if(!timeouts.get(i).cancel() && i < 1000) continue;
+            if(i < 1000) near--;
+        }
+
+        // test assertions
+        long deadline = System.currentTimeMillis() + 5000;
+        while(runs.get() < near && System.currentTimeMillis() < deadline) Thread.sleep(10);
+        Thread.sleep(50);
+        Assertions.assertTrue(runs.get() == near, "Expecting the " + near + " near, uncancelled timeouts run, got " + runs.get());
+        Assertions.assertTrue(wheel.getPending() == 99500, "Expecting 99500 pending timeouts, got " + wheel.getPending());
+        wheel.close();
+    }
+
+    /**
+     * Tests that timeouts cascading through the outer wheels expire on time.
+     */
+    @Test
+    public void testCascade() throws InterruptedException {
+        // with a tick of 1 microsecond, the second and third wheels are reached within milliseconds
+        TimingWheel wheel = new TimingWheel(1, TimeUnit.MICROSECONDS, null);
+        int count = 1000;
+        long[] lateness = new long[count];
+        CountDownLatch latch = new CountDownLatch(count);
+        long start = System.nanoTime();
+        for(int i=0; i<count; i++) {
+            int index = i;
+            long delay = 1000 + (long) i * 397 % 200000;
+            wheel.schedule(() -> {
+                lateness[index] = (System.nanoTime() - start) / 1000 - delay;
+                latch.countDown();
+            }, delay, TimeUnit.MICROSECONDS);
+        }
+
+        // test assertions
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS), "Expecting the timeouts to expire");
+        for(int i=0; i<count; i++) Assertions.assertTrue(lateness[i] >= 0, "Expecting no timeout early, got " + lateness[i] + " us");
+        wheel.close();
+    }
+
+    /**
+     * Tests a timeout scheduled after the wheel has been idle.
+     */
+    @Test
+    public void testAfterIdle() throws InterruptedException {
+        TimingWheel wheel = new TimingWheel();
+        CountDownLatch latch = new CountDownLatch(1);
+        Thread.sleep(200);
+        long start = System.nanoTime();
+        wheel.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+
+        // test assertions
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS), "Expecting the timeout to expire");
+        Assertions.assertTrue((System.nanoTime() - start) / 1_000_000 >= 50, "Expecting no timeout early");
+        Assertions.assertTrue(wheel.getPending() == 0, "Expecting no pending timeouts");
+        wheel.close();
+    }
+
+}